@@ -19,6 +19,10 @@ import java.beans.IntrospectionException;
 import java.beans.PropertyDescriptor;
 import java.io.IOException;
 import java.io.Serializable;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.HashMap;
@@ -34,6 +38,7 @@ import java.util.stream.Stream;
 
 import com.vaadin.flow.function.ValueProvider;
 import com.vaadin.flow.internal.BeanUtil;
+import com.vaadin.flow.internal.ReflectTools;
 
 /**
  * A {@link PropertySet} that uses reflection to find bean properties.
@@ -107,9 +112,28 @@ public class BeanPropertySet<T> implements PropertySet<T> {
         }
     }
 
+    /**
+     * Getter and setter of a bean property compiled from its read and write
+     * methods, so that accessing the property doesn't go through reflection.
+     * Instances are kept by the property definitions, which are cached per
+     * {@link InstanceKey}, and are never serialized.
+     */
+    private static final class PropertyAccessors implements Serializable {
+        private final transient ValueProvider<Object, Object> getter;
+        private final transient Setter<Object, Object> setter;
+
+        private PropertyAccessors(PropertyDescriptor descriptor) {
+            getter = compileGetter(descriptor.getReadMethod());
+            Method writeMethod = descriptor.getWriteMethod();
+            setter = writeMethod == null ? null : compileSetter(writeMethod);
+        }
+    }
+
     private static class BeanPropertyDefinition<T, V>
             extends AbstractBeanPropertyDefinition<T, V> {
 
+        private transient volatile PropertyAccessors accessors;
+
         public BeanPropertyDefinition(BeanPropertySet<T> propertySet,
                 Class<T> propertyHolderType, PropertyDescriptor descriptor) {
             super(propertySet, propertyHolderType, descriptor);
@@ -117,11 +141,7 @@ public class BeanPropertySet<T> implements PropertySet<T> {
 
         @Override
         public ValueProvider<T, V> getGetter() {
-            return bean -> {
-                Method readMethod = getDescriptor().getReadMethod();
-                Object value = invokeWrapExceptions(readMethod, bean);
-                return getType().cast(value);
-            };
+            return bean -> getType().cast(getAccessors().getter.apply(bean));
         }
 
         @Override
@@ -130,17 +150,18 @@ public class BeanPropertySet<T> implements PropertySet<T> {
                 return Optional.empty();
             }
 
-            Setter<T, V> setter = (bean, value) -> {
-                // Do not "optimize" this getter call,
-                // if its done outside the code block, that will produce
-                // NotSerializableException because of some lambda compilation
-                // magic
-                Method innerSetter = getDescriptor().getWriteMethod();
-                invokeWrapExceptions(innerSetter, bean, value);
-            };
+            Setter<T, V> setter = (bean, value) -> getAccessors().setter
+                    .accept(bean, value);
             return Optional.of(setter);
         }
 
+        private PropertyAccessors getAccessors() {
+            if (accessors == null) {
+                accessors = new PropertyAccessors(getDescriptor());
+            }
+            return accessors;
+        }
+
         private Object writeReplace() {
             /*
              * Instead of serializing this actual property definition, only
@@ -177,6 +198,8 @@ public class BeanPropertySet<T> implements PropertySet<T> {
 
         private final PropertyDefinition<T, ?> parent;
 
+        private transient volatile PropertyAccessors accessors;
+
         /**
          * Creates a new instance of a nested property definition.
          *
@@ -196,12 +219,8 @@ public class BeanPropertySet<T> implements PropertySet<T> {
 
         @Override
         public ValueProvider<T, V> getGetter() {
-            return bean -> {
-                Method readMethod = getDescriptor().getReadMethod();
-                Object value = invokeWrapExceptions(readMethod,
-                        parent.getGetter().apply(bean));
-                return getType().cast(value);
-            };
+            return bean -> getType().cast(getAccessors().getter
+                    .apply(parent.getGetter().apply(bean)));
         }
 
         @Override
@@ -210,18 +229,18 @@ public class BeanPropertySet<T> implements PropertySet<T> {
                 return Optional.empty();
             }
 
-            Setter<T, V> setter = (bean, value) -> {
-                // Do not "optimize" this getter call,
-                // if its done outside the code block, that will produce
-                // NotSerializableException because of some lambda compilation
-                // magic
-                Method innerSetter = getDescriptor().getWriteMethod();
-                invokeWrapExceptions(innerSetter,
-                        parent.getGetter().apply(bean), value);
-            };
+            Setter<T, V> setter = (bean, value) -> getAccessors().setter
+                    .accept(parent.getGetter().apply(bean), value);
             return Optional.of(setter);
         }
 
+        private PropertyAccessors getAccessors() {
+            if (accessors == null) {
+                accessors = new PropertyAccessors(getDescriptor());
+            }
+            return accessors;
+        }
+
         @Override
         public String getName() {
             return parent.getName() + "." + super.getName();
@@ -537,6 +556,154 @@ public class BeanPropertySet<T> implements PropertySet<T> {
         }
     }
 
+    /**
+     * Creates a getter calling the given read method. A class implementing
+     * {@link ValueProvider} is generated for the method if its declaring class
+     * can be accessed, otherwise a method handle or, as a last resort,
+     * reflection is used. Exceptions are thrown the same way as with reflection
+     * in all cases.
+     *
+     * @param readMethod
+     *            the read method of the property, not {@code null}
+     * @return the getter
+     */
+    @SuppressWarnings("unchecked")
+    private static ValueProvider<Object, Object> compileGetter(
+            Method readMethod) {
+        MethodHandles.Lookup lookup = getLookup(readMethod);
+        MethodHandle handle = unreflect(lookup, readMethod);
+        if (handle == null) {
+            return bean -> invokeWrapExceptions(readMethod, bean);
+        }
+        Class<?> beanType = readMethod.getDeclaringClass();
+        try {
+            ValueProvider<Object, Object> getter = (ValueProvider<Object, Object>) LambdaMetafactory
+                    .metafactory(lookup, "apply",
+                            MethodType.methodType(ValueProvider.class),
+                            MethodType.methodType(Object.class, Object.class),
+                            handle, handle.type().wrap())
+                    .getTarget().invoke();
+            return bean -> {
+                checkBean(bean, beanType);
+                try {
+                    return getter.apply(bean);
+                } catch (Throwable t) { // NOSONAR
+                    throw wrapException(t);
+                }
+            };
+        } catch (Throwable e) { // NOSONAR
+            MethodHandle generic = handle
+                    .asType(MethodType.methodType(Object.class, Object.class));
+            return bean -> {
+                checkBean(bean, beanType);
+                try {
+                    return generic.invokeExact(bean);
+                } catch (Throwable t) { // NOSONAR
+                    throw wrapException(t);
+                }
+            };
+        }
+    }
+
+    /**
+     * Creates a setter calling the given write method, see
+     * {@link #compileGetter(Method)}.
+     *
+     * @param writeMethod
+     *            the write method of the property, not {@code null}
+     * @return the setter
+     */
+    @SuppressWarnings("unchecked")
+    private static Setter<Object, Object> compileSetter(Method writeMethod) {
+        MethodHandles.Lookup lookup = getLookup(writeMethod);
+        MethodHandle handle = unreflect(lookup, writeMethod);
+        if (handle == null) {
+            return (bean, value) -> invokeWrapExceptions(writeMethod, bean,
+                    value);
+        }
+        Class<?> beanType = writeMethod.getDeclaringClass();
+        Class<?> valueType = writeMethod.getParameterTypes()[0];
+        try {
+            Setter<Object, Object> setter = (Setter<Object, Object>) LambdaMetafactory
+                    .metafactory(lookup, "accept",
+                            MethodType.methodType(Setter.class),
+                            MethodType.methodType(void.class, Object.class,
+                                    Object.class),
+                            handle,
+                            handle.type().wrap().changeReturnType(void.class))
+                    .getTarget().invoke();
+            return (bean, value) -> {
+                checkSetterArguments(bean, value, beanType, valueType);
+                try {
+                    setter.accept(bean, value);
+                } catch (Throwable t) { // NOSONAR
+                    throw wrapException(t);
+                }
+            };
+        } catch (Throwable e) { // NOSONAR
+            MethodHandle generic = handle.asType(MethodType
+                    .methodType(void.class, Object.class, Object.class));
+            return (bean, value) -> {
+                checkSetterArguments(bean, value, beanType, valueType);
+                try {
+                    generic.invokeExact(bean, value);
+                } catch (Throwable t) { // NOSONAR
+                    throw wrapException(t);
+                }
+            };
+        }
+    }
+
+    private static MethodHandles.Lookup getLookup(Method method) {
+        try {
+            // Generated classes must be defined next to the bean class to see
+            // it regardless of the class loader of this class
+            return MethodHandles.privateLookupIn(method.getDeclaringClass(),
+                    MethodHandles.lookup());
+        } catch (IllegalAccessException | SecurityException e) {
+            return MethodHandles.publicLookup();
+        }
+    }
+
+    private static MethodHandle unreflect(MethodHandles.Lookup lookup,
+            Method method) {
+        try {
+            return lookup.unreflect(method);
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    private static void checkBean(Object bean, Class<?> beanType) {
+        // Fail the same way as Method.invoke instead of wrapping the exception
+        Objects.requireNonNull(bean);
+        if (!beanType.isInstance(bean)) {
+            throw new IllegalArgumentException(
+                    "Object is not an instance of " + beanType.getName());
+        }
+    }
+
+    private static void checkSetterArguments(Object bean, Object value,
+            Class<?> beanType, Class<?> valueType) {
+        checkBean(bean, beanType);
+        if (value == null) {
+            if (valueType.isPrimitive()) {
+                throw new IllegalArgumentException(
+                        "Cannot set null to a primitive property");
+            }
+        } else if (!ReflectTools.convertPrimitiveType(valueType)
+                .isInstance(value)) {
+            throw new IllegalArgumentException(
+                    "Cannot set a value of type " + value.getClass().getName()
+                            + " to a property of type " + valueType.getName());
+        }
+    }
+
+    private static RuntimeException wrapException(Throwable throwable) {
+        // Wrap everything thrown by the accessor, like Method.invoke does
+        return new RuntimeException(new InvocationTargetException(throwable));
+    }
+
     @Override
     public String toString() {
         return "Property set for bean " + instanceKey.type.getName();
@@ -15,9 +15,10 @@
  */
 package com.vaadin.flow.data.binder;
 
-import javax.validation.metadata.BeanDescriptor;
+import java.util.Collections;
+import java.util.Set;
+
 import javax.validation.metadata.ConstraintDescriptor;
-import javax.validation.metadata.PropertyDescriptor;
 
 import com.vaadin.flow.component.HasValue;
 import com.vaadin.flow.data.binder.BeanPropertySet.NestedBeanPropertyDefinition;
@@ -125,8 +126,11 @@ public class BeanValidationBinder<BEAN> extends Binder<BEAN> {
         Class<?> actualBeanType = findBeanType(beanType, definition);
         BeanValidator validator = new BeanValidator(actualBeanType,
                 definition.getTopLevelName());
+        if (!validator.isConstrained()) {
+            return binding;
+        }
         if (requiredConfigurator != null) {
-            configureRequired(binding, definition, validator);
+            configureRequired(binding, validator);
         }
         return binding.withValidator(validator);
     }
@@ -154,18 +158,11 @@ public class BeanValidationBinder<BEAN> extends Binder<BEAN> {
     }
 
     private void configureRequired(BindingBuilder<BEAN, ?> binding,
-            PropertyDefinition<BEAN, ?> definition, BeanValidator validator) {
+            BeanValidator validator) {
         assert requiredConfigurator != null;
-        Class<?> propertyHolderType = definition.getPropertyHolderType();
-        BeanDescriptor descriptor = validator.getJavaxBeanValidator()
-                .getConstraintsForClass(propertyHolderType);
-        PropertyDescriptor propertyDescriptor = descriptor
-                .getConstraintsForProperty(definition.getTopLevelName());
-        if (propertyDescriptor == null) {
-            return;
-        }
-        if (propertyDescriptor.getConstraintDescriptors().stream()
-                .map(ConstraintDescriptor::getAnnotation)
+        Set<ConstraintDescriptor<?>> descriptors = validator
+                .getConstraintDescriptors().orElse(Collections.emptySet());
+        if (descriptors.stream().map(ConstraintDescriptor::getAnnotation)
                 .anyMatch(constraint -> requiredConfigurator.test(constraint,
                         binding))) {
             binding.getField().setRequiredIndicatorVisible(true);
@@ -24,6 +24,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -1422,10 +1423,34 @@ public class Binder<BEAN> implements Serializable {
          *            the bean to set the property value to
          */
         private BindingValidationStatus<TARGET> writeFieldValue(BEAN bean) {
+            return writeFieldValue(bean, (Result<TARGET>) null);
+        }
+
+        /**
+         * Write the field value by invoking the setter function on the given
+         * bean, if the field value in the given validation status of this
+         * binding is valid. The value is not converted again.
+         *
+         * @param bean
+         *            the bean to set the property value to
+         * @param status
+         *            the validation status of the current field value
+         */
+        private BindingValidationStatus<TARGET> writeFieldValue(BEAN bean,
+                BindingValidationStatus<?> status) {
+            assert status.getBinding() == this;
+            return writeFieldValue(bean,
+                    ((BindingValidationStatus<TARGET>) status)
+                            .getConversionResult());
+        }
+
+        private BindingValidationStatus<TARGET> writeFieldValue(BEAN bean,
+                Result<TARGET> convertedValue) {
             assert bean != null;
 
             return execute(() -> {
-                Result<TARGET> result = doConversion();
+                Result<TARGET> result = convertedValue != null ? convertedValue
+                        : doConversion();
                 if (!isReadOnly()) {
                     result.ifOk(value -> {
                         setter.accept(bean, value);
@@ -1669,6 +1694,12 @@ public class Binder<BEAN> implements Serializable {
 
     private final List<Validator<? super BEAN>> validators = new ArrayList<>();
 
+    private final Map<Validator<? super BEAN>, Set<Binding<BEAN, ?>>> validatorDependencies = new HashMap<>();
+
+    // Latest results of the bean level validators with declared dependencies,
+    // valid for the currently set bean
+    private final Map<Validator<? super BEAN>, ValidationResult> beanValidationResults = new HashMap<>();
+
     private final Map<HasValue<?, ?>, ConverterDelegate<?>> initialConverters = new IdentityHashMap<>(
             4);
 
@@ -1792,7 +1823,7 @@ public class Binder<BEAN> implements Serializable {
     protected void handleFieldValueChange(Binding<BEAN, ?> binding) {
         changedBindings.add(binding);
         if (getBean() != null) {
-            doWriteIfValid(getBean(), changedBindings);
+            doWriteIfValid(getBean(), changedBindings, true);
         } else {
             binding.validate();
         }
@@ -2147,6 +2178,7 @@ public class Binder<BEAN> implements Serializable {
                 }
             });
             changedBindings.clear();
+            beanValidationResults.clear();
             getValidationStatusHandler().statusChange(
                     BinderValidationStatus.createUnresolvedStatus(this));
             fireStatusChangeEvent(false);
@@ -2277,9 +2309,30 @@ public class Binder<BEAN> implements Serializable {
      * @return a list of field validation errors if such occur, otherwise a list
      *         of bean validation errors.
      */
-    @SuppressWarnings("unchecked")
     private BinderValidationStatus<BEAN> doWriteIfValid(BEAN bean,
             Collection<Binding<BEAN, ?>> bindings) {
+        return doWriteIfValid(bean, bindings, false);
+    }
+
+    /**
+     * Writes the field values into the given bean if all field level validators
+     * pass. Runs bean level validators on the bean after writing.
+     *
+     * @param bean
+     *            the bean to write field values into
+     * @param bindings
+     *            the set of bindings to write to the bean
+     * @param incremental
+     *            {@code true} to only rerun the bean level validators that
+     *            depend on the given bindings, see
+     *            {@link #withValidator(Validator, Collection)}; {@code false}
+     *            to run all of them
+     * @return a list of field validation errors if such occur, otherwise a list
+     *         of bean validation errors.
+     */
+    @SuppressWarnings("unchecked")
+    private BinderValidationStatus<BEAN> doWriteIfValid(BEAN bean,
+            Collection<Binding<BEAN, ?>> bindings, boolean incremental) {
         Objects.requireNonNull(bean, "bean cannot be null");
         List<ValidationResult> binderResults = Collections.emptyList();
 
@@ -2300,16 +2353,18 @@ public class Binder<BEAN> implements Serializable {
             Map<Binding<BEAN, ?>, Object> oldValues = getBeanState(bean,
                     currentBindings);
 
-            // Field level validation can be skipped as it was done already
+            // Field level validation can be skipped as it was done already,
+            // and the values converted for it can be written as such
             boolean validatorsDisabledStatus = isValidatorsDisabled();
             setValidatorsDisabled(true);
-            currentBindings
-                    .forEach(binding -> ((BindingImpl<BEAN, ?, ?>) binding)
-                            .writeFieldValue(bean));
+            bindingResults.forEach(
+                    status -> ((BindingImpl<BEAN, ?, ?>) status.getBinding())
+                            .writeFieldValue(bean, status));
             setValidatorsDisabled(validatorsDisabledStatus);
 
             // Now run bean level validation against the updated bean
-            binderResults = validateBean(bean);
+            binderResults = validateBean(bean,
+                    incremental && bean == getBean() ? currentBindings : null);
             if (binderResults.stream().anyMatch(ValidationResult::isError)) {
                 // Bean validator failed, revert values
                 restoreBeanState(bean, oldValues);
@@ -2423,6 +2478,46 @@ public class Binder<BEAN> implements Serializable {
      * @return this binder, for chaining
      */
     public Binder<BEAN> withValidator(Validator<? super BEAN> validator) {
+        addValidator(validator);
+        return this;
+    }
+
+    /**
+     * Adds a bean level validator that only depends on the bean properties
+     * bound by the given bindings.
+     * <p>
+     * Bean level validators are applied on the bean instance after the bean is
+     * updated. If the validators fail, the bean instance is reverted to its
+     * previous state.
+     * <p>
+     * When a bean is bound with {@link #setBean(Object)}, a field value change
+     * only reruns the bean level validators that depend on the changed
+     * bindings, and the validators added without declaring any dependencies.
+     * The latest result of the other validators is reused, so that the time
+     * spent in validation is proportional to what has changed. The validator
+     * must therefore not use any bean state that is not written through the
+     * given bindings. All validators are still run by {@link #validate()},
+     * {@link #writeBean(Object)} and {@link #writeBeanIfValid(Object)}.
+     *
+     * @see #withValidator(Validator)
+     *
+     * @param validator
+     *            the validator to add, not null
+     * @param dependencies
+     *            the bindings whose values the validator depends on, not null
+     * @return this binder, for chaining
+     * @since 23.2
+     */
+    public Binder<BEAN> withValidator(Validator<? super BEAN> validator,
+            Collection<? extends Binding<BEAN, ?>> dependencies) {
+        Objects.requireNonNull(dependencies, "dependencies cannot be null");
+        validatorDependencies.put(addValidator(validator),
+                new HashSet<>(dependencies));
+        return this;
+    }
+
+    private Validator<? super BEAN> addValidator(
+            Validator<? super BEAN> validator) {
         Objects.requireNonNull(validator, "validator cannot be null");
         Validator<? super BEAN> wrappedValidator = ((value, context) -> {
             if (isValidatorsDisabled()) {
@@ -2432,7 +2527,7 @@ public class Binder<BEAN> implements Serializable {
             }
         });
         validators.add(wrappedValidator);
-        return this;
+        return wrappedValidator;
     }
 
     /**
@@ -2613,11 +2708,47 @@ public class Binder<BEAN> implements Serializable {
      *         succeeded
      */
     private List<ValidationResult> validateBean(BEAN bean) {
+        return validateBean(bean, null);
+    }
+
+    /**
+     * Validates the {@code bean} using validators added using
+     * {@link #withValidator(Validator)}, reusing the latest results of the
+     * validators that don't depend on the given changed bindings.
+     *
+     * @param bean
+     *            the bean to validate, which must be the currently set bean if
+     *            changed bindings are given
+     * @param changedBindings
+     *            the bindings changed since the previous validation, or
+     *            {@code null} to run all the validators
+     * @return a list of validation errors or an empty list if validation
+     *         succeeded
+     */
+    private List<ValidationResult> validateBean(BEAN bean,
+            Collection<Binding<BEAN, ?>> changedBindings) {
         Objects.requireNonNull(bean, "bean cannot be null");
-        return validators.stream()
-                .map(validator -> validator.apply(bean, new ValueContext()))
-                .collect(Collectors.collectingAndThen(Collectors.toList(),
-                        Collections::unmodifiableList));
+        boolean incremental = changedBindings != null
+                && !isValidatorsDisabled();
+        List<ValidationResult> results = new ArrayList<>(validators.size());
+        for (Validator<? super BEAN> validator : validators) {
+            Set<Binding<BEAN, ?>> dependencies = validatorDependencies
+                    .get(validator);
+            boolean cacheable = incremental && dependencies != null;
+            ValidationResult result = null;
+            if (cacheable
+                    && Collections.disjoint(dependencies, changedBindings)) {
+                result = beanValidationResults.get(validator);
+            }
+            if (result == null) {
+                result = validator.apply(bean, new ValueContext());
+                if (cacheable) {
+                    beanValidationResults.put(validator, result);
+                }
+            }
+            results.add(result);
+        }
+        return Collections.unmodifiableList(results);
     }
 
     /**
@@ -3031,6 +3162,7 @@ public class Binder<BEAN> implements Serializable {
 
     private void doRemoveBean(boolean fireStatusEvent) {
         changedBindings.clear();
+        beanValidationResults.clear();
         if (bean != null) {
             bean = null;
         }
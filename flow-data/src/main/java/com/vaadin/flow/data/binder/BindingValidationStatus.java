@@ -173,6 +173,17 @@ public class BindingValidationStatus<TARGET> implements Serializable {
                 : ValidationResult.ok());
     }
 
+    /**
+     * Gets the result of converting and validating the field value, if the
+     * status is resolved.
+     *
+     * @return the conversion result, or {@code null} if the status is
+     *         {@link Status#UNRESOLVED}
+     */
+    Result<TARGET> getConversionResult() {
+        return result;
+    }
+
     /**
      * Gets all the validation results related to this binding validation
      * status.
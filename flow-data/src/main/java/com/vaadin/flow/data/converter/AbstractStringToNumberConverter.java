@@ -90,7 +90,9 @@ public abstract class AbstractStringToNumberConverter<T extends Number>
             locale = Locale.getDefault();
         }
 
-        return NumberFormat.getNumberInstance(locale);
+        return DefaultConverterFactory.INSTANCE.getFormat(
+                AbstractStringToNumberConverter.class.getName(), locale,
+                NumberFormat::getNumberInstance);
     }
 
     /**
@@ -16,8 +16,12 @@
 package com.vaadin.flow.data.converter;
 
 import java.io.Serializable;
+import java.text.Format;
+import java.util.Locale;
 import java.util.Optional;
 
+import com.vaadin.flow.function.SerializableFunction;
+
 /**
  * Creates {@link Converter} instances capable to handle conversion between a
  * model and a presentation type.
@@ -47,4 +51,32 @@ public interface ConverterFactory extends Serializable {
      */
     <P, M> Optional<Converter<P, M>> newInstance(Class<P> presentationType,
             Class<M> modelType);
+
+    /**
+     * Gets a format instance for the given locale. Converters use this to avoid
+     * creating a new format for every conversion.
+     * <p>
+     * The returned instance is never shared with other callers, so it can be
+     * configured and used without synchronization. Implementations may keep a
+     * prototype per key and locale and return copies of it. The default
+     * implementation creates a new format every time.
+     *
+     * @param key
+     *            a key identifying the kind of format created by
+     *            {@code formatFactory}, e.g. the class name of the converter,
+     *            not {@literal null}
+     * @param locale
+     *            the locale of the format, not {@literal null}
+     * @param formatFactory
+     *            a function creating a new format for a locale, not
+     *            {@literal null}
+     * @param <F>
+     *            the format type
+     * @return a format instance for the given locale, not {@literal null}
+     * @since 23.2
+     */
+    default <F extends Format> F getFormat(String key, Locale locale,
+            SerializableFunction<Locale, F> formatFactory) {
+        return formatFactory.apply(locale);
+    }
 }
@@ -16,16 +16,20 @@
 package com.vaadin.flow.data.converter;
 
 import java.io.Serializable;
+import java.text.Format;
 import java.time.ZoneId;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
 import com.vaadin.flow.data.binder.ErrorMessageProvider;
+import com.vaadin.flow.function.SerializableFunction;
 import com.vaadin.flow.function.SerializableSupplier;
 import com.vaadin.flow.internal.ReflectTools;
 
@@ -43,6 +47,9 @@ public enum DefaultConverterFactory implements ConverterFactory {
     @SuppressWarnings({ "rawtypes", "ImmutableEnumChecker" })
     private final Map<Key, SerializableSupplier<? extends Converter>> converterMap = new HashMap<>();
 
+    @SuppressWarnings("ImmutableEnumChecker")
+    private final Map<FormatKey, Format> formatPrototypes = new ConcurrentHashMap<>();
+
     DefaultConverterFactory() {
         registerConverter(DateToLongConverter.class, DateToLongConverter::new);
         registerConverter(DateToSqlDateConverter.class,
@@ -103,6 +110,52 @@ public enum DefaultConverterFactory implements ConverterFactory {
                 .map(Supplier::get);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The format created by {@code formatFactory} is kept as a prototype for
+     * each key and locale, and a clone of it is returned for every call.
+     * Cloning a format is considerably cheaper than creating a new one.
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public <F extends Format> F getFormat(String key, Locale locale,
+            SerializableFunction<Locale, F> formatFactory) {
+        Objects.requireNonNull(key, "The format key cannot be null");
+        Objects.requireNonNull(locale, "The locale cannot be null");
+        Objects.requireNonNull(formatFactory,
+                "The format factory cannot be null");
+        Format prototype = formatPrototypes.computeIfAbsent(
+                new FormatKey(key, locale),
+                formatKey -> formatFactory.apply(locale));
+        return (F) prototype.clone();
+    }
+
+    private static final class FormatKey implements Serializable {
+        private final String key;
+        private final Locale locale;
+
+        private FormatKey(String key, Locale locale) {
+            this.key = key;
+            this.locale = locale;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (o == null || getClass() != o.getClass())
+                return false;
+            FormatKey formatKey = (FormatKey) o;
+            return key.equals(formatKey.key) && locale.equals(formatKey.locale);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(key, locale);
+        }
+    }
+
     private static final class Key implements Serializable {
         private final Class<?> presentationType;
         private final Class<?> modelType;
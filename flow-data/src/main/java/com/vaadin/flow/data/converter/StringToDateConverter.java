@@ -53,10 +53,13 @@ public class StringToDateConverter implements Converter<String, Date> {
             locale = Locale.getDefault();
         }
 
-        DateFormat format = DateFormat.getDateTimeInstance(DateFormat.MEDIUM,
-                DateFormat.MEDIUM, locale);
-        format.setLenient(false);
-        return format;
+        return DefaultConverterFactory.INSTANCE.getFormat(
+                StringToDateConverter.class.getName(), locale, formatLocale -> {
+                    DateFormat format = DateFormat.getDateTimeInstance(
+                            DateFormat.MEDIUM, DateFormat.MEDIUM, formatLocale);
+                    format.setLenient(false);
+                    return format;
+                });
     }
 
     @Override
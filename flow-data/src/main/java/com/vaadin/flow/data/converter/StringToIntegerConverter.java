@@ -102,7 +102,9 @@ public class StringToIntegerConverter
         if (locale == null) {
             locale = Locale.getDefault();
         }
-        return NumberFormat.getIntegerInstance(locale);
+        return DefaultConverterFactory.INSTANCE.getFormat(
+                StringToIntegerConverter.class.getName(), locale,
+                NumberFormat::getIntegerInstance);
     }
 
     @Override
@@ -102,7 +102,9 @@ public class StringToLongConverter
         if (locale == null) {
             locale = Locale.getDefault();
         }
-        return NumberFormat.getIntegerInstance(locale);
+        return DefaultConverterFactory.INSTANCE.getFormat(
+                StringToLongConverter.class.getName(), locale,
+                NumberFormat::getIntegerInstance);
     }
 
     @Override
@@ -18,10 +18,13 @@ package com.vaadin.flow.data.provider;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import com.vaadin.flow.function.SerializableFunction;
+
 /**
  * Abstract base class for implementing back end data providers.
  *
@@ -53,7 +56,8 @@ public abstract class AbstractBackEndDataProvider<T, F> extends
 
         return new Query<>(query.getOffset(), query.getLimit(),
                 combinedSortOrders, query.getInMemorySorting(),
-                query.getFilter().orElse(null));
+                query.getFilter().orElse(null),
+                query.getPreviousItem().orElse(null));
     }
 
     @Override
@@ -86,6 +90,37 @@ public abstract class AbstractBackEndDataProvider<T, F> extends
      */
     protected abstract int sizeInBackEnd(Query<T, F> query);
 
+    /**
+     * Gets the sort key of the item preceding the range requested by the given
+     * query, for back ends supporting keyset (also known as seek or cursor)
+     * pagination.
+     * <p>
+     * When the key is present, {@link #fetchFromBackEnd(Query)} can fetch the
+     * page with a {@code WHERE sortKey > :previousSortKey LIMIT :limit} style
+     * query instead of skipping {@link Query#getOffset()} rows, so that the
+     * cost of fetching deep pages stays constant. When the key is empty, the
+     * offset must be used instead. The sort key has to identify the items
+     * uniquely in the current sort order, e.g. by combining the sorted
+     * properties with the primary key of the item.
+     *
+     * @param query
+     *            the query to get the previous sort key for, not {@code null}
+     * @param sortKeyProvider
+     *            the function that extracts the sort key from an item, not
+     *            {@code null}
+     * @param <K>
+     *            the sort key type
+     * @return the sort key of the item preceding the requested range, or an
+     *         empty optional if the offset should be used
+     * @see Query#getPreviousItem()
+     */
+    protected <K> Optional<K> getPreviousSortKey(Query<T, F> query,
+            SerializableFunction<T, K> sortKeyProvider) {
+        Objects.requireNonNull(sortKeyProvider,
+                "Sort key provider cannot be null");
+        return query.getPreviousItem().map(sortKeyProvider);
+    }
+
     @Override
     public void setSortOrders(List<QuerySortOrder> sortOrders) {
         this.sortOrders = Objects.requireNonNull(sortOrders,
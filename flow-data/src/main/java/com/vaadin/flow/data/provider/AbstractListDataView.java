@@ -24,6 +24,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.ComponentUtil;
 import com.vaadin.flow.function.SerializableBiConsumer;
 import com.vaadin.flow.function.SerializableBiFunction;
 import com.vaadin.flow.function.SerializableComparator;
@@ -94,20 +95,22 @@ public abstract class AbstractListDataView<T> extends AbstractDataView<T>
 
     @Override
     public Optional<T> getNextItem(T item) {
-        int index = getItemIndex(item);
+        ListDataProvider.ItemIndex<T> itemIndex = getItemIndex();
+        int index = getItemIndex(item, itemIndex);
         if (index < 0) {
             return Optional.empty();
         }
-        return getItems().skip(index + 1).findFirst();
+        return itemIndex.get(index + 1);
     }
 
     @Override
     public Optional<T> getPreviousItem(T item) {
-        int index = getItemIndex(item);
+        ListDataProvider.ItemIndex<T> itemIndex = getItemIndex();
+        int index = getItemIndex(item, itemIndex);
         if (index <= 0) {
             return Optional.empty();
         }
-        return getItems().skip(index - 1).findFirst();
+        return itemIndex.get(index - 1);
     }
 
     @Override
@@ -320,8 +323,18 @@ public abstract class AbstractListDataView<T> extends AbstractDataView<T>
         return index.get();
     }
 
-    private int getItemIndex(T item) {
-        return getItemIndex(item, getItems());
+    private int getItemIndex(T item, ListDataProvider.ItemIndex<T> itemIndex) {
+        Objects.requireNonNull(item, NULL_ITEM_ERROR_MESSAGE);
+        return itemIndex.indexOf(item);
+    }
+
+    @SuppressWarnings("unchecked")
+    private ListDataProvider.ItemIndex<T> getItemIndex() {
+        // The default identifier provider is passed as null, since a new
+        // instance of it would not match the one of the cached index
+        return getDataProvider().getItemIndex(DataViewUtils.getQuery(component),
+                (IdentifierProvider<T>) ComponentUtil.getData(component,
+                        IdentifierProvider.class));
     }
 
     private void removeItemIfPresent(T item, ListDataProvider<T> dataProvider) {
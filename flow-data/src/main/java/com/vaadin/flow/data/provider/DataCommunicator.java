@@ -28,6 +28,7 @@ import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
@@ -963,8 +964,25 @@ public class DataCommunicator<T> implements Serializable {
      * @return the list of items in given range
      *
      */
-    @SuppressWarnings({ "rawtypes", "unchecked" })
     protected Stream<T> fetchFromProvider(int offset, int limit) {
+        return fetchFromProvider(offset, limit, null);
+    }
+
+    /**
+     * Fetches a list of items from the DataProvider, passing the item preceding
+     * the range to the queries so that the provider can use keyset paging.
+     *
+     * @param offset
+     *            the starting index of the range
+     * @param limit
+     *            the desired number of results
+     * @param previousItem
+     *            the item preceding the range, or <code>null</code> if not
+     *            known
+     * @return the list of items in given range
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private Stream<T> fetchFromProvider(int offset, int limit, T previousItem) {
         Stream<T> stream;
 
         if (pagingEnabled) {
@@ -986,8 +1004,11 @@ public class DataCommunicator<T> implements Serializable {
                 final Stream.Builder<T> streamBuilder = Stream.builder();
 
                 final AtomicInteger fetchedPerPage = new AtomicInteger(0);
+                final AtomicReference<T> lastFetched = new AtomicReference<>(
+                        previousItem);
                 Consumer<T> addItemAndCheckConsumer = item -> {
                     streamBuilder.add(item);
+                    lastFetched.set(item);
                     fetchedPerPage.getAndIncrement();
                 };
                 // Keep fetching the pages until we get empty/partial page,
@@ -995,19 +1016,19 @@ public class DataCommunicator<T> implements Serializable {
                 int page = 0;
                 do {
                     final int newOffset = offset + page * pageSize;
-                    doFetchFromDataProvider(newOffset, pageSize)
-                            .forEach(addItemAndCheckConsumer);
+                    doFetchFromDataProvider(newOffset, pageSize,
+                            lastFetched.get()).forEach(addItemAndCheckConsumer);
                     page++;
                 } while (page < pages
                         && fetchedPerPage.getAndSet(0) == pageSize);
 
                 stream = streamBuilder.build();
             } else {
-                stream = doFetchFromDataProvider(offset, limit);
+                stream = doFetchFromDataProvider(offset, limit, previousItem);
             }
             limit = pages * pageSize;
         } else {
-            stream = doFetchFromDataProvider(offset, limit);
+            stream = doFetchFromDataProvider(offset, limit, previousItem);
         }
 
         if (stream.isParallel()) {
@@ -1023,9 +1044,10 @@ public class DataCommunicator<T> implements Serializable {
     }
 
     @SuppressWarnings({ "rawtypes", "unchecked" })
-    private Stream<T> doFetchFromDataProvider(int offset, int limitedTo) {
+    private Stream<T> doFetchFromDataProvider(int offset, int limitedTo,
+            T previousItem) {
         QueryTrace query = new QueryTrace(offset, limitedTo, backEndSorting,
-                inMemorySorting, getFilter());
+                inMemorySorting, getFilter(), previousItem);
         Stream<T> stream = getDataProvider().fetch(query);
         verifyQueryContract(query);
         return stream;
@@ -1041,7 +1063,7 @@ public class DataCommunicator<T> implements Serializable {
             throw new IllegalStateException(
                     getInvalidContractMessage("getLimit() or getPageSize()"));
         }
-        if (!query.isOffsetCalled()) {
+        if (!query.isOffsetCalled() && !query.isPreviousItemUsed()) {
             throw new IllegalStateException(
                     getInvalidContractMessage("getOffset() or getPage()"));
         }
@@ -1124,6 +1146,15 @@ public class DataCommunicator<T> implements Serializable {
         final Range previousActive = Range.withLength(activeStart,
                 activeKeyOrder.size());
 
+        /*
+         * The last active item can be used as a keyset for fetching the range
+         * that continues the active one, unless the data, sorting or filtering
+         * has been reset in the meantime.
+         */
+        final T lastActiveItem = resendEntireRange || activeKeyOrder.isEmpty()
+                ? null
+                : keyMapper.get(activeKeyOrder.get(activeKeyOrder.size() - 1));
+
         // Phase 1: Find all items that the client should have
 
         // With defined size the backend is only queried when necessary
@@ -1152,8 +1183,10 @@ public class DataCommunicator<T> implements Serializable {
                 future.cancel(true);
             }
             future = CompletableFuture
-                    .supplyAsync(() -> collectKeysToFlush(previousActive,
-                            effectiveRequested), executor);
+                    .supplyAsync(
+                            () -> collectKeysToFlush(previousActive,
+                                    effectiveRequested, lastActiveItem),
+                            executor);
             future.thenAccept(activation -> {
                 if (ui == null) {
                     return;
@@ -1166,7 +1199,7 @@ public class DataCommunicator<T> implements Serializable {
         } else {
 
             Activation activation = collectKeysToFlush(previousActive,
-                    effectiveRequested);
+                    effectiveRequested, lastActiveItem);
 
             performUpdate(oldActive, effectiveRequested, previousActive,
                     activation);
@@ -1350,14 +1383,15 @@ public class DataCommunicator<T> implements Serializable {
     }
 
     private Activation collectKeysToFlush(final Range previousActive,
-            final Range effectiveRequested) {
+            final Range effectiveRequested, T lastActiveItem) {
         /*
          * Collecting all items even though only some small sub range would
          * actually be useful can be optimized away once we have some actual
          * test coverage for the logic here.
          */
         if (resendEntireRange) {
-            return activate(effectiveRequested);
+            return activate(effectiveRequested, getItemPrecedingRange(
+                    effectiveRequested, previousActive, lastActiveItem));
         } else {
             List<String> newActiveKeyOrder = new ArrayList<>();
             boolean sizeRecheckNeeded = false;
@@ -1365,7 +1399,7 @@ public class DataCommunicator<T> implements Serializable {
             Range[] partitionWith = effectiveRequested
                     .partitionWith(previousActive);
 
-            Activation activation = activate(partitionWith[0]);
+            Activation activation = activate(partitionWith[0], null);
             newActiveKeyOrder.addAll(activation.getActiveKeys());
             sizeRecheckNeeded |= activation.isSizeRecheckNeeded();
 
@@ -1379,7 +1413,8 @@ public class DataCommunicator<T> implements Serializable {
             newActiveKeyOrder.addAll(activeKeyOrder.subList(overlap.getStart(),
                     overlap.getEnd()));
 
-            activation = activate(partitionWith[2]);
+            activation = activate(partitionWith[2], getItemPrecedingRange(
+                    partitionWith[2], previousActive, lastActiveItem));
             newActiveKeyOrder.addAll(activation.getActiveKeys());
             sizeRecheckNeeded |= activation.isSizeRecheckNeeded();
             return new Activation(newActiveKeyOrder, sizeRecheckNeeded);
@@ -1407,24 +1442,31 @@ public class DataCommunicator<T> implements Serializable {
         }
     }
 
-    private Activation activate(Range range) {
+    private static <T> T getItemPrecedingRange(Range range,
+            Range previousActive, T lastActiveItem) {
+        return range.getStart() == previousActive.getEnd() ? lastActiveItem
+                : null;
+    }
+
+    private Activation activate(Range range, T previousItem) {
         if (range.isEmpty()) {
             return Activation.empty();
         }
 
         // XXX Explicitly refresh anything that is updated
         List<String> activeKeys = new ArrayList<>(range.length());
-        fetchFromProvider(range.getStart(), range.length()).forEach(bean -> {
-            boolean mapperHasKey = keyMapper.has(bean);
-            String key = keyMapper.key(bean);
-            if (mapperHasKey) {
-                // Ensure latest instance from provider is used
-                keyMapper.refresh(bean);
-                passivatedByUpdate.values().stream()
-                        .forEach(set -> set.remove(key));
-            }
-            activeKeys.add(key);
-        });
+        fetchFromProvider(range.getStart(), range.length(), previousItem)
+                .forEach(bean -> {
+                    boolean mapperHasKey = keyMapper.has(bean);
+                    String key = keyMapper.key(bean);
+                    if (mapperHasKey) {
+                        // Ensure latest instance from provider is used
+                        keyMapper.refresh(bean);
+                        passivatedByUpdate.values().stream()
+                                .forEach(set -> set.remove(key));
+                    }
+                    activeKeys.add(key);
+                });
         boolean needsSizeRecheck = activeKeys.size() < range.length();
         return new Activation(activeKeys, needsSizeRecheck);
     }
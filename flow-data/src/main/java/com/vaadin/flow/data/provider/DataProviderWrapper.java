@@ -89,7 +89,8 @@ public abstract class DataProviderWrapper<T, F, M>
     @Override
     public Stream<T> fetch(Query<T, F> t) {
         return dataProvider.fetch(new Query<>(t.getOffset(), t.getLimit(),
-                t.getSortOrders(), t.getInMemorySorting(), getFilter(t)));
+                t.getSortOrders(), t.getInMemorySorting(), getFilter(t),
+                t.getPreviousItem().orElse(null)));
     }
 
     /**
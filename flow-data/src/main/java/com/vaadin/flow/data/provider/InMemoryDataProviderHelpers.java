@@ -107,14 +107,19 @@ public class InMemoryDataProviderHelpers {
         assert predicate != null;
         assert localeSupplier != null;
 
-        return filteringByIgnoreNull(dataProvider, valueProvider,
-                (itemString, filterString) -> {
-                    Locale locale = localeSupplier.get();
-                    assert locale != null;
-
-                    return predicate.test(itemString.toLowerCase(locale),
-                            filterString.toLowerCase(locale));
-                });
+        // Resolve the locale and the lower case filter once per query on the
+        // calling thread, since the items may be filtered in parallel
+        return dataProvider.withConvertedFilter(filterString -> {
+            Locale locale = localeSupplier.get();
+            assert locale != null;
+
+            String lowerCaseFilter = filterString.toLowerCase(locale);
+            return item -> {
+                String itemString = valueProvider.apply(item);
+                return itemString != null && predicate
+                        .test(itemString.toLowerCase(locale), lowerCaseFilter);
+            };
+        });
     }
 
     /**
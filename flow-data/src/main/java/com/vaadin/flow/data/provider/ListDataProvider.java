@@ -15,17 +15,28 @@
  */
 package com.vaadin.flow.data.provider;
 
+import java.io.Serializable;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.EventObject;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import com.vaadin.flow.function.SerializableComparator;
 import com.vaadin.flow.function.SerializablePredicate;
+import com.vaadin.flow.server.VaadinService;
 
 /**
  * {@link DataProvider} wrapper for {@link Collection}s.
+ * <p>
+ * Filtering and sorting of large collections can optionally be done in
+ * parallel, see {@link #setParallelProcessingEnabled(boolean)}.
  *
  * @param <T>
  *            data type
@@ -35,12 +46,26 @@ public class ListDataProvider<T>
         extends AbstractDataProvider<T, SerializablePredicate<T>>
         implements InMemoryDataProvider<T> {
 
+    /**
+     * The default minimum number of items for which filtering and sorting are
+     * done in parallel when parallel processing is enabled.
+     *
+     * @since 23.2
+     */
+    public static final int DEFAULT_PARALLEL_PROCESSING_THRESHOLD = 10_000;
+
     private SerializableComparator<T> sortOrder = null;
 
+    private boolean parallelProcessingEnabled;
+
+    private int parallelProcessingThreshold = DEFAULT_PARALLEL_PROCESSING_THRESHOLD;
+
     private SerializablePredicate<T> filter;
 
     private final Collection<T> backend;
 
+    private transient ItemIndex<T> itemIndex;
+
     /**
      * Constructs a new ListDataProvider.
      * <p>
@@ -66,6 +91,72 @@ public class ListDataProvider<T>
         return backend;
     }
 
+    /**
+     * Sets whether filtering and sorting of the items is done in parallel when
+     * the backing collection has at least as many items as the
+     * {@link #setParallelProcessingThreshold(int) threshold}. Parallel
+     * processing is disabled by default.
+     * <p>
+     * The work is run in a fork-join pool shared by all list data providers,
+     * bounded to half of the available processors, so that the common pool is
+     * not affected. The pool is shut down when the {@link VaadinService} is
+     * destroyed. The returned items and their order are the same as with
+     * sequential processing, but the filters and comparators must be thread
+     * safe and must not depend on thread bound state such as
+     * {@code UI.getCurrent()}.
+     *
+     * @param parallelProcessingEnabled
+     *            {@code true} to enable parallel processing, {@code false} to
+     *            disable it
+     * @since 23.2
+     */
+    public void setParallelProcessingEnabled(
+            boolean parallelProcessingEnabled) {
+        this.parallelProcessingEnabled = parallelProcessingEnabled;
+    }
+
+    /**
+     * Gets whether filtering and sorting of large collections is done in
+     * parallel.
+     *
+     * @return {@code true} if parallel processing is enabled, {@code false}
+     *         otherwise
+     * @since 23.2
+     */
+    public boolean isParallelProcessingEnabled() {
+        return parallelProcessingEnabled;
+    }
+
+    /**
+     * Sets the minimum number of items in the backing collection for which
+     * filtering and sorting are done in parallel, if parallel processing is
+     * enabled. Smaller collections are always processed sequentially. The
+     * default is {@value #DEFAULT_PARALLEL_PROCESSING_THRESHOLD}.
+     *
+     * @param parallelProcessingThreshold
+     *            the minimum number of items, not negative
+     * @since 23.2
+     */
+    public void setParallelProcessingThreshold(
+            int parallelProcessingThreshold) {
+        if (parallelProcessingThreshold < 0) {
+            throw new IllegalArgumentException(
+                    "Parallel processing threshold cannot be negative");
+        }
+        this.parallelProcessingThreshold = parallelProcessingThreshold;
+    }
+
+    /**
+     * Gets the minimum number of items in the backing collection for which
+     * filtering and sorting are done in parallel.
+     *
+     * @return the minimum number of items
+     * @since 23.2
+     */
+    public int getParallelProcessingThreshold() {
+        return parallelProcessingThreshold;
+    }
+
     @Override
     public Stream<T> fetch(Query<T, SerializablePredicate<T>> query) {
         Stream<T> stream = getFilteredStream(query);
@@ -79,17 +170,34 @@ public class ListDataProvider<T>
             stream = stream.sorted(comparing.get());
         }
 
-        return stream.skip(query.getOffset()).limit(query.getLimit());
+        stream = stream.skip(query.getOffset()).limit(query.getLimit());
+        if (stream.isParallel()) {
+            // Run the pipeline eagerly in the bounded pool and hand out a
+            // sequential stream, since consumers don't expect a parallel one
+            Stream<T> parallelStream = stream;
+            return ParallelProcessingPool.get()
+                    .submit(() -> parallelStream.collect(Collectors.toList()))
+                    .join().stream();
+        }
+        return stream;
     }
 
     @Override
     public int size(Query<T, SerializablePredicate<T>> query) {
-        return (int) getFilteredStream(query).count();
+        Stream<T> stream = getFilteredStream(query);
+        if (stream.isParallel()) {
+            return ParallelProcessingPool.get().submit(stream::count).join()
+                    .intValue();
+        }
+        return (int) stream.count();
     }
 
     private Stream<T> getFilteredStream(
             Query<T, SerializablePredicate<T>> query) {
-        Stream<T> stream = backend.stream();
+        Stream<T> stream = parallelProcessingEnabled
+                && backend.size() >= parallelProcessingThreshold
+                        ? backend.parallelStream()
+                        : backend.stream();
 
         // Apply our own filters first so that query filters never see the items
         // that would already have been filtered out
@@ -102,6 +210,47 @@ public class ListDataProvider<T>
         return stream;
     }
 
+    /**
+     * Gets an index of the items matching the given query, keyed by the ids
+     * returned by the given identifier provider. The index is built lazily and
+     * reused for queries with the same filter and sorting until the data
+     * changes, as notified by {@link #refreshAll()} or
+     * {@link #refreshItem(Object)}.
+     *
+     * @param query
+     *            the query to get the items with, not {@code null}
+     * @param identifierProvider
+     *            the identifier provider for the items, or {@code null} to use
+     *            {@link #getId(Object)}
+     * @return the index of the items matching the query
+     */
+    ItemIndex<T> getItemIndex(Query<T, SerializablePredicate<T>> query,
+            IdentifierProvider<T> identifierProvider) {
+        ItemIndex<T> index = itemIndex;
+        SerializablePredicate<T> queryFilter = query.getFilter().orElse(null);
+        if (index == null || index.filter != queryFilter
+                || index.sorting != query.getInMemorySorting()
+                || index.identifierProvider != identifierProvider
+                || index.backendSize != backend.size()) {
+            index = new ItemIndex<>(queryFilter, query.getInMemorySorting(),
+                    identifierProvider,
+                    identifierProvider != null ? identifierProvider
+                            : this::getId,
+                    backend.size(),
+                    fetch(new Query<>(0, Integer.MAX_VALUE, null,
+                            query.getInMemorySorting(), queryFilter))
+                            .collect(Collectors.toList()));
+            itemIndex = index;
+        }
+        return index;
+    }
+
+    @Override
+    protected void fireEvent(EventObject event) {
+        itemIndex = null;
+        super.fireEvent(event);
+    }
+
     @Override
     public SerializableComparator<T> getSortComparator() {
         return sortOrder;
@@ -123,4 +272,95 @@ public class ListDataProvider<T>
         this.filter = filter;
         refreshAll();
     }
+
+    /**
+     * The filtered and sorted items of a query, with the index of each item id
+     * for constant time lookups.
+     */
+    static final class ItemIndex<T> implements Serializable {
+        private final SerializablePredicate<T> filter;
+        private final Comparator<T> sorting;
+        private final IdentifierProvider<T> identifierProvider;
+        private final IdentifierProvider<T> effectiveIdentifierProvider;
+        private final int backendSize;
+        private final List<T> items;
+        private final Map<Object, Integer> indexes;
+
+        private ItemIndex(SerializablePredicate<T> filter,
+                Comparator<T> sorting, IdentifierProvider<T> identifierProvider,
+                IdentifierProvider<T> effectiveIdentifierProvider,
+                int backendSize, List<T> items) {
+            this.filter = filter;
+            this.sorting = sorting;
+            this.identifierProvider = identifierProvider;
+            this.effectiveIdentifierProvider = effectiveIdentifierProvider;
+            this.backendSize = backendSize;
+            this.items = items;
+            indexes = new HashMap<>(items.size() * 4 / 3 + 1);
+            for (int i = 0; i < items.size(); i++) {
+                indexes.putIfAbsent(
+                        effectiveIdentifierProvider.apply(items.get(i)), i);
+            }
+        }
+
+        /**
+         * Gets the index of the first item with the same id as the given item.
+         *
+         * @param item
+         *            the item to look for
+         * @return the index of the item, or {@code -1} if not found
+         */
+        int indexOf(T item) {
+            return indexes.getOrDefault(effectiveIdentifierProvider.apply(item),
+                    -1);
+        }
+
+        /**
+         * Gets the item at the given index, if any.
+         *
+         * @param index
+         *            the index of the item
+         * @return the item, or an empty optional if the index is out of range
+         */
+        Optional<T> get(int index) {
+            if (index < 0 || index >= items.size()) {
+                return Optional.empty();
+            }
+            return Optional.ofNullable(items.get(index));
+        }
+    }
+
+    /**
+     * Holder of the pool used for parallel processing. The pool is created
+     * lazily and shut down when the Vaadin service is destroyed, so that its
+     * threads don't keep the application class loader alive.
+     */
+    private static final class ParallelProcessingPool
+            implements Serializable {
+        private static ForkJoinPool pool;
+        private static boolean shutdownRegistered;
+
+        private static synchronized ForkJoinPool get() {
+            if (pool == null) {
+                pool = new ForkJoinPool(Math.max(1,
+                        Runtime.getRuntime().availableProcessors() / 2));
+            }
+            if (!shutdownRegistered) {
+                VaadinService service = VaadinService.getCurrent();
+                if (service != null) {
+                    service.addServiceDestroyListener(event -> shutdown());
+                    shutdownRegistered = true;
+                }
+            }
+            return pool;
+        }
+
+        private static synchronized void shutdown() {
+            if (pool != null) {
+                pool.shutdownNow();
+                pool = null;
+            }
+            shutdownRegistered = false;
+        }
+    }
 }
@@ -38,6 +38,7 @@ public class Query<T, F> implements Serializable {
     private final List<QuerySortOrder> sortOrders;
     private final Comparator<T> inMemorySorting;
     private final F filter;
+    private final T previousItem;
 
     /**
      * Constructs a Query for all rows from 0 to {@link Integer#MAX_VALUE}
@@ -49,6 +50,7 @@ public class Query<T, F> implements Serializable {
         sortOrders = Collections.emptyList();
         inMemorySorting = null;
         filter = null;
+        previousItem = null;
     }
 
     /**
@@ -65,6 +67,7 @@ public class Query<T, F> implements Serializable {
         sortOrders = Collections.emptyList();
         inMemorySorting = null;
         this.filter = filter;
+        previousItem = null;
     }
 
     /**
@@ -84,11 +87,38 @@ public class Query<T, F> implements Serializable {
      */
     public Query(int offset, int limit, List<QuerySortOrder> sortOrders,
             Comparator<T> inMemorySorting, F filter) {
+        this(offset, limit, sortOrders, inMemorySorting, filter, null);
+    }
+
+    /**
+     * Constructs a new Query object with given offset, limit, sorting,
+     * filtering and the last item of the preceding page.
+     * <p>
+     * The previous item allows back ends to use keyset (also known as seek or
+     * cursor) pagination, see {@link #getPreviousItem()}.
+     *
+     * @param offset
+     *            first index to fetch
+     * @param limit
+     *            fetched item count
+     * @param sortOrders
+     *            sorting order for fetching; used for sorting backends
+     * @param inMemorySorting
+     *            comparator for sorting in-memory data
+     * @param filter
+     *            filtering for fetching; can be null
+     * @param previousItem
+     *            the item at index {@code offset - 1} with the same sorting and
+     *            filtering; can be null
+     */
+    public Query(int offset, int limit, List<QuerySortOrder> sortOrders,
+            Comparator<T> inMemorySorting, F filter, T previousItem) {
         this.offset = offset;
         this.limit = limit;
         this.sortOrders = sortOrders;
         this.inMemorySorting = inMemorySorting;
         this.filter = filter;
+        this.previousItem = previousItem;
     }
 
     /**
@@ -194,6 +224,30 @@ public class Query<T, F> implements Serializable {
         return Optional.ofNullable(inMemorySorting);
     }
 
+    /**
+     * Gets the item directly preceding the requested range, i.e. the last item
+     * of the previous page, if it is known.
+     * <p>
+     * The item is provided when the requested range continues a range that has
+     * already been fetched with the same sorting and filtering, for example
+     * when scrolling down in a component. Back ends supporting keyset (also
+     * known as seek or cursor) pagination can use the sort key of this item to
+     * fetch the next {@link #getLimit()} items with a
+     * {@code WHERE sortKey > :previousSortKey} style condition instead of
+     * skipping {@link #getOffset()} rows, which keeps the cost of fetching deep
+     * pages constant. If the item is not present, the offset has to be used.
+     * <p>
+     * The previous item is only used when fetching items, but not when counting
+     * the number of available items.
+     *
+     * @return optional item preceding the requested range
+     * @see AbstractBackEndDataProvider#getPreviousSortKey(Query,
+     *      com.vaadin.flow.function.SerializableFunction)
+     */
+    public Optional<T> getPreviousItem() {
+        return Optional.ofNullable(previousItem);
+    }
+
     /**
      * Gets the requested range end. This is a shorthand for
      * {@code getOffset() + getLimit()} where the end is exclusive.
@@ -17,10 +17,12 @@ package com.vaadin.flow.data.provider;
 
 import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Allows to trace {@link Query#getOffset()}, {@link Query#getLimit()},
- * {@link Query#getPage()} and {@link Query#getPageSize()} method calls.
+ * {@link Query#getPage()}, {@link Query#getPageSize()} and
+ * {@link Query#getPreviousItem()} method calls.
  *
  * @author Vaadin Ltd
  * @since 1.0
@@ -32,6 +34,8 @@ class QueryTrace<T, F> extends Query<T, F> {
 
     private boolean isLimitCalled;
 
+    private boolean isPreviousItemUsed;
+
     /**
      * {@inheritDoc}
      */
@@ -40,6 +44,14 @@ class QueryTrace<T, F> extends Query<T, F> {
         super(offset, limit, sortOrders, inMemorySorting, filter);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    QueryTrace(int offset, int limit, List<QuerySortOrder> sortOrders,
+            Comparator<T> inMemorySorting, F filter, T previousItem) {
+        super(offset, limit, sortOrders, inMemorySorting, filter, previousItem);
+    }
+
     @Override
     public int getOffset() {
         isOffsetCalled = true;
@@ -52,6 +64,14 @@ class QueryTrace<T, F> extends Query<T, F> {
         return super.getLimit();
     }
 
+    @Override
+    public Optional<T> getPreviousItem() {
+        Optional<T> previousItem = super.getPreviousItem();
+        // A present previous item replaces the offset for keyset pagination
+        isPreviousItemUsed |= previousItem.isPresent();
+        return previousItem;
+    }
+
     boolean isOffsetCalled() {
         return isOffsetCalled;
     }
@@ -60,4 +80,8 @@ class QueryTrace<T, F> extends Query<T, F> {
         return isLimitCalled;
     }
 
+    boolean isPreviousItemUsed() {
+        return isPreviousItemUsed;
+    }
+
 }
@@ -65,6 +65,8 @@ public class HierarchicalDataCommunicator<T> extends DataCommunicator<T> {
 
     private final Map<String, HierarchicalCommunicationController<T>> dataControllers = new HashMap<>();
 
+    private boolean clearBatchedChildInformationRequested;
+
     /**
      * Construct a new hierarchical data communicator backed by a
      * {@link TreeDataProvider}.
@@ -117,6 +119,24 @@ public class HierarchicalDataCommunicator<T> extends DataCommunicator<T> {
                 .beforeClientResponse(stateNode, flushRequest));
     }
 
+    /**
+     * Makes the mapper discard the child information it resolved in batches
+     * once the items fetched in this round trip have been sent.
+     */
+    private void requestClearBatchedChildInformation() {
+        if (clearBatchedChildInformationRequested) {
+            return;
+        }
+        clearBatchedChildInformationRequested = true;
+        HierarchyMapper<T, ?> fetchMapper = mapper;
+        SerializableConsumer<ExecutionContext> clearRequest = context -> {
+            clearBatchedChildInformationRequested = false;
+            fetchMapper.clearBatchedChildInformation();
+        };
+        stateNode.runWhenAttached(ui -> ui.getInternals().getStateTree()
+                .beforeClientResponse(stateNode, clearRequest));
+    }
+
     /**
      * Resets all the data.
      * <p>
@@ -133,6 +153,8 @@ public class HierarchicalDataCommunicator<T> extends DataCommunicator<T> {
         }
 
         if (getHierarchyMapper() != null) {
+            getHierarchyMapper().invalidateChildren(null);
+
             HierarchicalUpdate update = arrayUpdater
                     .startUpdate(getHierarchyMapper().getRootSize());
             update.enqueue("$connector.ensureHierarchy");
@@ -157,6 +179,7 @@ public class HierarchicalDataCommunicator<T> extends DataCommunicator<T> {
             DataChangeEvent.DataRefreshEvent<T> event) {
         if (event.isRefreshChildren()) {
             T item = event.getItem();
+            mapper.invalidateChildren(item);
             if (isExpanded(item)) {
                 String parentKey = getKeyMapper().key(item);
 
@@ -171,6 +194,8 @@ public class HierarchicalDataCommunicator<T> extends DataCommunicator<T> {
                     requestFlush(dataController);
                 }
             }
+        } else {
+            mapper.refreshItem(event.getItem());
         }
         super.handleDataRefreshEvent(event);
     }
@@ -179,6 +204,7 @@ public class HierarchicalDataCommunicator<T> extends DataCommunicator<T> {
     public Stream<T> fetchFromProvider(int offset, int limit) {
         // Instead of adding logic to this class, delegate request to the
         // separate object handling hierarchies.
+        requestClearBatchedChildInformation();
         return mapper.fetchRootItems(Range.withLength(offset, limit));
     }
 
@@ -192,8 +218,11 @@ public class HierarchicalDataCommunicator<T> extends DataCommunicator<T> {
                                 dataGenerator,
                                 size -> arrayUpdater
                                         .startUpdate(getDataProviderSize()),
-                                (pkey, range) -> mapper.fetchChildItems(
-                                        getKeyMapper().get(pkey), range)));
+                                (pkey, range) -> {
+                                    requestClearBatchedChildInformation();
+                                    return mapper.fetchChildItems(
+                                            getKeyMapper().get(pkey), range);
+                                }));
 
         controller.setRequestRange(start, length);
         requestFlush(controller);
@@ -241,6 +270,11 @@ public class HierarchicalDataCommunicator<T> extends DataCommunicator<T> {
     /**
      * Create new {@code HierarchyMapper} for the given data provider. May be
      * overridden in subclasses.
+     * <p>
+     * In-memory data providers get an {@link IndexedHierarchyMapper}, which
+     * keeps an index of the visible hierarchy and serves root items, child
+     * items and index lookups from it instead of fetching the hierarchy again
+     * for every request.
      *
      * @param dataProvider
      *            the data provider
@@ -250,6 +284,9 @@ public class HierarchicalDataCommunicator<T> extends DataCommunicator<T> {
      */
     protected <F> HierarchyMapper<T, F> createHierarchyMapper(
             HierarchicalDataProvider<T, F> dataProvider) {
+        if (dataProvider.isInMemory()) {
+            return new IndexedHierarchyMapper<>(dataProvider);
+        }
         return new HierarchyMapper<>(dataProvider);
     }
 
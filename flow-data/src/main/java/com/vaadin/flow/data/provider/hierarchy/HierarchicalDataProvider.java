@@ -15,6 +15,9 @@
  */
 package com.vaadin.flow.data.provider.hierarchy;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.stream.Stream;
 
 import com.vaadin.flow.data.provider.DataProvider;
@@ -112,6 +115,52 @@ public interface HierarchicalDataProvider<T, F> extends DataProvider<T, F> {
      */
     public boolean hasChildren(T item);
 
+    /**
+     * Checks for each of the given items whether it has any children associated
+     * with it.
+     * <p>
+     * The default implementation calls {@link #hasChildren(Object)} for each
+     * item. Data providers backed by a remote data source should override this
+     * method to answer for all the items with a single request.
+     *
+     * @param items
+     *            the items to check for children, not {@code null}
+     * @return a map from the id of each item, as returned by
+     *         {@link #getId(Object)}, to whether the item has children
+     * @since 23.2
+     */
+    public default Map<Object, Boolean> hasChildrenBatch(Collection<T> items) {
+        Map<Object, Boolean> result = new HashMap<>();
+        items.forEach(item -> result.put(getId(item), hasChildren(item)));
+        return result;
+    }
+
+    /**
+     * Gets the number of immediate child data items for each of the given
+     * parent items.
+     * <p>
+     * The default implementation calls
+     * {@link #getChildCount(HierarchicalQuery)} for each parent. Data providers
+     * backed by a remote data source should override this method to count the
+     * children of all the parents with a single request.
+     *
+     * @param parents
+     *            the parent items to count the children for, not {@code null}
+     * @param filter
+     *            the filter to apply to the children, or {@code null} for no
+     *            filtering
+     * @return a map from the id of each parent, as returned by
+     *         {@link #getId(Object)}, to its number of children
+     * @since 23.2
+     */
+    public default Map<Object, Integer> getChildCountBatch(
+            Collection<T> parents, F filter) {
+        Map<Object, Integer> result = new HashMap<>();
+        parents.forEach(parent -> result.put(getId(parent),
+                getChildCount(new HierarchicalQuery<>(filter, parent))));
+        return result;
+    }
+
     @SuppressWarnings("serial")
     @Override
     default <Q, C> HierarchicalConfigurableFilterDataProvider<T, Q, C> withConfigurableFilter(
@@ -15,6 +15,8 @@
  */
 package com.vaadin.flow.data.provider.hierarchy;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.stream.Stream;
 
 import com.vaadin.flow.data.provider.ConfigurableFilterDataProviderWrapper;
@@ -58,6 +60,18 @@ final class HierarchicalFilterUtils {
             return getDataProvider().hasChildren(item);
         }
 
+        @Override
+        public Map<Object, Boolean> hasChildrenBatch(Collection<T> items) {
+            return getDataProvider().hasChildrenBatch(items);
+        }
+
+        @Override
+        public Map<Object, Integer> getChildCountBatch(Collection<T> parents,
+                Q filter) {
+            return getDataProvider().getChildCountBatch(parents,
+                    getFilter(new HierarchicalQuery<>(filter, null)));
+        }
+
         @Override
         public int size(Query<T, Q> query) {
             return HierarchicalConfigurableFilterDataProvider.super.size(query);
@@ -121,6 +135,18 @@ final class HierarchicalFilterUtils {
             return getDataProvider().hasChildren(item);
         }
 
+        @Override
+        public Map<Object, Boolean> hasChildrenBatch(Collection<T> items) {
+            return getDataProvider().hasChildrenBatch(items);
+        }
+
+        @Override
+        public Map<Object, Integer> getChildCountBatch(Collection<T> parents,
+                F filter) {
+            return getDataProvider().getChildCountBatch(parents,
+                    getFilter(new HierarchicalQuery<>(filter, null)));
+        }
+
         @Override
         public int size(Query<T, F> query) {
             return HierarchicalDataProvider.super.size(query);
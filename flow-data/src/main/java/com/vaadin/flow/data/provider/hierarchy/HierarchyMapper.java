@@ -16,12 +16,14 @@
 package com.vaadin.flow.data.provider.hierarchy;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -66,6 +68,16 @@ public class HierarchyMapper<T, F> implements Serializable {
 
     private Map<Object, T> expandedItems = new HashMap<>();
 
+    // Items fetched for the client whose child information has not been
+    // requested yet. The first lookup for any of them asks the data provider
+    // about all of them at once, and the answers are kept until consumed or
+    // until the end of the round trip.
+    private static final int MAX_PENDING_ITEMS = 1000;
+    private Map<Object, T> pendingItems = new LinkedHashMap<>();
+    private Map<Object, T> pendingParents = new LinkedHashMap<>();
+    private Map<Object, Boolean> batchedHasChildren = new HashMap<>();
+    private Map<Object, Integer> batchedChildCounts = new HashMap<>();
+
     /**
      * Constructs a new HierarchyMapper.
      *
@@ -283,6 +295,8 @@ public class HierarchyMapper<T, F> implements Serializable {
      */
     public void setFilter(Object filter) {
         this.filter = (F) filter;
+        pendingParents.clear();
+        batchedChildCounts.clear();
     }
 
     /**
@@ -297,13 +311,27 @@ public class HierarchyMapper<T, F> implements Serializable {
 
     /**
      * Returns whether given item has children.
+     * <p>
+     * If the item was fetched through {@link #fetchRootItems(Range)} or
+     * {@link #fetchChildItems(Object, Range)}, the answer is resolved together
+     * with the other fetched items using
+     * {@link HierarchicalDataProvider#hasChildrenBatch(Collection)}.
      *
      * @param item
      *            the node to test
      * @return {@code true} if node has children; {@code false} if not
      */
     public boolean hasChildren(T item) {
-        return getDataProvider().hasChildren(item);
+        Object id = getDataProvider().getId(item);
+        if (!batchedHasChildren.containsKey(id)
+                && pendingItems.containsKey(id)) {
+            batchedHasChildren = new HashMap<>(getDataProvider()
+                    .hasChildrenBatch(new ArrayList<>(pendingItems.values())));
+            pendingItems.clear();
+        }
+        Boolean hasChildren = batchedHasChildren.remove(id);
+        return hasChildren != null ? hasChildren
+                : getDataProvider().hasChildren(item);
     }
 
     /* Fetch methods. These are used to calculate what to request. */
@@ -344,18 +372,60 @@ public class HierarchyMapper<T, F> implements Serializable {
      * @return the stream of items
      */
     public Stream<T> fetchRootItems(Range range) {
-        return getDirectChildren(null, range);
+        return addPendingItems(getDirectChildren(null, range));
     }
 
     public Stream<T> fetchChildItems(T parent, Range range) {
-        return getChildrenStream(parent, range, false);
+        return addPendingItems(getChildrenStream(parent, range, false));
     }
 
     public int countChildItems(T parent) {
+        if (parent != null) {
+            Object id = getDataProvider().getId(parent);
+            if (!batchedChildCounts.containsKey(id)
+                    && pendingParents.containsKey(id)) {
+                batchedChildCounts = new HashMap<>(
+                        getDataProvider().getChildCountBatch(
+                                new ArrayList<>(pendingParents.values()),
+                                filter));
+                pendingParents.clear();
+            }
+            Integer count = batchedChildCounts.remove(id);
+            if (count != null) {
+                return count;
+            }
+        }
         return getDataProvider()
                 .getChildCount(new HierarchicalQuery<>(filter, parent));
     }
 
+    /**
+     * Marks the given fetched items as pending, so that the child information
+     * of all of them is resolved with a single batch request once it is asked
+     * for any of them.
+     *
+     * @param items
+     *            the fetched items
+     * @return a stream of the same items
+     */
+    Stream<T> addPendingItems(Stream<T> items) {
+        List<T> itemList = items.collect(Collectors.toList());
+        if (pendingItems.size() + itemList.size() > MAX_PENDING_ITEMS) {
+            pendingItems.clear();
+        }
+        if (pendingParents.size() + itemList.size() > MAX_PENDING_ITEMS) {
+            pendingParents.clear();
+        }
+        for (T item : itemList) {
+            Object id = getDataProvider().getId(item);
+            pendingItems.put(id, item);
+            if (isExpanded(item)) {
+                pendingParents.put(id, item);
+            }
+        }
+        return itemList.stream();
+    }
+
     /* Methods for providing information on the hierarchy. */
 
     /**
@@ -613,10 +683,53 @@ public class HierarchyMapper<T, F> implements Serializable {
         return Stream.concat(parentStream, children);
     }
 
+    /**
+     * Notifies this mapper that the children of the given item, or the whole
+     * hierarchy if {@code null} is given, may have changed in the data
+     * provider. Mappers caching the hierarchy should discard the affected
+     * parts. This implementation only discards child information resolved in
+     * batches, since the hierarchy itself is always fetched from the data
+     * provider.
+     *
+     * @param item
+     *            the item whose children may have changed, or {@code null} for
+     *            the whole hierarchy
+     */
+    public void invalidateChildren(T item) {
+        clearBatchedChildInformation();
+    }
+
+    /**
+     * Notifies this mapper that the given item has been updated in the data
+     * provider. Mappers caching items should replace the cached instance with
+     * the given one. This implementation only discards child information
+     * resolved in batches, since items are always fetched from the data
+     * provider.
+     *
+     * @param item
+     *            the updated item, not {@code null}
+     */
+    public void refreshItem(T item) {
+        clearBatchedChildInformation();
+    }
+
+    /**
+     * Discards the pending items and the child information resolved for them in
+     * batches. Called at the end of each round trip, so that the answers are
+     * never reused for a later request.
+     */
+    void clearBatchedChildInformation() {
+        pendingItems.clear();
+        pendingParents.clear();
+        batchedHasChildren.clear();
+        batchedChildCounts.clear();
+    }
+
     public void destroyAllData() {
         childMap.clear();
         parentIdMap.clear();
         expandedItems.clear();
+        invalidateChildren(null);
     }
 
     /**
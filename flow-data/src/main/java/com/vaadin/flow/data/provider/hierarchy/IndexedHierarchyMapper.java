@@ -0,0 +1,500 @@
+/*
+ * Copyright 2000-2022 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.data.provider.hierarchy;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.vaadin.flow.data.provider.QuerySortOrder;
+import com.vaadin.flow.internal.Range;
+
+/**
+ * Hierarchy mapper that keeps an index of the currently visible hierarchy.
+ * <p>
+ * Each loaded node stores its visible children together with a Fenwick tree
+ * (binary indexed tree) of the visible subtree sizes of the children. This
+ * makes finding the flat index of an item, expanding and collapsing an item and
+ * locating the start of a requested range logarithmic in the number of siblings
+ * on each level, instead of traversing the whole flattened hierarchy and
+ * fetching the children of every expanded node again. The children of an
+ * expanded node are fetched only once, until the hierarchy is invalidated. Root
+ * and child items requested by the data communicator are served from the index
+ * as well.
+ * <p>
+ * The index fetches all children of an expanded node at once, which makes it
+ * suitable for in-memory data providers only.
+ * <p>
+ * This class is framework internal implementation details, and can be changed /
+ * moved at any point. This means that you should not directly use this for
+ * anything.
+ *
+ * @author Vaadin Ltd
+ *
+ * @param <T>
+ *            the data type
+ * @param <F>
+ *            the filter type
+ * @since 23.2
+ */
+public class IndexedHierarchyMapper<T, F> extends HierarchyMapper<T, F> {
+
+    private final Map<Object, IndexNode<T>> nodes = new HashMap<>();
+
+    private IndexNode<T> root = new IndexNode<>(null, null, -1);
+
+    /**
+     * A node of the visible hierarchy.
+     */
+    private static class IndexNode<T> implements Serializable {
+        private T item;
+        private final IndexNode<T> parent;
+        private final int indexInParent;
+
+        // null when the children are not loaded, i.e. the node is collapsed
+        private List<IndexNode<T>> children;
+        private FenwickTree subtreeSizes;
+        private int visibleDescendants;
+
+        private IndexNode(T item, IndexNode<T> parent, int indexInParent) {
+            this.item = item;
+            this.parent = parent;
+            this.indexInParent = indexInParent;
+        }
+
+        private boolean hasVisibleChildren() {
+            return children != null && !children.isEmpty();
+        }
+    }
+
+    /**
+     * Fenwick tree of positive integer weights supporting point updates, prefix
+     * sums and prefix sum searches in logarithmic time.
+     */
+    private static class FenwickTree implements Serializable {
+        // 1-based
+        private final int[] tree;
+
+        private FenwickTree(int[] weights) {
+            tree = new int[weights.length + 1];
+            for (int i = 1; i < tree.length; i++) {
+                tree[i] += weights[i - 1];
+                int parent = i + (i & -i);
+                if (parent < tree.length) {
+                    tree[parent] += tree[i];
+                }
+            }
+        }
+
+        private void add(int index, int delta) {
+            for (int i = index + 1; i < tree.length; i += i & -i) {
+                tree[i] += delta;
+            }
+        }
+
+        private int prefixSum(int count) {
+            int sum = 0;
+            for (int i = count; i > 0; i -= i & -i) {
+                sum += tree[i];
+            }
+            return sum;
+        }
+
+        /**
+         * Finds the index of the weight that covers the given position, i.e.
+         * the smallest index whose prefix sum including itself is greater than
+         * the position.
+         */
+        private int find(int position) {
+            int index = 0;
+            int remaining = position;
+            for (int step = Integer
+                    .highestOneBit(tree.length - 1); step > 0; step >>= 1) {
+                int next = index + step;
+                if (next < tree.length && tree[next] <= remaining) {
+                    index = next;
+                    remaining -= tree[next];
+                }
+            }
+            return index;
+        }
+    }
+
+    /**
+     * Constructs a new IndexedHierarchyMapper.
+     *
+     * @param provider
+     *            the hierarchical data provider for this mapper
+     */
+    public IndexedHierarchyMapper(HierarchicalDataProvider<T, F> provider) {
+        super(provider);
+    }
+
+    @Override
+    public int getRootSize() {
+        return getRoot().children.size();
+    }
+
+    @Override
+    public int getTreeSize() {
+        return getRoot().visibleDescendants;
+    }
+
+    @Override
+    public Integer getParentIndex(T item) {
+        getRoot();
+        T parent = getParentOfItem(item);
+        return parent == null ? -1 : getIndexOf(parent).orElse(-1);
+    }
+
+    @Override
+    public Integer getIndex(T item) {
+        return getIndexOf(item).orElse(-1);
+    }
+
+    @Override
+    public Optional<Integer> getIndexOf(T target) {
+        if (target == null) {
+            return Optional.empty();
+        }
+        getRoot();
+        IndexNode<T> node = nodes.get(getDataProvider().getId(target));
+        return node == null ? Optional.empty() : Optional.of(indexOf(node));
+    }
+
+    @Override
+    public boolean expand(T item) {
+        boolean expanded = super.expand(item);
+        if (expanded) {
+            IndexNode<T> node = findLoadedNode(item);
+            if (node != null) {
+                loadChildren(node);
+                propagateSizeChange(node, node.visibleDescendants);
+            }
+        }
+        return expanded;
+    }
+
+    @Override
+    public Range expand(T item, Integer position) {
+        if (expand(item) && position != null) {
+            return Range.withLength(position + 1,
+                    getVisibleDescendantCount(item));
+        }
+        return Range.withLength(0, 0);
+    }
+
+    @Override
+    public boolean collapse(T item) {
+        boolean collapsed = super.collapse(item);
+        if (collapsed) {
+            unloadChildren(findLoadedNode(item));
+        }
+        return collapsed;
+    }
+
+    @Override
+    public Range collapse(T item, Integer position) {
+        Range removedRows = Range.withLength(0, 0);
+        if (isExpanded(item)) {
+            if (position != null) {
+                removedRows = Range.withLength(position + 1,
+                        getVisibleDescendantCount(item));
+            }
+            collapse(item);
+        }
+        return removedRows;
+    }
+
+    @Override
+    public void setInMemorySorting(Comparator<T> inMemorySorting) {
+        super.setInMemorySorting(inMemorySorting);
+        invalidateChildren(null);
+    }
+
+    @Override
+    public void setBackEndSorting(List<QuerySortOrder> backEndSorting) {
+        super.setBackEndSorting(backEndSorting);
+        invalidateChildren(null);
+    }
+
+    @Override
+    public void setFilter(Object filter) {
+        super.setFilter(filter);
+        invalidateChildren(null);
+    }
+
+    @Override
+    public Stream<T> fetchRootItems(Range range) {
+        return addPendingItems(getChildItems(getRoot(), range));
+    }
+
+    @Override
+    public Stream<T> fetchChildItems(T parent, Range range) {
+        IndexNode<T> node = parent == null ? getRoot()
+                : findIndexedNode(parent);
+        if (node == null || node.children == null) {
+            return super.fetchChildItems(parent, range);
+        }
+        return addPendingItems(getChildItems(node, range));
+    }
+
+    @Override
+    public int countChildItems(T parent) {
+        IndexNode<T> node = parent == null ? getRoot()
+                : findIndexedNode(parent);
+        if (node == null || node.children == null) {
+            return super.countChildItems(parent);
+        }
+        return node.children.size();
+    }
+
+    @Override
+    public Stream<T> fetchHierarchyItems(Range range) {
+        IndexNode<T> rootNode = getRoot();
+        int start = range.getStart();
+        if (range.isEmpty() || start >= rootNode.visibleDescendants) {
+            return Stream.empty();
+        }
+        int length = Math.min(range.length(),
+                rootNode.visibleDescendants - start);
+        List<T> items = new ArrayList<>(length);
+        IndexNode<T> node = findNode(rootNode, start);
+        while (node != null && items.size() < length) {
+            items.add(node.item);
+            node = nextVisible(node);
+        }
+        return addPendingItems(items.stream());
+    }
+
+    @Override
+    public void refreshItem(T item) {
+        super.refreshItem(item);
+        IndexNode<T> node = findLoadedNode(item);
+        if (node != null) {
+            node.item = item;
+        }
+    }
+
+    @Override
+    public void invalidateChildren(T item) {
+        super.invalidateChildren(item);
+        if (item == null) {
+            nodes.clear();
+            root = new IndexNode<>(null, null, -1);
+            return;
+        }
+        IndexNode<T> node = findLoadedNode(item);
+        if (node != null && node.children != null) {
+            unloadChildren(node);
+            if (isExpanded(item)) {
+                loadChildren(node);
+                propagateSizeChange(node, node.visibleDescendants);
+            }
+        }
+    }
+
+    @Override
+    protected void removeChildren(Object id) {
+        super.removeChildren(id);
+        IndexNode<T> node = id == null ? null : nodes.get(id);
+        if (node != null) {
+            unloadChildren(node);
+        }
+    }
+
+    private IndexNode<T> getRoot() {
+        if (root.children == null) {
+            loadChildren(root);
+        }
+        return root;
+    }
+
+    private IndexNode<T> findIndexedNode(T item) {
+        getRoot();
+        return findLoadedNode(item);
+    }
+
+    private Stream<T> getChildItems(IndexNode<T> node, Range range) {
+        int size = node.children.size();
+        int start = Math.min(range.getStart(), size);
+        int end = Math.max(start, Math.min(range.getEnd(), size));
+        return node.children.subList(start, end).stream()
+                .map(child -> child.item);
+    }
+
+    private IndexNode<T> findLoadedNode(T item) {
+        if (item == null || root.children == null) {
+            return null;
+        }
+        return nodes.get(getDataProvider().getId(item));
+    }
+
+    private int getVisibleDescendantCount(T item) {
+        IndexNode<T> node = findLoadedNode(item);
+        if (node != null && node.children != null) {
+            return node.visibleDescendants;
+        }
+        // Not part of the visible hierarchy, count without indexing
+        IndexNode<T> detached = new IndexNode<>(item, null, -1);
+        return countVisibleDescendants(detached);
+    }
+
+    private int countVisibleDescendants(IndexNode<T> node) {
+        if (!isExpanded(node.item)) {
+            return 0;
+        }
+        return fetchAllChildren(node.item).stream().mapToInt(child -> 1
+                + countVisibleDescendants(new IndexNode<>(child, node, -1)))
+                .sum();
+    }
+
+    /**
+     * Fetches the children of the expanded node and recursively the children of
+     * any expanded descendants, and indexes them.
+     */
+    private void loadChildren(IndexNode<T> node) {
+        List<T> childItems = fetchAllChildren(node.item);
+        if (childItems.isEmpty()) {
+            node.children = Collections.emptyList();
+            node.subtreeSizes = new FenwickTree(new int[0]);
+            node.visibleDescendants = 0;
+            if (node.item != null) {
+                super.removeChildren(getDataProvider().getId(node.item));
+            }
+            return;
+        }
+        registerChildren(node.item, childItems);
+
+        List<IndexNode<T>> children = new ArrayList<>(childItems.size());
+        int[] sizes = new int[childItems.size()];
+        int visibleDescendants = 0;
+        for (int i = 0; i < sizes.length; i++) {
+            T childItem = childItems.get(i);
+            IndexNode<T> child = new IndexNode<>(childItem, node, i);
+            nodes.put(getDataProvider().getId(childItem), child);
+            if (isExpanded(childItem)) {
+                loadChildren(child);
+            }
+            children.add(child);
+            sizes[i] = 1 + child.visibleDescendants;
+            visibleDescendants += sizes[i];
+        }
+        node.children = children;
+        node.subtreeSizes = new FenwickTree(sizes);
+        node.visibleDescendants = visibleDescendants;
+    }
+
+    private void unloadChildren(IndexNode<T> node) {
+        if (node == null || node.children == null) {
+            return;
+        }
+        int removed = node.visibleDescendants;
+        removeFromIndex(node.children);
+        node.children = null;
+        node.subtreeSizes = null;
+        node.visibleDescendants = 0;
+        propagateSizeChange(node, -removed);
+    }
+
+    private void removeFromIndex(List<IndexNode<T>> children) {
+        children.forEach(child -> {
+            nodes.remove(getDataProvider().getId(child.item));
+            if (child.children != null) {
+                removeFromIndex(child.children);
+            }
+        });
+    }
+
+    /**
+     * Updates the visible subtree sizes of all ancestors of the node after the
+     * number of its visible descendants has changed.
+     */
+    private void propagateSizeChange(IndexNode<T> node, int delta) {
+        if (delta == 0) {
+            return;
+        }
+        IndexNode<T> child = node;
+        IndexNode<T> parent = node.parent;
+        while (parent != null) {
+            parent.subtreeSizes.add(child.indexInParent, delta);
+            parent.visibleDescendants += delta;
+            child = parent;
+            parent = parent.parent;
+        }
+    }
+
+    private int indexOf(IndexNode<T> node) {
+        int index = 0;
+        IndexNode<T> current = node;
+        while (current.parent != null) {
+            index += current.parent.subtreeSizes
+                    .prefixSum(current.indexInParent);
+            if (current.parent.parent != null) {
+                // the parent itself precedes its children
+                index++;
+            }
+            current = current.parent;
+        }
+        return index;
+    }
+
+    private IndexNode<T> findNode(IndexNode<T> from, int index) {
+        IndexNode<T> node = from;
+        int remaining = index;
+        while (true) {
+            int childIndex = node.subtreeSizes.find(remaining);
+            IndexNode<T> child = node.children.get(childIndex);
+            remaining -= node.subtreeSizes.prefixSum(childIndex);
+            if (remaining == 0) {
+                return child;
+            }
+            // skip the child itself and continue within its subtree
+            remaining--;
+            node = child;
+        }
+    }
+
+    private IndexNode<T> nextVisible(IndexNode<T> node) {
+        if (node.hasVisibleChildren()) {
+            return node.children.get(0);
+        }
+        IndexNode<T> current = node;
+        while (current.parent != null) {
+            List<IndexNode<T>> siblings = current.parent.children;
+            if (current.indexInParent + 1 < siblings.size()) {
+                return siblings.get(current.indexInParent + 1);
+            }
+            current = current.parent;
+        }
+        return null;
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private List<T> fetchAllChildren(T parent) {
+        return ((Stream<T>) getDataProvider().fetchChildren(
+                new HierarchicalQuery(0, Integer.MAX_VALUE, getBackEndSorting(),
+                        getInMemorySorting(), getFilter(), parent)))
+                .collect(Collectors.toList());
+    }
+}
@@ -303,10 +303,13 @@ public class TreeData<T> implements Serializable {
             throw new IllegalArgumentException(
                     "Item '" + item + "' not in the hierarchy");
         }
-        new ArrayList<>(getChildren(item)).forEach(child -> removeItem(child));
-        itemToWrapperMap.get(itemToWrapperMap.get(item).getParent())
-                .removeChild(item);
+        HierarchyWrapper<T> wrapper = itemToWrapperMap.get(item);
+        // Descendants are dropped as a whole instead of being removed from
+        // their parents one by one, which would be quadratic for wide trees
+        removeDescendants(wrapper);
+        wrapper.getChildren().clear();
         if (item != null) {
+            itemToWrapperMap.get(wrapper.getParent()).removeChild(item);
             // remove non root item from backing map
             itemToWrapperMap.remove(item);
         }
@@ -480,6 +483,13 @@ public class TreeData<T> implements Serializable {
         itemToWrapperMap.put(item, wrappedItem);
     }
 
+    private void removeDescendants(HierarchyWrapper<T> wrapper) {
+        wrapper.getChildren().forEach(child -> {
+            removeDescendants(itemToWrapperMap.get(child));
+            itemToWrapperMap.remove(child);
+        });
+    }
+
     private void addItemsRecursively(Collection<T> items,
             ValueProvider<T, Collection<T>> childItemProvider) {
         items.forEach(item -> {
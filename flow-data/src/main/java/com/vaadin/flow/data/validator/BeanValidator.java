@@ -17,7 +17,10 @@
 package com.vaadin.flow.data.validator;
 
 import java.io.Serializable;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -27,11 +30,13 @@ import javax.validation.MessageInterpolator.Context;
 import javax.validation.Validation;
 import javax.validation.ValidatorFactory;
 import javax.validation.metadata.ConstraintDescriptor;
+import javax.validation.metadata.PropertyDescriptor;
 
 import com.vaadin.flow.data.binder.ValidationResult;
 import com.vaadin.flow.data.binder.Validator;
 import com.vaadin.flow.data.binder.ValueContext;
 import com.vaadin.flow.internal.BeanUtil;
+import com.vaadin.flow.internal.ReflectionCache;
 
 /**
  * A {@code Validator} using the JSR-303 (javax.validation) annotation-based
@@ -76,6 +81,10 @@ public class BeanValidator implements Validator<Object> {
 
     }
 
+    private static final ReflectionCache<Object, Map<String, PropertyDescriptor>> CONSTRAINED_PROPERTIES = new ReflectionCache<>(
+            type -> getConstrainedProperties(LazyFactoryInitializer.VALIDATOR,
+                    type));
+
     private String propertyName;
     private Class<?> beanType;
 
@@ -122,6 +131,9 @@ public class BeanValidator implements Validator<Object> {
      */
     @Override
     public ValidationResult apply(final Object value, ValueContext context) {
+        if (!isConstrained()) {
+            return ValidationResult.ok();
+        }
         Set<? extends ConstraintViolation<?>> violations = getJavaxBeanValidator()
                 .validateValue(beanType, propertyName, value);
 
@@ -140,6 +152,85 @@ public class BeanValidator implements Validator<Object> {
                 beanType.getSimpleName(), propertyName);
     }
 
+    /**
+     * Checks whether the validated property may have any constraints. Values of
+     * a property without constraints are always valid, so they are accepted
+     * without running the bean validation.
+     * <p>
+     * A property is constrained if it has constraints of its own, constraints
+     * on its container elements, such as {@code List<@Size(max = 2) String>},
+     * or if it is cascaded with {@code @Valid}. Returns {@code true} also when
+     * the constraints of a nested property can not be resolved from the bean
+     * metadata.
+     *
+     * @return {@code true} if the property may have constraints, {@code false}
+     *         if it is known to have none
+     * @since 23.2
+     */
+    public boolean isConstrained() {
+        Class<?> type = getPropertyOwnerType();
+        if (type == null) {
+            return true;
+        }
+        PropertyDescriptor descriptor = getConstrainedProperties(type)
+                .get(getLastPropertyName());
+        return descriptor != null && (descriptor.hasConstraints()
+                || !descriptor.getConstrainedContainerElementTypes().isEmpty()
+                || descriptor.isCascaded());
+    }
+
+    /**
+     * Gets the constraints declared for the validated property. The bean
+     * metadata is resolved once per bean type and shared by all validators
+     * using the default JSR-303 validator.
+     * <p>
+     * Only the constraints declared on the property itself are returned, not
+     * the constraints of its container elements.
+     * <p>
+     * An empty optional is returned if the constraints of a nested property can
+     * not be resolved, for instance because an intermediate property has no
+     * constraints and is not cascaded.
+     *
+     * @return the constraint descriptors of the property, or an empty optional
+     *         if they can not be resolved
+     * @since 23.2
+     */
+    public Optional<Set<ConstraintDescriptor<?>>> getConstraintDescriptors() {
+        Class<?> type = getPropertyOwnerType();
+        if (type == null) {
+            return Optional.empty();
+        }
+        PropertyDescriptor descriptor = getConstrainedProperties(type)
+                .get(getLastPropertyName());
+        if (descriptor == null) {
+            return Optional.of(Collections.emptySet());
+        }
+        return Optional.of(descriptor.getConstraintDescriptors());
+    }
+
+    /**
+     * Resolves the type declaring the last property of the property path, or
+     * {@code null} if an intermediate property is not known to the bean
+     * metadata.
+     */
+    private Class<?> getPropertyOwnerType() {
+        Class<?> type = beanType;
+        String[] path = propertyName.split("\\.");
+        for (int i = 0; i < path.length - 1; i++) {
+            PropertyDescriptor descriptor = getConstrainedProperties(type)
+                    .get(path[i]);
+            if (descriptor == null) {
+                return null;
+            }
+            type = descriptor.getElementClass();
+        }
+        return type;
+    }
+
+    private String getLastPropertyName() {
+        return propertyName.substring(propertyName.lastIndexOf('.') + 1);
+    }
+
     /**
      * Returns the underlying JSR-303 bean validator factory used. A factory is
      * created using {@link Validation} if necessary.
@@ -156,7 +247,7 @@ public class BeanValidator implements Validator<Object> {
      * @return the validator to use
      */
     public javax.validation.Validator getJavaxBeanValidator() {
-        return getJavaxBeanValidatorFactory().getValidator();
+        return LazyFactoryInitializer.VALIDATOR;
     }
 
     /**
@@ -188,8 +279,28 @@ public class BeanValidator implements Validator<Object> {
         return new ContextImpl(violation);
     }
 
+    private Map<String, PropertyDescriptor> getConstrainedProperties(
+            Class<?> type) {
+        javax.validation.Validator validator = getJavaxBeanValidator();
+        if (validator == LazyFactoryInitializer.VALIDATOR) {
+            return CONSTRAINED_PROPERTIES.get(type);
+        }
+        return getConstrainedProperties(validator, type);
+    }
+
+    private static Map<String, PropertyDescriptor> getConstrainedProperties(
+            javax.validation.Validator validator, Class<?> type) {
+        Map<String, PropertyDescriptor> properties = new HashMap<>();
+        validator.getConstraintsForClass(type).getConstrainedProperties()
+                .forEach(descriptor -> properties
+                        .put(descriptor.getPropertyName(), descriptor));
+        return Collections.unmodifiableMap(properties);
+    }
+
     private static class LazyFactoryInitializer implements Serializable {
         private static final ValidatorFactory FACTORY = getFactory();
+        private static final javax.validation.Validator VALIDATOR = FACTORY
+                .getValidator();
 
         private LazyFactoryInitializer() {
         }
@@ -17,10 +17,12 @@ package com.vaadin.flow.data.binder;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashSet;
@@ -306,4 +308,138 @@ public class BeanPropertySetTest {
         Assert.assertEquals(1, defs.size());
         Assert.assertEquals("name", defs.get(0).getName());
     }
+
+    @Test
+    public void getGetterAndSetter_flatProperties_valuesAccessed() {
+        PropertySet<Counter> set = BeanPropertySet.get(Counter.class);
+        Counter counter = new Counter();
+
+        Setter<Counter, Object> countSetter = (Setter<Counter, Object>) set
+                .getProperty("count").get().getSetter().get();
+        countSetter.accept(counter, 42);
+        Assert.assertEquals(42,
+                set.getProperty("count").get().getGetter().apply(counter));
+
+        Setter<Counter, Object> labelSetter = (Setter<Counter, Object>) set
+                .getProperty("label").get().getSetter().get();
+        labelSetter.accept(counter, "answer");
+        Assert.assertEquals("answer",
+                set.getProperty("label").get().getGetter().apply(counter));
+    }
+
+    @Test
+    public void getGetterAndSetter_nestedProperty_valuesAccessed() {
+        PropertySet<FatherAndSon> set = BeanPropertySet.get(FatherAndSon.class);
+        FatherAndSon father = new FatherAndSon("Old", "Man", null, null);
+        FatherAndSon son = new FatherAndSon("Young", "Man", father, null);
+        father.setSon(son);
+
+        PropertyDefinition<FatherAndSon, ?> nested = set
+                .getProperty("son.firstName").get();
+        Assert.assertEquals("Young", nested.getGetter().apply(father));
+
+        ((Setter<FatherAndSon, Object>) nested.getSetter().get()).accept(father,
+                "Junior");
+        Assert.assertEquals("Junior", son.getFirstName());
+    }
+
+    @Test
+    public void getGetter_nonPublicBeanClass_valueAccessed() {
+        PropertySet<HiddenBean> set = BeanPropertySet.get(HiddenBean.class);
+        Assert.assertEquals("hidden", set.getProperty("value").get().getGetter()
+                .apply(new HiddenBean()));
+    }
+
+    @Test
+    public void getGetter_getterThrows_exceptionWrapped() {
+        PropertySet<Counter> set = BeanPropertySet.get(Counter.class);
+        try {
+            set.getProperty("failing").get().getGetter().apply(new Counter());
+            Assert.fail("Exception should be thrown");
+        } catch (RuntimeException e) {
+            Assert.assertTrue(
+                    e.getCause() instanceof InvocationTargetException);
+            Assert.assertTrue(e.getCause()
+                    .getCause() instanceof UnsupportedOperationException);
+        }
+    }
+
+    @Test
+    public void getGetterAndSetter_accessorsThrowCheckedException_exceptionWrapped() {
+        PropertySet<Counter> set = BeanPropertySet.get(Counter.class);
+        PropertyDefinition<Counter, ?> checked = set.getProperty("checked")
+                .get();
+        try {
+            checked.getGetter().apply(new Counter());
+            Assert.fail("Exception should be thrown");
+        } catch (RuntimeException e) {
+            Assert.assertTrue(
+                    e.getCause() instanceof InvocationTargetException);
+            Assert.assertTrue(e.getCause().getCause() instanceof IOException);
+        }
+        try {
+            ((Setter<Counter, Object>) checked.getSetter().get())
+                    .accept(new Counter(), "value");
+            Assert.fail("Exception should be thrown");
+        } catch (RuntimeException e) {
+            Assert.assertTrue(
+                    e.getCause() instanceof InvocationTargetException);
+            Assert.assertTrue(e.getCause().getCause() instanceof IOException);
+        }
+    }
+
+    @Test
+    public void getGetterAndSetter_wrongBeanOrValueType_illegalArgumentException() {
+        PropertySet<Counter> set = BeanPropertySet.get(Counter.class);
+        ValueProvider<Object, ?> getter = (ValueProvider<Object, ?>) (ValueProvider<?, ?>) set
+                .getProperty("label").get().getGetter();
+        Setter<Object, Object> setter = (Setter<Object, Object>) (Setter<?, ?>) set
+                .getProperty("count").get().getSetter().get();
+
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> getter.apply("not a counter"));
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> setter.accept("not a counter", 1));
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> setter.accept(new Counter(), "not a number"));
+    }
+
+    public static class Counter {
+        private int count;
+        private String label;
+
+        public int getCount() {
+            return count;
+        }
+
+        public void setCount(int count) {
+            this.count = count;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        public void setLabel(String label) {
+            this.label = label;
+        }
+
+        public String getFailing() {
+            throw new UnsupportedOperationException();
+        }
+
+        public String getChecked() throws IOException {
+            throw new IOException();
+        }
+
+        public void setChecked(String checked) throws IOException {
+            throw new IOException();
+        }
+    }
+
+    static class HiddenBean {
+        public String getValue() {
+            return "hidden";
+        }
+    }
 }
@@ -20,7 +20,10 @@ import java.io.Serializable;
 import java.math.BigDecimal;
 import java.text.DecimalFormat;
 import java.text.NumberFormat;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
@@ -128,6 +131,89 @@ public class BinderTest extends BinderTestBase<Binder<Person>, Person> {
         assertEquals("Age field not empty", "", ageField.getValue());
     }
 
+    @Test
+    public void setBean_validatorWithDependencies_onlyRerunForDependencyChanges() {
+        Binding<Person, String> nameBinding = binder.forField(nameField)
+                .bind(Person::getFirstName, Person::setFirstName);
+        Binding<Person, Integer> ageBinding = binder.forField(ageField)
+                .withConverter(new StringToIntegerConverter(""))
+                .bind(Person::getAge, Person::setAge);
+        AtomicInteger nameValidations = new AtomicInteger();
+        AtomicInteger ageValidations = new AtomicInteger();
+        AtomicInteger undeclaredValidations = new AtomicInteger();
+        binder.withValidator(Validator.from(bean -> {
+            nameValidations.incrementAndGet();
+            return !bean.getFirstName().isEmpty();
+        }, "Name required"), Collections.singleton(nameBinding));
+        binder.withValidator(Validator.from(bean -> {
+            ageValidations.incrementAndGet();
+            return bean.getAge() < 150;
+        }, "Too old"), Collections.singleton(ageBinding));
+        binder.withValidator(bean -> {
+            undeclaredValidations.incrementAndGet();
+            return true;
+        }, "");
+        binder.setBean(item);
+
+        nameField.setValue("Jo");
+        assertEquals(1, nameValidations.get());
+        assertEquals(1, ageValidations.get());
+        assertEquals(1, undeclaredValidations.get());
+
+        nameField.setValue("John");
+        assertEquals(2, nameValidations.get());
+        assertEquals("Age validator should not rerun", 1, ageValidations.get());
+        assertEquals(2, undeclaredValidations.get());
+
+        ageField.setValue("200");
+        assertEquals(2, nameValidations.get());
+        assertEquals(2, ageValidations.get());
+        assertEquals(32, item.getAge());
+
+        // Rejected changes stay pending, so their validators keep running
+        List<BinderValidationStatus<Person>> statuses = new ArrayList<>();
+        binder.setValidationStatusHandler(statuses::add);
+        nameField.setValue("");
+        assertEquals(3, nameValidations.get());
+        assertEquals(3, ageValidations.get());
+        assertEquals(2, statuses.get(0).getBeanValidationErrors().size());
+
+        ageField.setValue("40");
+        nameField.setValue("Jane");
+        assertEquals(40, item.getAge());
+        assertEquals("Jane", item.getFirstName());
+        assertTrue(statuses.get(statuses.size() - 1).isOk());
+
+        // Full validation always runs every validator
+        int ageCount = ageValidations.get();
+        binder.validate();
+        assertEquals(ageCount + 1, ageValidations.get());
+    }
+
+    @Test
+    public void setBean_newBean_cachedValidatorResultsDiscarded() {
+        binder.forField(nameField).bind(Person::getFirstName,
+                Person::setFirstName);
+        Binding<Person, Integer> ageBinding = binder.forField(ageField)
+                .withConverter(new StringToIntegerConverter(""))
+                .bind(Person::getAge, Person::setAge);
+        binder.withValidator(
+                Validator.from(bean -> bean.getAge() < 150, "Too old"),
+                Collections.singleton(ageBinding));
+        binder.setBean(item);
+        nameField.setValue("Jo");
+        assertEquals("Jo", item.getFirstName());
+
+        Person other = new Person();
+        other.setFirstName("Old");
+        other.setAge(200);
+        binder.setBean(other);
+        nameField.setValue("New");
+
+        assertEquals("Age validator should run for the new bean", "Old",
+                other.getFirstName());
+    }
+
     @Test
     public void removeInvalidBinding_validateDoesNotThrow() {
         binder.forField(nameField).bind(Person::getFirstName,
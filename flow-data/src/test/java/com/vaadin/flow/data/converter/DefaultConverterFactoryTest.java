@@ -18,14 +18,17 @@ package com.vaadin.flow.data.converter;
 import java.io.IOException;
 import java.lang.reflect.Modifier;
 import java.sql.Timestamp;
+import java.text.NumberFormat;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -48,6 +51,29 @@ public class DefaultConverterFactoryTest {
         assertThatConversionIsNotSupported(String.class, Timestamp.class);
     }
 
+    @Test
+    public void getFormat_sameKeyAndLocale_formatCreatedOnceAndCopied() {
+        AtomicInteger created = new AtomicInteger();
+        String key = DefaultConverterFactoryTest.class.getName();
+        NumberFormat first = factory.getFormat(key, Locale.GERMANY, locale -> {
+            created.incrementAndGet();
+            return NumberFormat.getNumberInstance(locale);
+        });
+        first.setMaximumFractionDigits(0);
+        NumberFormat second = factory.getFormat(key, Locale.GERMANY, locale -> {
+            created.incrementAndGet();
+            return NumberFormat.getNumberInstance(locale);
+        });
+
+        Assert.assertEquals(1, created.get());
+        Assert.assertNotSame(first, second);
+        Assert.assertEquals("1,5", second.format(1.5));
+
+        Assert.assertEquals("1.5", factory
+                .getFormat(key, Locale.US, NumberFormat::getNumberInstance)
+                .format(1.5));
+    }
+
     @Test
     public void newInstance_knownConversion_converterCreated()
             throws IOException {
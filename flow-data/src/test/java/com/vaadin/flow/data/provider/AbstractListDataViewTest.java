@@ -23,6 +23,7 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -125,6 +126,44 @@ public class AbstractListDataViewTest {
                 dataView.getPreviousItem("first").isPresent());
     }
 
+    @Test
+    public void getNextItem_repeatedLookups_itemsFetchedOnce() {
+        AtomicInteger fetchCount = new AtomicInteger();
+        dataProvider = new ListDataProvider<String>(items) {
+            @Override
+            public Stream<String> fetch(
+                    Query<String, SerializablePredicate<String>> query) {
+                fetchCount.incrementAndGet();
+                return super.fetch(query);
+            }
+        };
+
+        Assert.assertEquals("middle", dataView.getNextItem("first").get());
+        Assert.assertEquals("last", dataView.getNextItem("middle").get());
+        Assert.assertEquals("middle", dataView.getPreviousItem("last").get());
+        Assert.assertEquals(1, fetchCount.get());
+    }
+
+    @Test
+    public void getNextItem_sortFilterAndItemsChanged_indexUpdated() {
+        Assert.assertEquals("last", dataView.getNextItem("middle").get());
+
+        dataView.setSortOrder(ValueProvider.identity(),
+                SortDirection.ASCENDING);
+        Assert.assertEquals("middle", dataView.getNextItem("last").get());
+        Assert.assertFalse(dataView.getNextItem("middle").isPresent());
+
+        dataView.setFilter(item -> !item.equals("last"));
+        Assert.assertEquals("middle", dataView.getNextItem("first").get());
+
+        dataView.addItem("new");
+        Assert.assertEquals("new", dataView.getNextItem("middle").get());
+        Assert.assertEquals("middle", dataView.getPreviousItem("new").get());
+
+        dataView.removeItem("middle");
+        Assert.assertEquals("new", dataView.getNextItem("first").get());
+    }
+
     @Test
     public void setFilter_filterIsSet_filteredItemsObtained() {
         Assert.assertEquals(items.size(), dataView.getItemCount());
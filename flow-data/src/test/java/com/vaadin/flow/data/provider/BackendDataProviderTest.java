@@ -15,13 +15,19 @@
  */
 package com.vaadin.flow.data.provider;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.junit.Assert;
+import org.junit.Test;
+
 import com.vaadin.flow.function.SerializablePredicate;
 
 public class BackendDataProviderTest extends
@@ -79,4 +85,33 @@ public class BackendDataProviderTest extends
         getDataProvider().setSortOrders(sortOrder);
     }
 
+    @Test
+    public void getPreviousSortKey_sortOrdersMixedIn_previousItemRetained() {
+        List<Optional<String>> previousKeys = new ArrayList<>();
+        AbstractBackEndDataProvider<StrBean, Void> keysetDataProvider = new AbstractBackEndDataProvider<StrBean, Void>() {
+            @Override
+            protected Stream<StrBean> fetchFromBackEnd(
+                    Query<StrBean, Void> query) {
+                previousKeys.add(getPreviousSortKey(query, StrBean::getValue));
+                return Stream.empty();
+            }
+
+            @Override
+            protected int sizeInBackEnd(Query<StrBean, Void> query) {
+                return 0;
+            }
+        };
+        keysetDataProvider.setSortOrders(QuerySortOrder.asc("value").build());
+
+        StrBean previous = data.get(0);
+        keysetDataProvider.fetch(new Query<>(10, 10, Collections.emptyList(),
+                null, null, previous));
+        keysetDataProvider.fetch(
+                new Query<>(10, 10, Collections.emptyList(), null, null));
+
+        Assert.assertEquals(Optional.of(previous.getValue()),
+                previousKeys.get(0));
+        Assert.assertEquals(Optional.empty(), previousKeys.get(1));
+    }
+
 }
@@ -1279,6 +1279,131 @@ public class DataCommunicatorTest {
                 .fetch(Mockito.any(Query.class));
     }
 
+    @Test
+    public void fetchFromProvider_pageSizeLessThanLimit_previousItemOfEachPagePassed() {
+        AbstractDataProvider<Item, Object> dataProvider = createDataProvider(
+                100);
+        dataProvider = Mockito.spy(dataProvider);
+
+        dataCommunicator.setPageSize(10);
+        dataCommunicator.setDataProvider(dataProvider, null);
+        dataCommunicator.fetchFromProvider(0, 30);
+
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor
+                .forClass(Query.class);
+        Mockito.verify(dataProvider, Mockito.times(3))
+                .fetch(queryCaptor.capture());
+
+        List<Query> allQueries = queryCaptor.getAllValues();
+        Assert.assertFalse(allQueries.get(0).getPreviousItem().isPresent());
+        Assert.assertEquals(new Item(9),
+                allQueries.get(1).getPreviousItem().get());
+        Assert.assertEquals(new Item(19),
+                allQueries.get(2).getPreviousItem().get());
+    }
+
+    @Test
+    public void setRequestedRange_rangeContinuesActiveRange_previousItemPassed() {
+        List<Query<Item, Object>> queries = new ArrayList<>();
+        dataCommunicator.setDataProvider(createKeysetDataProvider(queries),
+                null);
+
+        dataCommunicator.setRequestedRange(0, 50);
+        fakeClientCommunication();
+        Assert.assertFalse(queries.get(0).getPreviousItem().isPresent());
+
+        queries.clear();
+        dataCommunicator.setRequestedRange(25, 50);
+        fakeClientCommunication();
+
+        Assert.assertEquals(1, queries.size());
+        Assert.assertEquals(50, queries.get(0).getOffset());
+        Assert.assertEquals(new Item(49),
+                queries.get(0).getPreviousItem().get());
+        Assert.assertEquals(Range.withLength(50, 25), lastSet);
+        Assert.assertEquals(new Item(74), dataCommunicator.getItem(74));
+    }
+
+    @Test
+    public void fetchFromProvider_calledDuringKeysetActivation_noPreviousItemPassed() {
+        List<Query<Item, Object>> queries = new ArrayList<>();
+        AbstractDataProvider<Item, Object> keysetDataProvider = createKeysetDataProvider(
+                queries);
+        List<Query<Item, Object>> nestedQueries = new ArrayList<>();
+        dataCommunicator
+                .setDataProvider(new AbstractDataProvider<Item, Object>() {
+                    @Override
+                    public boolean isInMemory() {
+                        return false;
+                    }
+
+                    @Override
+                    public int size(Query<Item, Object> query) {
+                        return keysetDataProvider.size(query);
+                    }
+
+                    @Override
+                    public Stream<Item> fetch(Query<Item, Object> query) {
+                        if (query.getPreviousItem().isPresent()
+                                && nestedQueries.isEmpty()) {
+                            // Another fetch overlapping the activation
+                            nestedQueries.add(query);
+                            dataCommunicator.fetchFromProvider(0, 1).count();
+                        }
+                        return keysetDataProvider.fetch(query);
+                    }
+                }, null);
+
+        dataCommunicator.setRequestedRange(0, 50);
+        fakeClientCommunication();
+        queries.clear();
+        dataCommunicator.setRequestedRange(25, 50);
+        fakeClientCommunication();
+
+        Assert.assertEquals(1, nestedQueries.size());
+        Assert.assertEquals(2, queries.size());
+        Assert.assertFalse(queries.get(0).getPreviousItem().isPresent());
+        Assert.assertEquals(new Item(49),
+                queries.get(1).getPreviousItem().get());
+        Assert.assertEquals(new Item(74), dataCommunicator.getItem(74));
+    }
+
+    @Test
+    public void setRequestedRange_rangeDoesNotContinueActiveRange_noPreviousItem() {
+        List<Query<Item, Object>> queries = new ArrayList<>();
+        dataCommunicator.setDataProvider(createKeysetDataProvider(queries),
+                null);
+
+        dataCommunicator.setRequestedRange(0, 50);
+        fakeClientCommunication();
+
+        queries.clear();
+        dataCommunicator.setRequestedRange(300, 50);
+        fakeClientCommunication();
+
+        Assert.assertEquals(1, queries.size());
+        Assert.assertEquals(300, queries.get(0).getOffset());
+        Assert.assertFalse(queries.get(0).getPreviousItem().isPresent());
+    }
+
+    @Test
+    public void setRequestedRange_sortingChanged_noPreviousItem() {
+        List<Query<Item, Object>> queries = new ArrayList<>();
+        dataCommunicator.setDataProvider(createKeysetDataProvider(queries),
+                null);
+
+        dataCommunicator.setRequestedRange(0, 50);
+        fakeClientCommunication();
+
+        queries.clear();
+        dataCommunicator.setBackEndSorting(QuerySortOrder.desc("id").build());
+        dataCommunicator.setRequestedRange(50, 50);
+        fakeClientCommunication();
+
+        Assert.assertEquals(1, queries.size());
+        Assert.assertFalse(queries.get(0).getPreviousItem().isPresent());
+    }
+
     @Test
     public void fetchEnabled_getItemCount_stillReturnsItemsCount() {
         dataCommunicator.setFetchEnabled(false);
@@ -1667,6 +1792,31 @@ public class DataCommunicatorTest {
         };
     }
 
+    private AbstractDataProvider<Item, Object> createKeysetDataProvider(
+            List<Query<Item, Object>> queries) {
+        return new AbstractDataProvider<Item, Object>() {
+            @Override
+            public boolean isInMemory() {
+                return false;
+            }
+
+            @Override
+            public int size(Query<Item, Object> query) {
+                return 1000;
+            }
+
+            @Override
+            public Stream<Item> fetch(Query<Item, Object> query) {
+                queries.add(query);
+                // Seek after the previous item instead of skipping the offset
+                int start = query.getPreviousItem().map(item -> item.id + 1)
+                        .orElseGet(query::getOffset);
+                return IntStream.range(start, start + query.getLimit())
+                        .mapToObj(Item::new);
+            }
+        };
+    }
+
     private AbstractDataProvider<Item, Object> createDataProvider(int size) {
         return new AbstractDataProvider<Item, Object>() {
             @Override
@@ -18,13 +18,22 @@ package com.vaadin.flow.data.provider;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.apache.commons.lang3.SerializationUtils;
 import org.junit.Assert;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
 
 import com.vaadin.flow.function.SerializableComparator;
+import com.vaadin.flow.function.SerializablePredicate;
+import com.vaadin.flow.server.ServiceDestroyListener;
+import com.vaadin.flow.server.VaadinService;
 
 public class ListDataProviderTest
         extends DataProviderTestBase<ListDataProvider<StrBean>> {
@@ -232,6 +241,104 @@ public class ListDataProviderTest
         assertSizeWithFilter(0, filteringBy, "oo");
     }
 
+    @Test
+    public void parallelProcessing_sameResultAsSequential() {
+        List<StrBean> beans = StrBean.generateRandomBeans(20_000);
+        ListDataProvider<StrBean> sequential = DataProvider
+                .ofCollection(beans);
+        ListDataProvider<StrBean> parallel = DataProvider.ofCollection(beans);
+        parallel.setParallelProcessingEnabled(true);
+        parallel.setParallelProcessingThreshold(0);
+
+        // Only compares value, so that stability of the sort matters
+        SerializableComparator<StrBean> byValue = (bean1, bean2) -> bean1
+                .getValue().compareTo(bean2.getValue());
+        sequential.setSortComparator(byValue);
+        parallel.setSortComparator(byValue);
+
+        Query<StrBean, SerializablePredicate<StrBean>> query = new Query<>(100,
+                5_000, null, null, bean -> bean.getRandomNumber() % 3 != 0);
+
+        Stream<StrBean> parallelItems = parallel.fetch(query);
+        Assert.assertFalse(parallelItems.isParallel());
+        Assert.assertEquals(sequential.fetch(query).collect(Collectors.toList()),
+                parallelItems.collect(Collectors.toList()));
+        Assert.assertEquals(sequential.size(query), parallel.size(query));
+    }
+
+    @Test
+    public void parallelProcessing_notRunInCommonPool() {
+        ListDataProvider<StrBean> dataProvider = DataProvider
+                .ofCollection(StrBean.generateRandomBeans(20_000));
+        dataProvider.setParallelProcessingEnabled(true);
+        dataProvider.setParallelProcessingThreshold(0);
+
+        Assert.assertEquals(0, dataProvider.size(new Query<>(
+                bean -> ForkJoinTask.getPool() == ForkJoinPool.commonPool())));
+    }
+
+    @Test
+    public void parallelProcessing_serviceDestroyed_poolShutDown() {
+        ListDataProvider<StrBean> dataProvider = DataProvider
+                .ofCollection(StrBean.generateRandomBeans(20_000));
+        dataProvider.setParallelProcessingEnabled(true);
+        dataProvider.setParallelProcessingThreshold(0);
+        VaadinService service = Mockito.mock(VaadinService.class);
+        VaadinService.setCurrent(service);
+        try {
+            AtomicReference<ForkJoinPool> pool = new AtomicReference<>();
+            dataProvider.size(new Query<>(bean -> {
+                pool.compareAndSet(null, ForkJoinTask.getPool());
+                return true;
+            }));
+            ArgumentCaptor<ServiceDestroyListener> listener = ArgumentCaptor
+                    .forClass(ServiceDestroyListener.class);
+            Mockito.verify(service)
+                    .addServiceDestroyListener(listener.capture());
+
+            listener.getValue().serviceDestroy(null);
+
+            Assert.assertTrue(pool.get().isShutdown());
+            // A new pool is created if the provider is still used
+            Assert.assertEquals(20_000,
+                    dataProvider.size(new Query<>(bean -> true)));
+        } finally {
+            VaadinService.setCurrent(null);
+        }
+    }
+
+    @Test
+    public void parallelProcessing_belowThreshold_processedSequentially() {
+        ListDataProvider<StrBean> dataProvider = getDataProvider();
+        dataProvider.setParallelProcessingEnabled(true);
+        dataProvider.setParallelProcessingThreshold(data.size() + 1);
+
+        Thread caller = Thread.currentThread();
+        Assert.assertEquals(data.size(), dataProvider
+                .size(new Query<>(bean -> Thread.currentThread() == caller)));
+    }
+
+    @Test
+    public void parallelProcessing_caseInsensitiveFilter_localeResolvedOnCallingThread() {
+        ListDataProvider<StrBean> dataProvider = DataProvider
+                .ofCollection(StrBean.generateRandomBeans(20_000));
+        dataProvider.setParallelProcessingEnabled(true);
+        dataProvider.setParallelProcessingThreshold(0);
+
+        Thread caller = Thread.currentThread();
+        DataProvider<StrBean, String> filteringBy = InMemoryDataProviderHelpers
+                .filteringByCaseInsensitiveString(dataProvider,
+                        StrBean::getValue, String::contains, () -> {
+                            Assert.assertSame(caller, Thread.currentThread());
+                            return Locale.ENGLISH;
+                        });
+
+        Assert.assertEquals(dataProvider.getItems().stream()
+                .filter(bean -> bean.getValue().toLowerCase(Locale.ENGLISH)
+                        .contains("oo"))
+                .count(), filteringBy.size(new Query<>("OO")));
+    }
+
     @Override
     protected void setSortOrder(List<QuerySortOrder> sortOrder,
             Comparator<StrBean> comp) {
@@ -20,7 +20,9 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
@@ -288,6 +290,120 @@ public class HierarchyMapperWithDataTest {
         expandedItems.add(new TreeNode("third-1"));
     }
 
+    @Test
+    public void hasChildren_fetchedItems_resolvedWithSingleBatchRequest() {
+        AtomicInteger singleCalls = new AtomicInteger();
+        AtomicInteger batchCalls = new AtomicInteger();
+        mapper = new HierarchyMapper<>(new TreeDataProvider<Node>(data) {
+            @Override
+            public boolean hasChildren(Node item) {
+                singleCalls.incrementAndGet();
+                return super.hasChildren(item);
+            }
+
+            @Override
+            public Map<Object, Boolean> hasChildrenBatch(
+                    Collection<Node> items) {
+                batchCalls.incrementAndGet();
+                return super.hasChildrenBatch(items);
+            }
+        });
+
+        List<Node> fetched = mapper
+                .fetchRootItems(Range.withLength(0, ROOT_COUNT))
+                .collect(Collectors.toList());
+        singleCalls.set(0);
+        fetched.forEach(item -> assertTrue(mapper.hasChildren(item)));
+
+        assertEquals(1, batchCalls.get());
+        assertEquals("Per-item lookups should be answered from the batch",
+                ROOT_COUNT, singleCalls.get());
+
+        singleCalls.set(0);
+        assertTrue(mapper.hasChildren(fetched.get(0)));
+        assertEquals("Consumed results should fall back to per-item lookup", 1,
+                singleCalls.get());
+        assertEquals(1, batchCalls.get());
+    }
+
+    @Test
+    public void countChildItems_fetchedExpandedItems_resolvedWithSingleBatchRequest() {
+        AtomicInteger singleCalls = new AtomicInteger();
+        AtomicInteger batchCalls = new AtomicInteger();
+        mapper = new HierarchyMapper<>(new TreeDataProvider<Node>(data) {
+            @Override
+            public int getChildCount(
+                    HierarchicalQuery<Node, SerializablePredicate<Node>> query) {
+                singleCalls.incrementAndGet();
+                return super.getChildCount(query);
+            }
+
+            @Override
+            public Map<Object, Integer> getChildCountBatch(
+                    Collection<Node> parents,
+                    SerializablePredicate<Node> filter) {
+                batchCalls.incrementAndGet();
+                return super.getChildCountBatch(parents, filter);
+            }
+        });
+        roots.forEach(mapper::expand);
+
+        mapper.fetchRootItems(Range.withLength(0, ROOT_COUNT))
+                .forEach(root -> assertEquals(PARENT_COUNT,
+                        mapper.countChildItems(root)));
+        assertEquals(1, batchCalls.get());
+
+        assertEquals(ROOT_COUNT,
+                mapper.fetchRootItems(Range.withLength(0, ROOT_COUNT)).count());
+        mapper.setFilter(
+                (SerializablePredicate<Node>) node -> node.getNumber() < 4);
+        singleCalls.set(0);
+        int filteredCount = mapper.countChildItems(roots.get(0));
+        assertEquals("Filter change should discard batched counts", 1,
+                singleCalls.get());
+        assertEquals(1, filteredCount);
+    }
+
+    @Test
+    public void hasChildren_itemRefreshedOrRoundTripEnded_batchedResultsDiscarded() {
+        AtomicInteger singleCalls = new AtomicInteger();
+        AtomicInteger batchCalls = new AtomicInteger();
+        mapper = new HierarchyMapper<>(new TreeDataProvider<Node>(data) {
+            @Override
+            public boolean hasChildren(Node item) {
+                singleCalls.incrementAndGet();
+                return super.hasChildren(item);
+            }
+
+            @Override
+            public Map<Object, Boolean> hasChildrenBatch(
+                    Collection<Node> items) {
+                batchCalls.incrementAndGet();
+                return super.hasChildrenBatch(items);
+            }
+        });
+
+        List<Node> fetched = mapper
+                .fetchRootItems(Range.withLength(0, ROOT_COUNT))
+                .collect(Collectors.toList());
+        assertTrue(mapper.hasChildren(fetched.get(0)));
+        assertEquals(1, batchCalls.get());
+
+        mapper.refreshItem(fetched.get(1));
+        singleCalls.set(0);
+        assertTrue(mapper.hasChildren(fetched.get(1)));
+        assertEquals("Item refresh should discard batched results", 1,
+                singleCalls.get());
+
+        mapper.fetchRootItems(Range.withLength(0, ROOT_COUNT)).count();
+        mapper.clearBatchedChildInformation();
+        singleCalls.set(0);
+        assertTrue(mapper.hasChildren(fetched.get(2)));
+        assertEquals("End of round trip should discard pending items", 1,
+                singleCalls.get());
+        assertEquals(1, batchCalls.get());
+    }
+
     private void expand(Node node) {
         insertRows(mapper.expand(node, mapper.getIndexOf(node).orElse(null)));
     }
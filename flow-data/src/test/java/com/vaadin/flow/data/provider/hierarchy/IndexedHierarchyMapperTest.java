@@ -0,0 +1,241 @@
+/*
+ * Copyright 2000-2022 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.data.provider.hierarchy;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.vaadin.flow.function.SerializablePredicate;
+import com.vaadin.flow.internal.Range;
+
+public class IndexedHierarchyMapperTest {
+
+    private static final int ROOT_COUNT = 10;
+    private static final int PARENT_COUNT = 7;
+    private static final int LEAF_COUNT = 5;
+
+    private TreeData<Node> data;
+    private TreeDataProvider<Node> provider;
+    private List<Node> testData;
+
+    private HierarchyMapper<Node, SerializablePredicate<Node>> expected;
+    private IndexedHierarchyMapper<Node, SerializablePredicate<Node>> mapper;
+
+    @Before
+    public void setup() {
+        testData = HierarchyMapperWithDataTest.generateTestData(ROOT_COUNT,
+                PARENT_COUNT, LEAF_COUNT);
+        List<Node> roots = testData.stream()
+                .filter(item -> item.getParent() == null)
+                .collect(Collectors.toList());
+        data = new TreeData<>();
+        data.addItems(roots,
+                parent -> testData.stream().filter(
+                        item -> Objects.equals(item.getParent(), parent))
+                        .collect(Collectors.toList()));
+        provider = new TreeDataProvider<>(data);
+
+        expected = new HierarchyMapper<>(provider);
+        mapper = new IndexedHierarchyMapper<>(provider);
+    }
+
+    @Test
+    public void randomExpandAndCollapse_sameHierarchyAsNonIndexedMapper() {
+        Random random = new Random(42);
+        for (int i = 0; i < 200; i++) {
+            Node node = testData.get(random.nextInt(testData.size()));
+            Integer position = expected.getIndex(node);
+            Range expectedRange;
+            Range range;
+            if (random.nextBoolean()) {
+                expectedRange = expected.expand(node, position);
+                range = mapper.expand(node, position);
+            } else {
+                expectedRange = expected.collapse(node, position);
+                range = mapper.collapse(node, position);
+            }
+            Assert.assertEquals(expectedRange, range);
+            assertSameHierarchy();
+        }
+    }
+
+    @Test
+    public void fetchHierarchyItems_rangeInsideExpandedSubtrees_sameItemsAsNonIndexedMapper() {
+        testData.stream().filter(node -> node.getNumber() % 3 == 0)
+                .forEach(node -> {
+                    expected.expand(node);
+                    mapper.expand(node);
+                });
+
+        int size = expected.getTreeSize();
+        for (int start = 0; start < size; start += 7) {
+            Range range = Range.withLength(start, 13);
+            Assert.assertEquals(
+                    expected.fetchHierarchyItems(range)
+                            .collect(Collectors.toList()),
+                    mapper.fetchHierarchyItems(range)
+                            .collect(Collectors.toList()));
+        }
+        Assert.assertEquals(0,
+                mapper.fetchHierarchyItems(Range.withLength(size, 10)).count());
+    }
+
+    @Test
+    public void sortingChanged_indexRebuilt() {
+        testData.stream().filter(node -> node.getParent() == null)
+                .forEach(node -> {
+                    expected.expand(node);
+                    mapper.expand(node);
+                });
+        assertSameHierarchy();
+
+        Comparator<Node> reversed = Comparator.comparing(Node::getNumber,
+                Comparator.reverseOrder());
+        expected.setInMemorySorting(reversed);
+        mapper.setInMemorySorting(reversed);
+
+        assertSameHierarchy();
+    }
+
+    @Test
+    public void childrenChanged_invalidateChildren_indexUpdated() {
+        Node root = testData.get(0);
+        expected.expand(root);
+        mapper.expand(root);
+        assertSameHierarchy();
+
+        Node added = new Node(-1, root);
+        data.addItem(root, added);
+        mapper.invalidateChildren(root);
+
+        assertSameHierarchy();
+        Assert.assertEquals(PARENT_COUNT + 1,
+                mapper.getIndex(added).intValue());
+    }
+
+    @Test
+    public void collapsedAncestor_expandHiddenNode_notIndexed() {
+        Node root = testData.get(0);
+        Node parent = testData.get(1);
+        Assert.assertEquals(root, parent.getParent());
+
+        expected.expand(parent);
+        mapper.expand(parent);
+        Assert.assertEquals(-1, mapper.getIndex(parent).intValue());
+        Assert.assertEquals(ROOT_COUNT, mapper.getTreeSize());
+
+        expected.expand(root);
+        mapper.expand(root);
+        assertSameHierarchy();
+        Assert.assertEquals(ROOT_COUNT + PARENT_COUNT + LEAF_COUNT,
+                mapper.getTreeSize());
+    }
+
+    @Test
+    public void fetchRootAndChildItems_servedFromIndex() {
+        AtomicInteger fetchCount = new AtomicInteger();
+        TreeDataProvider<Node> countingProvider = new TreeDataProvider<Node>(
+                data) {
+            @Override
+            public Stream<Node> fetchChildren(
+                    HierarchicalQuery<Node, SerializablePredicate<Node>> query) {
+                fetchCount.incrementAndGet();
+                return super.fetchChildren(query);
+            }
+        };
+        mapper = new IndexedHierarchyMapper<>(countingProvider);
+        Node root = testData.get(0);
+        expected.expand(root);
+        mapper.expand(root);
+
+        for (int start = 0; start < ROOT_COUNT; start += 3) {
+            Range range = Range.withLength(start, 4);
+            Assert.assertEquals(
+                    expected.fetchRootItems(range).collect(Collectors.toList()),
+                    mapper.fetchRootItems(range).collect(Collectors.toList()));
+        }
+        Range childRange = Range.withLength(2, PARENT_COUNT);
+        Assert.assertEquals(
+                expected.fetchChildItems(root, childRange)
+                        .collect(Collectors.toList()),
+                mapper.fetchChildItems(root, childRange)
+                        .collect(Collectors.toList()));
+        Assert.assertEquals(ROOT_COUNT, mapper.getRootSize());
+        Assert.assertEquals(PARENT_COUNT, mapper.countChildItems(root));
+        Assert.assertEquals(2, fetchCount.get());
+
+        // Children of a collapsed item are not indexed
+        Node parent = testData.get(1);
+        Assert.assertEquals(expected.countChildItems(parent),
+                mapper.countChildItems(parent));
+        Assert.assertEquals(0, mapper
+                .fetchChildItems(parent, Range.withLength(0, 10)).count());
+    }
+
+    @Test
+    public void itemRefreshed_indexedInstanceReplaced() {
+        TreeDataProvider<Node> identityByNumber = new TreeDataProvider<Node>(
+                data) {
+            @Override
+            public Object getId(Node item) {
+                return item.getNumber();
+            }
+        };
+        mapper = new IndexedHierarchyMapper<>(identityByNumber);
+        Node root = testData.get(0);
+        mapper.expand(root);
+        Node child = mapper.fetchChildItems(root, Range.withLength(0, 1))
+                .findFirst().get();
+        Node updated = new Node(child.getNumber(), root);
+
+        mapper.refreshItem(updated);
+
+        Assert.assertSame(updated,
+                mapper.fetchChildItems(root, Range.withLength(0, 1)).findFirst()
+                        .get());
+    }
+
+    private void assertSameHierarchy() {
+        int size = expected.getTreeSize();
+        Assert.assertEquals(size, mapper.getTreeSize());
+
+        List<Node> expectedItems = expected
+                .fetchHierarchyItems(Range.withLength(0, size))
+                .collect(Collectors.toList());
+        Assert.assertEquals(expectedItems,
+                mapper.fetchHierarchyItems(Range.withLength(0, size))
+                        .collect(Collectors.toList()));
+
+        for (Node node : testData) {
+            Assert.assertEquals("Index of " + node, expected.getIndex(node),
+                    mapper.getIndex(node));
+            if (expectedItems.contains(node)) {
+                Assert.assertEquals("Parent index of " + node,
+                        expected.getParentIndex(node),
+                        mapper.getParentIndex(node));
+            }
+        }
+    }
+}
@@ -1,11 +1,22 @@
 package com.vaadin.flow.data.validator;
 
+import java.util.Arrays;
 import java.util.Calendar;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
+import javax.validation.Valid;
 import javax.validation.Validation;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
 
 import org.junit.After;
+import org.junit.Assert;
 import org.junit.Test;
 
 import com.vaadin.flow.component.UI;
@@ -77,6 +88,57 @@ public class BeanValidatorTest extends ValidatorTestBase {
         assertPasses(null, validator("nickname"));
     }
 
+    @Test
+    public void unconstrainedProperty_isNotConstrained_valuePasses() {
+        BeanValidator v = validator("readOnlyProperty");
+        Assert.assertFalse(v.isConstrained());
+        Assert.assertEquals(Optional.of(Collections.emptySet()),
+                v.getConstraintDescriptors());
+        assertPasses("anything", v);
+    }
+
+    @Test
+    public void constrainedProperty_constraintDescriptorsResolved() {
+        BeanValidator v = validator("firstname");
+        Assert.assertTrue(v.isConstrained());
+        Set<Class<?>> annotations = v.getConstraintDescriptors().get().stream()
+                .map(descriptor -> descriptor.getAnnotation().annotationType())
+                .collect(Collectors.toSet());
+        Assert.assertEquals(
+                new HashSet<>(Arrays.asList(NotNull.class, Size.class)),
+                annotations);
+    }
+
+    @Test
+    public void nestedProperty_constraintDescriptorsResolved() {
+        BeanValidator v = validator("address.postalCode");
+        Assert.assertTrue(v.isConstrained());
+        Assert.assertFalse(v.getConstraintDescriptors().get().isEmpty());
+    }
+
+    @Test
+    public void javaxBeanValidator_sharedBetweenInstances() {
+        Assert.assertSame(validator("firstname").getJavaxBeanValidator(),
+                validator("age").getJavaxBeanValidator());
+    }
+
+    @Test
+    public void containerElementConstraint_isConstrained_elementsValidated() {
+        BeanValidator v = new BeanValidator(TaggedBean.class, "tags");
+        Assert.assertTrue(v.isConstrained());
+        assertPasses(Arrays.asList("a", "bc"), v);
+        assertFails(Arrays.asList("a", "abc"), "size must be between 0 and 2",
+                v);
+    }
+
+    @Test
+    public void cascadedProperty_isConstrained() {
+        Assert.assertTrue(
+                new BeanValidator(TaggedBean.class, "address").isConstrained());
+        Assert.assertFalse(
+                new BeanValidator(TaggedBean.class, "name").isConstrained());
+    }
+
     @After
     public void tearDown() {
         UI.setCurrent(null);
@@ -86,4 +148,35 @@ public class BeanValidatorTest extends ValidatorTestBase {
         return new BeanValidator(BeanToValidate.class, propertyName);
     }
 
+    public static class TaggedBean {
+        private String name;
+        private List<@Size(max = 2) String> tags;
+        @Valid
+        private Address address;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public List<String> getTags() {
+            return tags;
+        }
+
+        public void setTags(List<String> tags) {
+            this.tags = tags;
+        }
+
+        public Address getAddress() {
+            return address;
+        }
+
+        public void setAddress(Address address) {
+            this.address = address;
+        }
+    }
+
 }
@@ -317,6 +317,7 @@ public class BuildFrontendUtil {
                     .useByteCodeScanner(adapter.optimizeBundle())
                     .withFlowResourcesFolder(flowResourcesFolder)
                     .copyResources(jarFiles).copyTemplates(true)
+                    .generatePwaIcons(true)
                     .copyLocalResources(adapter.frontendResourcesDirectory())
                     .enableImportsUpdate(true)
                     .withEmbeddableWebComponents(
@@ -32,6 +32,7 @@ import com.vaadin.flow.i18n.LocaleChangeEvent;
 import com.vaadin.flow.router.NotFoundException;
 import com.vaadin.flow.router.RouteParameters;
 import com.vaadin.flow.router.internal.HasUrlParameterFormat;
+import com.vaadin.flow.router.internal.RouteTargetPool;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -58,6 +59,7 @@ import com.vaadin.flow.router.EventUtil;
 import com.vaadin.flow.router.HasUrlParameter;
 import com.vaadin.flow.router.Location;
 import com.vaadin.flow.router.NavigationTrigger;
+import com.vaadin.flow.router.PrewarmRoute;
 import com.vaadin.flow.router.QueryParameters;
 import com.vaadin.flow.router.RouteConfiguration;
 import com.vaadin.flow.router.Router;
@@ -1122,6 +1124,32 @@ public class UI extends Component
         return true;
     }
 
+    /**
+     * Requests an instance of the given navigation target to be created ahead
+     * of navigation, for instance when it is likely that the user navigates to
+     * it next. The instance is created before the response to the current
+     * request is written, and is used by the next navigation to the target in
+     * this UI instead of creating a new instance.
+     * <p>
+     * Nothing is done if an instance is already prewarmed, if the target is
+     * currently shown or if a
+     * {@link com.vaadin.flow.server.auth.ViewAccessChecker} of this UI denies
+     * the current user access to the target.
+     *
+     * @param navigationTarget
+     *            the navigation target to prewarm, not {@code null}
+     * @throws IllegalArgumentException
+     *             if the navigation target is not annotated with
+     *             {@link PrewarmRoute}
+     * @see PrewarmRoute
+     * @since 23.2
+     */
+    public void prewarm(Class<? extends Component> navigationTarget) {
+        Objects.requireNonNull(navigationTarget,
+                "Navigation target must not be null");
+        RouteTargetPool.get(this).prewarm(navigationTarget);
+    }
+
     /**
      * Gets the router used for navigating in this UI.
      *
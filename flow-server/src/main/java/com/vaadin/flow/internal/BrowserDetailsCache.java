@@ -0,0 +1,150 @@
+/*
+ * Copyright 2000-2022 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.internal;
+
+import java.io.Serializable;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.vaadin.flow.shared.BrowserDetails;
+
+/**
+ * Bounded cache of parsed {@link BrowserDetails} keyed by the User-Agent
+ * string.
+ * <p>
+ * Parsing a User-Agent string is relatively expensive, while most requests to
+ * an application come from a small set of different browsers, bots and health
+ * checks. Entries are evicted in least recently used order. The cached details
+ * are shared between sessions and are never modified after parsing.
+ * <p>
+ * For internal use only. May be renamed or removed in a future release.
+ *
+ * @author Vaadin Ltd
+ * @since 23.2
+ */
+public class BrowserDetailsCache implements Serializable {
+
+    /**
+     * The default maximum number of User-Agent strings to keep details for.
+     */
+    public static final int DEFAULT_MAX_SIZE = 1000;
+
+    /**
+     * User-Agent strings longer than this are parsed but not cached, so that a
+     * client can't fill the cache with huge strings.
+     */
+    static final int MAX_USER_AGENT_LENGTH = 1024;
+
+    private final int maxSize;
+    private final LinkedHashMap<String, BrowserDetails> entries;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * Creates a new cache with the default maximum size.
+     */
+    public BrowserDetailsCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Creates a new cache.
+     *
+     * @param maxSize
+     *            the maximum number of User-Agent strings to keep details for
+     */
+    public BrowserDetailsCache(int maxSize) {
+        this.maxSize = maxSize;
+        entries = new LinkedHashMap<String, BrowserDetails>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(
+                    Map.Entry<String, BrowserDetails> eldest) {
+                return size() > BrowserDetailsCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * Gets the details for the given User-Agent string, parsing it if it's not
+     * found in the cache.
+     *
+     * @param userAgent
+     *            the User-Agent string, not <code>null</code>
+     * @return the parsed browser details, not <code>null</code>
+     */
+    public BrowserDetails get(String userAgent) {
+        BrowserDetails details;
+        synchronized (this) {
+            details = entries.get(userAgent);
+        }
+        if (details != null) {
+            hits.incrementAndGet();
+            return details;
+        }
+        misses.incrementAndGet();
+
+        // Parse outside the lock, a concurrent miss for the same string only
+        // results in parsing it twice
+        details = new BrowserDetails(userAgent);
+        if (maxSize > 0 && userAgent.length() <= MAX_USER_AGENT_LENGTH) {
+            synchronized (this) {
+                entries.put(userAgent, details);
+            }
+        }
+        return details;
+    }
+
+    /**
+     * Gets the number of lookups that found the details in this cache.
+     *
+     * @return the number of cache hits
+     */
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    /**
+     * Gets the number of lookups that needed to parse the User-Agent string.
+     *
+     * @return the number of cache misses
+     */
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    /**
+     * Gets the ratio of cache hits to all lookups.
+     *
+     * @return the hit rate between 0 and 1, or 0 if nothing has been looked up
+     *         yet
+     */
+    public double getHitRate() {
+        long hitCount = hits.get();
+        long total = hitCount + misses.get();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    /**
+     * Gets the number of User-Agent strings currently in the cache.
+     *
+     * @return the number of cached entries
+     */
+    public synchronized int getSize() {
+        return entries.size();
+    }
+}
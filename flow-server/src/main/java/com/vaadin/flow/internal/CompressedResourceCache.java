@@ -0,0 +1,347 @@
+/*
+ * Copyright 2000-2022 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.internal;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.commons.io.IOUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bounded cache of gzip compressed static resources for which no precompressed
+ * variant is available.
+ * <p>
+ * Resources are compressed in the background the first time they are requested
+ * and are served uncompressed until the compressed content is available. Unless
+ * an executor is given, compression runs in a single daemon thread owned by the
+ * cache, which must be released with {@link #shutdown()} when the cache is no
+ * longer used.
+ * <p>
+ * Entries are keyed by the resource URL and its last modification timestamp,
+ * and are evicted in least recently used order.
+ * <p>
+ * For internal use only. May be renamed or removed in a future release.
+ *
+ * @author Vaadin Ltd
+ * @since 23.2
+ */
+public class CompressedResourceCache implements Serializable {
+
+    /**
+     * Resources smaller than this are not worth compressing.
+     */
+    static final int MIN_COMPRESSIBLE_SIZE = 1024;
+
+    private static class Entry implements Serializable {
+        private final long lastModified;
+        // null if compressing does not make the resource smaller
+        private final byte[] content;
+        private final long originalSize;
+        private final long size;
+
+        private Entry(String key, long lastModified, byte[] content,
+                long originalSize) {
+            this.lastModified = lastModified;
+            this.content = content;
+            this.originalSize = originalSize;
+            size = key.length() + (content == null ? 0 : content.length);
+        }
+    }
+
+    private final long maxSize;
+    private transient Executor executor;
+    // Whether the executor was created by this cache and is shut down with it
+    private transient boolean ownExecutor;
+    private volatile boolean shutDown;
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16,
+            0.75f, true);
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+    private long size;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong bytesSaved = new AtomicLong();
+
+    /**
+     * Creates a new cache that compresses resources in a dedicated daemon
+     * thread. The thread is released with {@link #shutdown()}.
+     *
+     * @param maxSize
+     *            the maximum number of compressed bytes to keep in memory
+     */
+    public CompressedResourceCache(long maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Creates a new cache that compresses resources using the given executor.
+     *
+     * @param maxSize
+     *            the maximum number of compressed bytes to keep in memory
+     * @param executor
+     *            the executor to run compression tasks in, not
+     *            <code>null</code>
+     */
+    public CompressedResourceCache(long maxSize, Executor executor) {
+        this.maxSize = maxSize;
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    /**
+     * Checks whether resources with the given MIME type are text based and thus
+     * worth compressing.
+     *
+     * @param mimeType
+     *            the MIME type of the resource, may be <code>null</code>
+     * @return <code>true</code> if the resource should be compressed,
+     *         <code>false</code> otherwise
+     */
+    public static boolean isCompressible(String mimeType) {
+        if (mimeType == null) {
+            return false;
+        }
+        String type = mimeType.toLowerCase();
+        int parameters = type.indexOf(';');
+        if (parameters >= 0) {
+            type = type.substring(0, parameters).trim();
+        }
+        return type.startsWith("text/") || type.endsWith("+xml")
+                || type.endsWith("+json") || type.equals("application/json")
+                || type.equals("application/javascript")
+                || type.equals("application/xml")
+                || type.equals("application/manifest+json");
+    }
+
+    /**
+     * Gets the gzip compressed content of the given resource.
+     * <p>
+     * If the resource has not been compressed yet, compression is scheduled in
+     * the background and <code>null</code> is returned.
+     *
+     * @param resourceUrl
+     *            the URL of the resource, not <code>null</code>
+     * @param lastModified
+     *            the last modification timestamp of the resource
+     * @return the compressed content, or <code>null</code> if not available
+     *         (yet)
+     */
+    public byte[] getGzipContent(URL resourceUrl, long lastModified) {
+        String key = resourceUrl.toExternalForm();
+        Entry entry;
+        synchronized (this) {
+            entry = entries.get(key);
+        }
+        if (entry != null && entry.lastModified == lastModified) {
+            if (entry.content == null) {
+                return null;
+            }
+            hits.incrementAndGet();
+            bytesSaved.addAndGet(entry.originalSize - entry.content.length);
+            return entry.content;
+        }
+        misses.incrementAndGet();
+        if (!shutDown && pending.add(key)) {
+            try {
+                getExecutor().execute(() -> {
+                    try {
+                        compress(key, resourceUrl, lastModified);
+                    } finally {
+                        pending.remove(key);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                // Shut down, serve uncompressed content
+                pending.remove(key);
+            }
+        }
+        return null;
+    }
+
+    private void compress(String key, URL resourceUrl, long lastModified) {
+        try {
+            URLConnection connection = resourceUrl.openConnection();
+            try (InputStream dataStream = connection.getInputStream()) {
+                long length = connection.getContentLengthLong();
+                if (length > maxSize) {
+                    put(key, new Entry(key, lastModified, null, length));
+                    return;
+                }
+                byte[] content = IOUtils.toByteArray(dataStream);
+                byte[] compressed = content.length < MIN_COMPRESSIBLE_SIZE
+                        ? null
+                        : gzip(content);
+                if (compressed != null && compressed.length >= content.length) {
+                    compressed = null;
+                }
+                put(key, new Entry(key, lastModified, compressed,
+                        content.length));
+            }
+        } catch (IOException e) {
+            getLogger().debug("Unable to compress resource {}", key, e);
+        }
+    }
+
+    private synchronized void put(String key, Entry entry) {
+        if (entry.size > maxSize) {
+            return;
+        }
+        Entry previous = entries.remove(key);
+        if (previous != null) {
+            size -= previous.size;
+        }
+        Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet()
+                .iterator();
+        while (size + entry.size > maxSize && iterator.hasNext()) {
+            size -= iterator.next().getValue().size;
+            iterator.remove();
+        }
+        entries.put(key, entry);
+        size += entry.size;
+    }
+
+    /**
+     * Compresses the given content using gzip.
+     *
+     * @param content
+     *            the content to compress, not <code>null</code>
+     * @return the compressed content
+     */
+    public static byte[] gzip(byte[] content) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(
+                content.length / 2);
+        try (GZIPOutputStream gzipStream = new GZIPOutputStream(out)) {
+            gzipStream.write(content);
+        } catch (IOException e) {
+            // Not thrown for in-memory streams
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Gets the number of requests that were served compressed content from this
+     * cache.
+     *
+     * @return the number of cache hits
+     */
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    /**
+     * Gets the number of requests for which no compressed content was available
+     * yet.
+     *
+     * @return the number of cache misses
+     */
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    /**
+     * Gets the ratio of cache hits to all lookups of compressible resources.
+     *
+     * @return the hit rate between 0 and 1, or 0 if nothing has been looked up
+     *         yet
+     */
+    public double getHitRate() {
+        long hitCount = hits.get();
+        long total = hitCount + misses.get();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    /**
+     * Gets the total number of bytes that were not sent thanks to serving
+     * compressed content from this cache.
+     *
+     * @return the number of bytes saved
+     */
+    public long getBytesSaved() {
+        return bytesSaved.get();
+    }
+
+    /**
+     * Gets the number of bytes currently kept in memory.
+     *
+     * @return the cached size in bytes
+     */
+    public synchronized long getSize() {
+        return size;
+    }
+
+    /**
+     * Stops the compression thread created by this cache. Resources that have
+     * not been compressed yet are served uncompressed after this. Does nothing
+     * if the cache was created with an executor of its own.
+     */
+    public synchronized void shutdown() {
+        shutDown = true;
+        if (ownExecutor) {
+            ((ExecutorService) executor).shutdownNow();
+        }
+    }
+
+    private synchronized Executor getExecutor() {
+        if (shutDown) {
+            throw new RejectedExecutionException("Cache has been shut down");
+        }
+        if (executor == null) {
+            // Created lazily, also after deserialization
+            executor = createExecutor();
+            ownExecutor = true;
+        }
+        return executor;
+    }
+
+    private static ExecutorService createExecutor() {
+        // A single thread is enough, since compression results are cached.
+        // Blocking resource I/O must not run in the common fork join pool.
+        ThreadPoolExecutor threadPool = new ThreadPoolExecutor(1, 1, 60,
+                TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable,
+                            "vaadin-resource-compression");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        threadPool.allowCoreThreadTimeOut(true);
+        return threadPool;
+    }
+
+    private static Logger getLogger() {
+        return LoggerFactory.getLogger(CompressedResourceCache.class);
+    }
+}
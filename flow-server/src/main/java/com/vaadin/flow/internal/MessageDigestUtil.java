@@ -46,6 +46,19 @@ public class MessageDigestUtil {
         return getSha256().digest(string.getBytes(StandardCharsets.UTF_16));
     }
 
+    /**
+     * Calculates the SHA-256 hash of the given bytes.
+     *
+     * @param content
+     *            the bytes to hash
+     *
+     * @return 32 bytes making up the hash
+     * @since 23.2
+     */
+    public static byte[] sha256(byte[] content) {
+        return getSha256().digest(content);
+    }
+
     private static MessageDigest getSha256() {
         try {
             MessageDigest digest = MessageDigest.getInstance("SHA-256");
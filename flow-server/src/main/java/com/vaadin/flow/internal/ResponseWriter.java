@@ -25,20 +25,25 @@ import javax.servlet.http.HttpServletResponse;
 import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.Serializable;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLConnection;
 import java.util.List;
+import java.util.Optional;
 import java.util.Stack;
 import java.util.UUID;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import org.apache.commons.io.IOUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.vaadin.flow.function.DeploymentConfiguration;
+import com.vaadin.flow.server.ByteRangeSource;
+import com.vaadin.flow.server.InitParameters;
 
 import static com.vaadin.flow.server.Constants.VAADIN_BUILD_FILES_PATH;
 import static com.vaadin.flow.server.Constants.VAADIN_WEBAPP_RESOURCES;
@@ -73,20 +78,256 @@ public class ResponseWriter implements Serializable {
 
     private final int bufferSize;
     private final boolean brotliEnabled;
+    private final StaticResourceCache cache;
+    private final CompressedResourceCache compressedCache;
 
     /**
      * Create a response writer with the given deployment configuration.
+     * <p>
+     * In production mode, an in-memory cache for static resources is used if
+     * {@link InitParameters#STATIC_RESOURCE_CACHE_SIZE} is set, and text
+     * resources without precompressed variants are compressed on the fly if
+     * {@link InitParameters#COMPRESSED_RESOURCE_CACHE_SIZE} is set.
      *
      * @param deploymentConfiguration
      *            the deployment configuration to use, not <code>null</code>
      */
     public ResponseWriter(DeploymentConfiguration deploymentConfiguration) {
-        this(DEFAULT_BUFFER_SIZE, deploymentConfiguration.isBrotli());
+        this(DEFAULT_BUFFER_SIZE, deploymentConfiguration.isBrotli(),
+                createStaticResourceCache(deploymentConfiguration),
+                createCompressedResourceCache(deploymentConfiguration));
     }
 
-    private ResponseWriter(int bufferSize, boolean brotliEnabled) {
+    private ResponseWriter(int bufferSize, boolean brotliEnabled,
+            StaticResourceCache cache,
+            CompressedResourceCache compressedCache) {
         this.brotliEnabled = brotliEnabled;
         this.bufferSize = bufferSize;
+        this.cache = cache;
+        this.compressedCache = compressedCache;
+    }
+
+    private static StaticResourceCache createStaticResourceCache(
+            DeploymentConfiguration deploymentConfiguration) {
+        long size = getCacheSize(deploymentConfiguration,
+                InitParameters.STATIC_RESOURCE_CACHE_SIZE);
+        return size > 0 ? new StaticResourceCache(size) : null;
+    }
+
+    private static CompressedResourceCache createCompressedResourceCache(
+            DeploymentConfiguration deploymentConfiguration) {
+        long size = getCacheSize(deploymentConfiguration,
+                InitParameters.COMPRESSED_RESOURCE_CACHE_SIZE);
+        return size > 0 ? new CompressedResourceCache(size) : null;
+    }
+
+    private static long getCacheSize(
+            DeploymentConfiguration deploymentConfiguration,
+            String parameterName) {
+        if (!deploymentConfiguration.isProductionMode()) {
+            // Resources may change at any time during development
+            return 0;
+        }
+        String cacheSize = deploymentConfiguration
+                .getStringProperty(parameterName, null);
+        if (cacheSize == null) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(cacheSize.trim()) * 1024;
+        } catch (NumberFormatException e) {
+            getLogger().warn(
+                    "Invalid value '{}' for '{}', the cache will not be used",
+                    cacheSize, parameterName);
+            return 0;
+        }
+    }
+
+    /**
+     * Gets the cache of resources compressed on the fly, for instance to read
+     * its metrics.
+     *
+     * @return the cache of compressed resources, or an empty optional if
+     *         compressing on the fly is disabled
+     * @since 23.2
+     */
+    public Optional<CompressedResourceCache> getCompressedResourceCache() {
+        return Optional.ofNullable(compressedCache);
+    }
+
+    /**
+     * Gets the cached resource for the given file name.
+     *
+     * @param filenameWithPath
+     *            the name of the file
+     * @return the cached resource, or an empty optional if the resource has not
+     *         been cached or caching is disabled
+     * @since 23.2
+     */
+    public Optional<StaticResourceCache.Resource> getCachedResource(
+            String filenameWithPath) {
+        return cache == null ? Optional.empty()
+                : Optional.ofNullable(cache.get(filenameWithPath));
+    }
+
+    /**
+     * Reads the given resource and its precompressed variants into the cache.
+     * <p>
+     * WARNING: note that this should not be used for a {@code resourceUrl} that
+     * represents a directory!
+     *
+     * @param filenameWithPath
+     *            the name of the file
+     * @param resourceUrl
+     *            the URL to the file, reported by the servlet container
+     * @param request
+     *            the request used to locate the compressed variants
+     * @return the cached resource, or an empty optional if caching is disabled,
+     *         the resource is too large or could not be read
+     * @since 23.2
+     */
+    public Optional<StaticResourceCache.Resource> cacheResource(
+            String filenameWithPath, URL resourceUrl,
+            HttpServletRequest request) {
+        if (cache == null) {
+            return Optional.empty();
+        }
+        try {
+            URLConnection connection = resourceUrl.openConnection();
+            long lastModified = connection.getLastModified();
+            // Remove milliseconds, browsers do not send them back in the
+            // "If-Modified-Since" header
+            lastModified = lastModified - lastModified % 1000;
+            byte[] content;
+            try (InputStream dataStream = connection.getInputStream()) {
+                if (connection.getContentLengthLong() > cache.getMaxSize()) {
+                    return Optional.empty();
+                }
+                content = IOUtils.toByteArray(dataStream);
+            }
+            byte[] brotliContent = brotliEnabled
+                    ? readCompressedVariant(request, filenameWithPath + ".br")
+                    : null;
+            byte[] gzipContent = readCompressedVariant(request,
+                    filenameWithPath + ".gz");
+            if (gzipContent == null && compressedCache != null
+                    && content.length >= CompressedResourceCache.MIN_COMPRESSIBLE_SIZE
+                    && CompressedResourceCache
+                            .isCompressible(request.getServletContext()
+                                    .getMimeType(filenameWithPath))) {
+                // The resource is read into memory only once, so it is
+                // compressed right away
+                gzipContent = CompressedResourceCache.gzip(content);
+                if (gzipContent.length >= content.length) {
+                    gzipContent = null;
+                }
+            }
+            StaticResourceCache.Resource resource = new StaticResourceCache.Resource(
+                    resourceUrl, lastModified, content, gzipContent,
+                    brotliContent);
+            if (cache.put(filenameWithPath, resource)) {
+                return Optional.of(resource);
+            }
+        } catch (IOException e) {
+            getLogger().debug("Unable to cache static resource {}",
+                    filenameWithPath, e);
+        }
+        return Optional.empty();
+    }
+
+    private byte[] readCompressedVariant(HttpServletRequest request,
+            String filenameWithPath) {
+        try {
+            URL url = getResource(request, filenameWithPath);
+            if (url != null) {
+                try (InputStream dataStream = url.openStream()) {
+                    return IOUtils.toByteArray(dataStream);
+                }
+            }
+        } catch (Exception e) {
+            getLogger().debug(
+                    "Unexpected exception looking for compressed resource {}",
+                    filenameWithPath, e);
+        }
+        return null;
+    }
+
+    /**
+     * Gets the entity tag of the representation of the cached resource that
+     * would be written for the given request.
+     *
+     * @param resource
+     *            the cached resource, not <code>null</code>
+     * @param request
+     *            the request object
+     * @return the quoted entity tag
+     * @since 23.2
+     */
+    public String getETag(StaticResourceCache.Resource resource,
+            HttpServletRequest request) {
+        return resource.getETag(selectEncoding(resource, request));
+    }
+
+    /**
+     * Writes the contents and content type (if available) of the given cached
+     * resource to the response, together with its entity tag.
+     * <p>
+     * Range requests are delegated to
+     * {@link #writeResponseContents(String, URL, HttpServletRequest, HttpServletResponse)}.
+     *
+     * @param filenameWithPath
+     *            the name of the file being sent
+     * @param resource
+     *            the cached resource, not <code>null</code>
+     * @param request
+     *            the request object to read from
+     * @param response
+     *            the response object to write to
+     * @throws IOException
+     *             if the servlet container threw an exception while locating
+     *             the resource
+     * @since 23.2
+     */
+    public void writeResponseContents(String filenameWithPath,
+            StaticResourceCache.Resource resource, HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        if (request.getHeader("Range") != null) {
+            writeResponseContents(filenameWithPath, resource.getResourceUrl(),
+                    request, response);
+            return;
+        }
+        writeContentType(filenameWithPath, request, response);
+
+        String encoding = selectEncoding(resource, request);
+        if (encoding != null) {
+            response.setHeader("Content-Encoding", encoding);
+        }
+        if (resource.hasCompressedContent()) {
+            response.setHeader("Vary", "Accept-Encoding");
+        }
+        response.setHeader("ETag", resource.getETag(encoding));
+
+        byte[] content = resource.getContent(encoding);
+        setContentLength(response, content.length);
+        try {
+            // The content is written in one go, without an intermediate buffer
+            response.getOutputStream().write(content);
+        } catch (IOException e) {
+            getLogger().debug("Error writing static file to user", e);
+        }
+    }
+
+    private String selectEncoding(StaticResourceCache.Resource resource,
+            HttpServletRequest request) {
+        if (brotliEnabled && resource.hasContent(StaticResourceCache.BROTLI)
+                && acceptsBrotliResource(request)) {
+            return StaticResourceCache.BROTLI;
+        }
+        if (resource.hasContent(StaticResourceCache.GZIP)
+                && acceptsGzippedResource(request)) {
+            return StaticResourceCache.GZIP;
+        }
+        return null;
     }
 
     /**
@@ -159,6 +400,25 @@ public class ResponseWriter implements Serializable {
             url = resourceUrl;
             connection = resourceUrl.openConnection();
             dataStream = connection.getInputStream();
+            byte[] compressedContent = null;
+            if (isCompressedOnTheFly(filenameWithPath, connection, request)) {
+                // Uncompressed content served while compression is pending
+                // still depends on the accepted encodings
+                response.setHeader("Vary", "Accept-Encoding");
+                compressedContent = getCompressedContent(resourceUrl,
+                        connection, request);
+            }
+            if (compressedContent != null) {
+                closeStream(dataStream);
+                response.setHeader("Content-Encoding", "gzip");
+                setContentLength(response, compressedContent.length);
+                try {
+                    response.getOutputStream().write(compressedContent);
+                } catch (IOException e) {
+                    getLogger().debug("Error writing static file to user", e);
+                }
+                return;
+            }
         } else {
             response.setHeader("Vary", "Accept-Encoding");
         }
@@ -186,7 +446,30 @@ public class ResponseWriter implements Serializable {
         }
     }
 
-    private void closeStream(Closeable stream) {
+    private boolean isCompressedOnTheFly(String filenameWithPath,
+            URLConnection connection, HttpServletRequest request) {
+        if (compressedCache == null || request.getHeader("Range") != null) {
+            return false;
+        }
+        long contentLength = connection.getContentLengthLong();
+        if (0 <= contentLength
+                && contentLength < CompressedResourceCache.MIN_COMPRESSIBLE_SIZE) {
+            return false;
+        }
+        return CompressedResourceCache.isCompressible(
+                request.getServletContext().getMimeType(filenameWithPath));
+    }
+
+    private byte[] getCompressedContent(URL resourceUrl,
+            URLConnection connection, HttpServletRequest request) {
+        if (!acceptsGzippedResource(request)) {
+            return null;
+        }
+        return compressedCache.getGzipContent(resourceUrl,
+                connection.getLastModified());
+    }
+
+    private static void closeStream(Closeable stream) {
         try {
             stream.close();
         } catch (IOException e) {
@@ -194,6 +477,13 @@ public class ResponseWriter implements Serializable {
         }
     }
 
+    private void writeRangeContents(String range, HttpServletResponse response,
+            URL resourceURL) throws IOException {
+        try (UrlByteRangeSource source = new UrlByteRangeSource(resourceURL)) {
+            writeRangeContents(range, response, source);
+        }
+    }
+
     /**
      * Handle a "Header:" request. The handling logic is splits on single or
      * multiple ranges: for a single range, send a regular response with
@@ -202,13 +492,22 @@ public class ResponseWriter implements Serializable {
      * response code is 206, otherwise it is 416. See e.g.
      * https://developer.mozilla.org/en-US/docs/Web/HTTP/Range_requests for
      * protocol details.
+     *
+     * @param range
+     *            the value of the {@code Range} header, not <code>null</code>
+     * @param response
+     *            the response object to write to
+     * @param source
+     *            the data to write ranges of, not <code>null</code>
+     * @throws IOException
+     *             if an IO error occurred
+     * @since 23.2
      */
-    private void writeRangeContents(String range, HttpServletResponse response,
-            URL resourceURL) throws IOException {
+    public static void writeRangeContents(String range,
+            HttpServletResponse response, ByteRangeSource source)
+            throws IOException {
         response.setHeader("Accept-Ranges", "bytes");
 
-        URLConnection connection = resourceURL.openConnection();
-
         Matcher headerMatcher = RANGE_HEADER_PATTERN.matcher(range);
         if (!headerMatcher.matches()) {
             response.setContentLengthLong(0L);
@@ -217,7 +516,7 @@ public class ResponseWriter implements Serializable {
         }
         String byteRanges = headerMatcher.group(1);
 
-        long resourceLength = connection.getContentLengthLong();
+        long resourceLength = source.getLength();
         Matcher rangeMatcher = BYTE_RANGE_PATTERN.matcher(byteRanges);
 
         Stack<Pair<Long, Long>> ranges = new Stack<>();
@@ -239,7 +538,7 @@ public class ResponseWriter implements Serializable {
                 // illegal range -> 416
                 getLogger().info(
                         "received an illegal range '{}' for resource '{}'",
-                        rangeMatcher.group(), resourceURL);
+                        rangeMatcher.group(), source);
                 response.setContentLengthLong(0L);
                 response.setStatus(416);
                 return;
@@ -250,7 +549,7 @@ public class ResponseWriter implements Serializable {
                 ranges.pop();
                 getLogger().info(
                         "serving only {} ranges for resource '{}' even though more were requested",
-                        ranges.size(), resourceURL);
+                        ranges.size(), source);
                 break;
             }
         }
@@ -270,79 +569,143 @@ public class ResponseWriter implements Serializable {
             response.setHeader("Content-Range",
                     createContentRangeHeader(start, end, resourceLength));
 
-            final InputStream dataStream = connection.getInputStream();
-            try {
-                long skipped = dataStream.skip(start);
-                assert (skipped == start);
-                writeStream(outputStream, dataStream, end - start + 1);
-            } finally {
-                closeStream(dataStream);
-            }
+            source.writeRange(outputStream, start, end - start + 1);
         } else {
-            writeMultipartRangeContents(ranges, connection, response,
-                    resourceURL);
+            writeMultipartRangeContents(ranges, resourceLength, response,
+                    source);
         }
     }
 
+    /**
+     * Checks whether the value of an {@code If-None-Match} header matches any
+     * of the given entity tags. The weak comparison is used, so that the
+     * {@code W/} prefix is ignored on both sides, and {@code *} matches any
+     * entity tag.
+     *
+     * @param ifNoneMatch
+     *            the header value, not <code>null</code>
+     * @param eTags
+     *            the current entity tags of the resource
+     * @return <code>true</code> if the client already has the content,
+     *         <code>false</code> otherwise
+     * @since 23.2
+     */
+    public static boolean matchesETag(String ifNoneMatch, String... eTags) {
+        for (String tag : ifNoneMatch.split(",")) {
+            tag = stripWeakPrefix(tag.trim());
+            if ("*".equals(tag)) {
+                return true;
+            }
+            for (String eTag : eTags) {
+                if (eTag != null && tag.equals(stripWeakPrefix(eTag))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static String stripWeakPrefix(String eTag) {
+        return eTag.startsWith("W/") ? eTag.substring(2) : eTag;
+    }
+
     /**
      * Write a multi-part request with MIME type "multipart/byteranges",
      * separated by boundaries and use "Transfer-Encoding: chunked" mode to
      * avoid computing "Content-Length".
      */
-    private void writeMultipartRangeContents(List<Pair<Long, Long>> ranges,
-            URLConnection connection, HttpServletResponse response,
-            URL resourceURL) throws IOException {
+    private static void writeMultipartRangeContents(
+            List<Pair<Long, Long>> ranges, long resourceLength,
+            HttpServletResponse response, ByteRangeSource source)
+            throws IOException {
         String partBoundary = UUID.randomUUID().toString();
         response.setContentType(String
                 .format("multipart/byteranges; boundary=%s", partBoundary));
         response.setHeader("Transfer-Encoding", "chunked");
 
-        long position = 0L;
         String mimeType = response.getContentType();
-        InputStream dataStream = connection.getInputStream();
         ServletOutputStream outputStream = response.getOutputStream();
-        try {
-            for (Pair<Long, Long> rangePair : ranges) {
-                outputStream.write(
-                        String.format("\r\n--%s\r\n", partBoundary).getBytes());
-                long start = rangePair.getFirst();
-                long end = rangePair.getSecond();
-                if (mimeType != null) {
-                    outputStream.write(
-                            String.format("Content-Type: %s\r\n", mimeType)
-                                    .getBytes());
-                }
+        for (Pair<Long, Long> rangePair : ranges) {
+            outputStream.write(
+                    String.format("\r\n--%s\r\n", partBoundary).getBytes());
+            long start = rangePair.getFirst();
+            long end = rangePair.getSecond();
+            if (mimeType != null) {
                 outputStream.write(String
-                        .format("Content-Range: %s\r\n\r\n",
-                                createContentRangeHeader(start, end,
-                                        connection.getContentLengthLong()))
-                        .getBytes());
-
-                if (position > start) {
-                    // out-of-sequence range -> open new stream to the file
-                    // alternative: use single stream with mark / reset
-                    closeStream(connection.getInputStream());
-                    connection = resourceURL.openConnection();
-                    dataStream = connection.getInputStream();
-                    position = 0L;
-                }
-                long skipped = dataStream.skip(start - position);
-                assert (skipped == start - position);
-                writeStream(outputStream, dataStream, end - start + 1);
-                position = end + 1;
+                        .format("Content-Type: %s\r\n", mimeType).getBytes());
             }
-        } finally {
-            closeStream(dataStream);
+            outputStream.write(String.format("Content-Range: %s\r\n\r\n",
+                    createContentRangeHeader(start, end, resourceLength))
+                    .getBytes());
+            source.writeRange(outputStream, start, end - start + 1);
         }
         outputStream.write(String.format("\r\n--%s", partBoundary).getBytes());
     }
 
-    private String createContentRangeHeader(long start, long end, long size) {
+    /**
+     * Range source reading from a URL. Ranges in increasing order are read from
+     * a single stream.
+     */
+    private class UrlByteRangeSource implements ByteRangeSource, Closeable {
+        private final URL url;
+        private URLConnection connection;
+        private InputStream dataStream;
+        private long position;
+
+        private UrlByteRangeSource(URL url) {
+            this.url = url;
+        }
+
+        @Override
+        public long getLength() throws IOException {
+            return getConnection().getContentLengthLong();
+        }
+
+        @Override
+        public void writeRange(OutputStream stream, long start, long count)
+                throws IOException {
+            if (dataStream == null || position > start) {
+                // out-of-sequence range -> open new stream to the file
+                // alternative: use single stream with mark / reset
+                if (dataStream != null) {
+                    closeStream(dataStream);
+                    connection = null;
+                }
+                dataStream = getConnection().getInputStream();
+                position = 0L;
+            }
+            long skipped = dataStream.skip(start - position);
+            assert (skipped == start - position);
+            position = start + writeStream(stream, dataStream, count);
+        }
+
+        private URLConnection getConnection() throws IOException {
+            if (connection == null) {
+                connection = url.openConnection();
+            }
+            return connection;
+        }
+
+        @Override
+        public void close() {
+            if (dataStream != null) {
+                closeStream(dataStream);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return url.toString();
+        }
+    }
+
+    private static String createContentRangeHeader(long start, long end,
+            long size) {
         String lengthString = size >= 0 ? Long.toString(size) : "*";
         return String.format("bytes %d-%d/%s", start, end, lengthString);
     }
 
-    private void setContentLength(HttpServletResponse response,
+    private static void setContentLength(HttpServletResponse response,
             long contentLength) {
         try {
             response.setContentLengthLong(contentLength);
@@ -357,7 +720,7 @@ public class ResponseWriter implements Serializable {
      * common) with the range <code>[start, end]</code> are less than the upper
      * limit.
      */
-    private boolean verifyRangeLimits(List<Pair<Long, Long>> ranges) {
+    private static boolean verifyRangeLimits(List<Pair<Long, Long>> ranges) {
         if (ranges.size() > MAX_RANGE_COUNT) {
             getLogger().info("more than {} ranges requested", MAX_RANGE_COUNT);
             return false;
@@ -415,8 +778,8 @@ public class ResponseWriter implements Serializable {
         return true;
     }
 
-    private void writeStream(ServletOutputStream outputStream,
-            InputStream dataStream, long count) throws IOException {
+    private long writeStream(OutputStream outputStream, InputStream dataStream,
+            long count) throws IOException {
         final byte[] buffer = new byte[bufferSize];
 
         long bytesTotal = 0L;
@@ -426,6 +789,7 @@ public class ResponseWriter implements Serializable {
             outputStream.write(buffer, 0, bytes);
             bytesTotal += bytes;
         }
+        return bytesTotal;
     }
 
     /**
@@ -522,7 +886,7 @@ public class ResponseWriter implements Serializable {
         return Double.valueOf(0.000).equals(Double.valueOf(qValue));
     }
 
-    private Logger getLogger() {
-        return LoggerFactory.getLogger(getClass().getName());
+    private static Logger getLogger() {
+        return LoggerFactory.getLogger(ResponseWriter.class.getName());
     }
 }
@@ -0,0 +1,249 @@
+/*
+ * Copyright 2000-2022 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.internal;
+
+import java.io.Serializable;
+import java.net.URL;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded in-memory cache of static resources together with their precompressed
+ * variants and a content based entity tag.
+ * <p>
+ * Entries are evicted in least recently used order once the total size of the
+ * cached content would exceed the configured limit.
+ * <p>
+ * For internal use only. May be renamed or removed in a future release.
+ *
+ * @author Vaadin Ltd
+ * @since 23.2
+ */
+public class StaticResourceCache implements Serializable {
+
+    /**
+     * Encoding name used for Brotli compressed content.
+     */
+    static final String BROTLI = "br";
+
+    /**
+     * Encoding name used for gzip compressed content.
+     */
+    static final String GZIP = "gzip";
+
+    /**
+     * A static resource kept in memory, with optional precompressed variants.
+     */
+    public static class Resource implements Serializable {
+        private final URL resourceUrl;
+        private final long lastModified;
+        private final String hash;
+        private final byte[] content;
+        private final byte[] gzipContent;
+        private final byte[] brotliContent;
+
+        /**
+         * Creates a new cached resource.
+         *
+         * @param resourceUrl
+         *            the URL the resource was read from, not <code>null</code>
+         * @param lastModified
+         *            the last modification timestamp of the resource, or -1 if
+         *            not known
+         * @param content
+         *            the uncompressed content, not <code>null</code>
+         * @param gzipContent
+         *            the gzip compressed content, or <code>null</code> if not
+         *            available
+         * @param brotliContent
+         *            the Brotli compressed content, or <code>null</code> if not
+         *            available
+         */
+        public Resource(URL resourceUrl, long lastModified, byte[] content,
+                byte[] gzipContent, byte[] brotliContent) {
+            this.resourceUrl = resourceUrl;
+            this.lastModified = lastModified;
+            this.content = content;
+            this.gzipContent = gzipContent;
+            this.brotliContent = brotliContent;
+            hash = Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(MessageDigestUtil.sha256(content));
+        }
+
+        /**
+         * Gets the URL the resource was read from.
+         *
+         * @return the resource URL, not <code>null</code>
+         */
+        public URL getResourceUrl() {
+            return resourceUrl;
+        }
+
+        /**
+         * Gets the last modification timestamp of the resource.
+         *
+         * @return the last modification timestamp, or -1 if not known
+         */
+        public long getLastModified() {
+            return lastModified;
+        }
+
+        /**
+         * Gets the strong entity tag of the given representation of the
+         * resource.
+         * <p>
+         * The tag is derived from a hash of the uncompressed content.
+         * Compressed representations get the encoding appended, so that each
+         * representation has a distinct tag.
+         *
+         * @param encoding
+         *            the content encoding of the representation, or
+         *            <code>null</code> for the uncompressed content
+         * @return the quoted entity tag
+         */
+        public String getETag(String encoding) {
+            return encoding == null ? '"' + hash + '"'
+                    : '"' + hash + '-' + encoding + '"';
+        }
+
+        /**
+         * Checks whether the given {@code If-None-Match} header value matches
+         * any representation of this resource.
+         *
+         * @param ifNoneMatch
+         *            the header value, not <code>null</code>
+         * @return <code>true</code> if the client already has the content,
+         *         <code>false</code> otherwise
+         */
+        public boolean matchesETag(String ifNoneMatch) {
+            return ResponseWriter.matchesETag(ifNoneMatch, getETag(null),
+                    getETag(GZIP), getETag(BROTLI));
+        }
+
+        /**
+         * Checks whether the resource has any compressed variants.
+         *
+         * @return <code>true</code> if a compressed variant is available,
+         *         <code>false</code> otherwise
+         */
+        public boolean hasCompressedContent() {
+            return gzipContent != null || brotliContent != null;
+        }
+
+        boolean hasContent(String encoding) {
+            return getContent(encoding) != null;
+        }
+
+        byte[] getContent(String encoding) {
+            if (encoding == null) {
+                return content;
+            } else if (BROTLI.equals(encoding)) {
+                return brotliContent;
+            } else if (GZIP.equals(encoding)) {
+                return gzipContent;
+            }
+            return null;
+        }
+
+        long getSize() {
+            return (long) content.length + length(gzipContent)
+                    + length(brotliContent);
+        }
+
+        private static int length(byte[] bytes) {
+            return bytes == null ? 0 : bytes.length;
+        }
+    }
+
+    private final long maxSize;
+    private final LinkedHashMap<String, Resource> resources = new LinkedHashMap<>(
+            16, 0.75f, true);
+    private long size;
+
+    /**
+     * Creates a new cache.
+     *
+     * @param maxSize
+     *            the maximum number of bytes to keep in memory, including
+     *            compressed variants
+     */
+    public StaticResourceCache(long maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Gets the maximum number of bytes kept in memory.
+     *
+     * @return the maximum size in bytes
+     */
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Gets the resource cached for the given file name.
+     *
+     * @param filenameWithPath
+     *            the name of the file
+     * @return the cached resource, or <code>null</code> if not cached
+     */
+    public synchronized Resource get(String filenameWithPath) {
+        return resources.get(filenameWithPath);
+    }
+
+    /**
+     * Adds the resource to the cache, evicting the least recently used
+     * resources if needed.
+     *
+     * @param filenameWithPath
+     *            the name of the file
+     * @param resource
+     *            the resource to cache, not <code>null</code>
+     * @return <code>true</code> if the resource was cached, <code>false</code>
+     *         if it is larger than the whole cache
+     */
+    public synchronized boolean put(String filenameWithPath,
+            Resource resource) {
+        long resourceSize = resource.getSize();
+        if (resourceSize > maxSize) {
+            return false;
+        }
+        Resource previous = resources.remove(filenameWithPath);
+        if (previous != null) {
+            size -= previous.getSize();
+        }
+        Iterator<Map.Entry<String, Resource>> iterator = resources.entrySet()
+                .iterator();
+        while (size + resourceSize > maxSize && iterator.hasNext()) {
+            size -= iterator.next().getValue().getSize();
+            iterator.remove();
+        }
+        resources.put(filenameWithPath, resource);
+        size += resourceSize;
+        return true;
+    }
+
+    /**
+     * Gets the number of bytes currently kept in memory.
+     *
+     * @return the cached size in bytes
+     */
+    public synchronized long getSize() {
+        return size;
+    }
+}
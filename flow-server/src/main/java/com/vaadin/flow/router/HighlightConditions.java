@@ -24,6 +24,31 @@ import com.vaadin.flow.component.HasElement;
  */
 public final class HighlightConditions {
 
+    /**
+     * The predefined conditions of router links, which can be evaluated for all
+     * links of a UI at once by {@link RouterLinkHighlightIndex}. Enum constants
+     * keep their identity when deserialized.
+     */
+    enum LinkCondition implements HighlightCondition<RouterLink> {
+        SAME_LOCATION {
+            @Override
+            public boolean shouldHighlight(RouterLink link,
+                    AfterNavigationEvent event) {
+                return event.getLocation().getPath().equals(link.getHref());
+            }
+        },
+        LOCATION_PREFIX {
+            @Override
+            public boolean shouldHighlight(RouterLink link,
+                    AfterNavigationEvent event) {
+                return link.getHref().isEmpty()
+                        ? event.getLocation().getPath().isEmpty()
+                        : event.getLocation().getPath()
+                                .startsWith(link.getHref());
+            }
+        }
+    }
+
     private HighlightConditions() {
     }
 
@@ -34,8 +59,7 @@ public final class HighlightConditions {
      * @return the highlight condition
      */
     public static HighlightCondition<RouterLink> sameLocation() {
-        return (link, event) -> event.getLocation().getPath()
-                .equals(link.getHref());
+        return LinkCondition.SAME_LOCATION;
     }
 
     /**
@@ -45,9 +69,7 @@ public final class HighlightConditions {
      * @return the highlight condition
      */
     public static HighlightCondition<RouterLink> locationPrefix() {
-        return (link, event) -> link.getHref().isEmpty()
-                ? event.getLocation().getPath().isEmpty()
-                : event.getLocation().getPath().startsWith(link.getHref());
+        return LinkCondition.LOCATION_PREFIX;
     }
 
     /**
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2000-2022 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.router;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Allows instances of a navigation target to be created ahead of navigation.
+ * <p>
+ * Instances of an annotated navigation target can be prewarmed for a UI with
+ * {@link com.vaadin.flow.component.UI#prewarm(Class)}, for instance when it is
+ * likely that the user navigates to the view next. The instance is created once
+ * the current request has been handled, and is used by the next navigation to
+ * the target in the same UI instead of creating a new instance. Router links
+ * pointing to the target also prewarm it when prefetch hints are enabled with
+ * {@link RouterLink#setPrefetch(RouterLinkPrefetch)}.
+ * <p>
+ * A target is only prewarmed if the
+ * {@link com.vaadin.flow.server.auth.ViewAccessChecker} of the UI, if any,
+ * allows the current user to access it. Other access checks, such as custom
+ * before enter listeners, only run on navigation. Only use this annotation for
+ * views whose construction is expensive and does not depend on the navigation
+ * itself. Navigation lifecycle events are delivered to a prewarmed instance as
+ * usual.
+ * <p>
+ * A few instances are kept per UI at most, and prewarmed instances that have
+ * not been used may be discarded when memory runs low.
+ *
+ * @since 23.2
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Inherited
+@Documented
+public @interface PrewarmRoute {
+}
@@ -18,8 +18,10 @@ package com.vaadin.flow.router;
 import java.util.Objects;
 import java.util.Optional;
 
+import com.vaadin.flow.component.AttachEvent;
 import com.vaadin.flow.component.Component;
 import com.vaadin.flow.component.ComponentUtil;
+import com.vaadin.flow.component.DetachEvent;
 import com.vaadin.flow.component.Focusable;
 import com.vaadin.flow.component.HasComponents;
 import com.vaadin.flow.component.HasStyle;
@@ -27,9 +29,16 @@ import com.vaadin.flow.component.HasText;
 import com.vaadin.flow.component.PropertyDescriptor;
 import com.vaadin.flow.component.PropertyDescriptors;
 import com.vaadin.flow.component.Tag;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.dom.DomListenerRegistration;
+import com.vaadin.flow.internal.AnnotationReader;
 import com.vaadin.flow.internal.StateTree;
 import com.vaadin.flow.router.internal.HasUrlParameterFormat;
+import com.vaadin.flow.router.internal.RouteTargetPool;
+import com.vaadin.flow.server.RouteRegistry;
+import com.vaadin.flow.server.SessionRouteRegistry;
 import com.vaadin.flow.server.VaadinService;
+import com.vaadin.flow.server.VaadinSession;
 import com.vaadin.flow.shared.ApplicationConstants;
 
 /**
@@ -55,8 +64,61 @@ public class RouterLink extends Component implements HasText, HasComponents,
     private HighlightAction<RouterLink> highlightAction = HighlightActions
             .toggleAttribute("highlight");
 
+    private static final String PREFETCH_EVENT = "vaadin-router-prefetch";
+
+    private static final int PREFETCH_DELAY = 200;
+
+    private static final int PREFETCH_INTERVAL = 2000;
+
+    // @formatter:off
+    private static final String PREFETCH_SCRIPT =
+            "const link = this;"
+            + "if (link.$prefetchCleanup) {"
+            + "  link.$prefetchCleanup();"
+            + "  delete link.$prefetchCleanup;"
+            + "}"
+            + "let timeout;"
+            + "const schedule = () => {"
+            + "  if (timeout === undefined) {"
+            + "    timeout = setTimeout(() => {"
+            + "      timeout = undefined;"
+            + "      link.dispatchEvent(new CustomEvent('" + PREFETCH_EVENT + "'));"
+            + "    }, $1);"
+            + "  }"
+            + "};"
+            + "const cancel = () => {"
+            + "  clearTimeout(timeout);"
+            + "  timeout = undefined;"
+            + "};"
+            + "if ($0 === 'VISIBLE' && window.IntersectionObserver) {"
+            + "  const observer = new IntersectionObserver(entries =>"
+            + "    entries[entries.length - 1].isIntersecting ? schedule() : cancel());"
+            + "  observer.observe(link);"
+            + "  link.$prefetchCleanup = () => {"
+            + "    cancel();"
+            + "    observer.disconnect();"
+            + "  };"
+            + "} else if ($0 === 'HOVER') {"
+            + "  const start = ['mouseenter', 'focus'];"
+            + "  const stop = ['mouseleave', 'blur', 'click'];"
+            + "  start.forEach(type => link.addEventListener(type, schedule));"
+            + "  stop.forEach(type => link.addEventListener(type, cancel));"
+            + "  link.$prefetchCleanup = () => {"
+            + "    cancel();"
+            + "    start.forEach(type => link.removeEventListener(type, schedule));"
+            + "    stop.forEach(type => link.removeEventListener(type, cancel));"
+            + "  };"
+            + "}";
+    // @formatter:on
+
     private QueryParameters queryParameters;
 
+    private RouterLinkPrefetch prefetch = RouterLinkPrefetch.NONE;
+
+    private DomListenerRegistration prefetchRegistration;
+
+    private Boolean highlighted;
+
     /**
      * Creates a new empty router link.
      */
@@ -433,6 +495,7 @@ public class RouterLink extends Component implements HasText, HasComponents,
             url += '?' + queryParameters.getQueryString();
         }
         HREF.set(this, url);
+        invalidateHighlightIndex();
     }
 
     private Router getRouter() {
@@ -471,6 +534,7 @@ public class RouterLink extends Component implements HasText, HasComponents,
                 "HighlightCondition may not be null");
 
         this.highlightCondition = highlightCondition;
+        invalidateHighlightIndex();
     }
 
     /**
@@ -506,11 +570,111 @@ public class RouterLink extends Component implements HasText, HasComponents,
 
         this.highlightAction.highlight(this, false);
         this.highlightAction = highlightAction;
+        highlighted = null;
+    }
+
+    /**
+     * Gets when this link sends prefetch hints to the server.
+     *
+     * @return the prefetch mode, never {@code null}
+     * @see #setPrefetch(RouterLinkPrefetch)
+     */
+    public RouterLinkPrefetch getPrefetch() {
+        return prefetch;
+    }
+
+    /**
+     * Sets when this link sends prefetch hints to the server. The default is
+     * {@link RouterLinkPrefetch#NONE}.
+     * <p>
+     * A hint is sent when the condition has held for a short while, and at most
+     * once in a couple of seconds for the same link. When the navigation target
+     * of the link is annotated with {@link PrewarmRoute}, an instance of it is
+     * prewarmed for the next navigation, unless a
+     * {@link com.vaadin.flow.server.auth.ViewAccessChecker} of the UI denies
+     * the current user access to the target.
+     *
+     * @param prefetch
+     *            the prefetch mode, not {@code null}
+     * @see RouteTargetPool
+     */
+    public void setPrefetch(RouterLinkPrefetch prefetch) {
+        Objects.requireNonNull(prefetch, "Prefetch mode may not be null");
+        if (this.prefetch == prefetch) {
+            return;
+        }
+        this.prefetch = prefetch;
+
+        if (prefetchRegistration != null) {
+            prefetchRegistration.remove();
+            prefetchRegistration = null;
+        }
+        if (prefetch != RouterLinkPrefetch.NONE) {
+            prefetchRegistration = getElement()
+                    .addEventListener(PREFETCH_EVENT, event -> prefetch())
+                    .throttle(PREFETCH_INTERVAL);
+        }
+        if (isAttached()) {
+            installPrefetch();
+        }
+    }
+
+    @Override
+    protected void onAttach(AttachEvent attachEvent) {
+        super.onAttach(attachEvent);
+        RouterLinkHighlightIndex.get(attachEvent.getUI()).add(this);
+        if (prefetch != RouterLinkPrefetch.NONE) {
+            installPrefetch();
+        }
+    }
+
+    @Override
+    protected void onDetach(DetachEvent detachEvent) {
+        super.onDetach(detachEvent);
+        RouterLinkHighlightIndex.get(detachEvent.getUI()).remove(this);
+    }
+
+    private void installPrefetch() {
+        getElement().executeJs(PREFETCH_SCRIPT, prefetch.name(),
+                PREFETCH_DELAY);
+    }
+
+    private void prefetch() {
+        UI ui = getUI().orElse(null);
+        Router router = ui == null ? null : ui.getInternals().getRouter();
+        if (router == null || getHref().isEmpty()) {
+            return;
+        }
+        VaadinSession session = ui.getSession();
+        RouteRegistry registry = session == null ? router.getRegistry()
+                : SessionRouteRegistry.getSessionRegistry(session);
+        String path = new Location(getHref()).getPath();
+        registry.getNavigationTarget(path).filter(target -> AnnotationReader
+                .getAnnotationFor(target, PrewarmRoute.class).isPresent())
+                .ifPresent(RouteTargetPool.get(ui)::prewarm);
     }
 
     @Override
     public void afterNavigation(AfterNavigationEvent event) {
-        getHighlightAction().highlight(this,
-                getHighlightCondition().shouldHighlight(this, event));
+        HighlightCondition<RouterLink> condition = getHighlightCondition();
+        UI ui = getUI().orElse(null);
+        if (ui == null || !RouterLinkHighlightIndex.isIndexed(condition)) {
+            highlighted = null;
+            getHighlightAction().highlight(this,
+                    condition.shouldHighlight(this, event));
+            return;
+        }
+        boolean highlight = RouterLinkHighlightIndex.get(ui).isHighlighted(this,
+                event);
+        if (highlighted == null || highlighted != highlight) {
+            highlighted = highlight;
+            getHighlightAction().highlight(this, highlight);
+        }
+    }
+
+    private void invalidateHighlightIndex() {
+        getUI().map(
+                ui -> ComponentUtil.getData(ui, RouterLinkHighlightIndex.class))
+                .ifPresent(RouterLinkHighlightIndex::invalidate);
     }
 }
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2000-2022 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.router;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.vaadin.flow.component.ComponentUtil;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.router.HighlightConditions.LinkCondition;
+
+/**
+ * Evaluates the predefined highlight conditions of all router links attached to
+ * a UI at once.
+ * <p>
+ * Links using {@link HighlightConditions#sameLocation()} are looked up by their
+ * href and links using {@link HighlightConditions#locationPrefix()} with a trie
+ * of their hrefs, so the highlighted links of a location are found with a
+ * single pass over its path instead of evaluating the condition of every link.
+ * The lookup structures are rebuilt lazily after links have been added, removed
+ * or changed.
+ * <p>
+ * For internal use only. May be renamed or removed in a future release.
+ *
+ * @author Vaadin Ltd
+ * @since 23.2
+ */
+final class RouterLinkHighlightIndex implements Serializable {
+
+    private static final class Node implements Serializable {
+        private final Map<Character, Node> children = new HashMap<>();
+        private final List<RouterLink> links = new ArrayList<>();
+    }
+
+    private final Set<RouterLink> links = new HashSet<>();
+
+    private transient Node prefixes;
+    private transient Map<String, List<RouterLink>> locations;
+
+    private transient String path;
+    private transient Set<RouterLink> highlighted;
+
+    /**
+     * Gets the index of the given UI, creating it if necessary.
+     *
+     * @param ui
+     *            the UI to get the index for, not {@code null}
+     * @return the index of the UI, not {@code null}
+     */
+    static RouterLinkHighlightIndex get(UI ui) {
+        RouterLinkHighlightIndex index = ComponentUtil.getData(ui,
+                RouterLinkHighlightIndex.class);
+        if (index == null) {
+            index = new RouterLinkHighlightIndex();
+            ComponentUtil.setData(ui, RouterLinkHighlightIndex.class, index);
+        }
+        return index;
+    }
+
+    /**
+     * Checks whether the given condition can be evaluated by an index.
+     *
+     * @param condition
+     *            the highlight condition to check
+     * @return {@code true} if the condition can be evaluated by an index,
+     *         {@code false} otherwise
+     */
+    static boolean isIndexed(HighlightCondition<RouterLink> condition) {
+        return condition instanceof LinkCondition;
+    }
+
+    /**
+     * Adds a link to this index.
+     *
+     * @param link
+     *            the link to add, not {@code null}
+     */
+    void add(RouterLink link) {
+        links.add(link);
+        invalidate();
+    }
+
+    /**
+     * Removes a link from this index.
+     *
+     * @param link
+     *            the link to remove, not {@code null}
+     */
+    void remove(RouterLink link) {
+        if (links.remove(link)) {
+            invalidate();
+        }
+    }
+
+    /**
+     * Marks the index to be rebuilt since the href or the highlight condition
+     * of a link has changed.
+     */
+    void invalidate() {
+        prefixes = null;
+        locations = null;
+        path = null;
+        highlighted = null;
+    }
+
+    /**
+     * Checks whether the given link should be highlighted for the location of
+     * the given event. The highlighted links are computed once for each
+     * location.
+     *
+     * @param link
+     *            the link to check, not {@code null}
+     * @param event
+     *            the after navigation event, not {@code null}
+     * @return {@code true} if the link should be highlighted, {@code false}
+     *         otherwise
+     */
+    boolean isHighlighted(RouterLink link, AfterNavigationEvent event) {
+        if (!links.contains(link)) {
+            return link.getHighlightCondition().shouldHighlight(link, event);
+        }
+        String currentPath = event.getLocation().getPath();
+        if (highlighted == null || !currentPath.equals(path)) {
+            highlighted = findHighlighted(currentPath);
+            path = currentPath;
+        }
+        return highlighted.contains(link);
+    }
+
+    private Set<RouterLink> findHighlighted(String currentPath) {
+        if (prefixes == null) {
+            build();
+        }
+        Set<RouterLink> result = Collections
+                .newSetFromMap(new IdentityHashMap<>());
+        result.addAll(
+                locations.getOrDefault(currentPath, Collections.emptyList()));
+        Node node = prefixes;
+        for (int i = 0; i < currentPath.length() && node != null; i++) {
+            node = node.children.get(currentPath.charAt(i));
+            if (node != null) {
+                result.addAll(node.links);
+            }
+        }
+        return result;
+    }
+
+    private void build() {
+        prefixes = new Node();
+        locations = new HashMap<>();
+        for (RouterLink link : links) {
+            HighlightCondition<RouterLink> condition = link
+                    .getHighlightCondition();
+            String href = link.getHref();
+            if (condition == LinkCondition.SAME_LOCATION || (href.isEmpty()
+                    && condition == LinkCondition.LOCATION_PREFIX)) {
+                locations.computeIfAbsent(href, key -> new ArrayList<>())
+                        .add(link);
+            } else if (condition == LinkCondition.LOCATION_PREFIX) {
+                Node node = prefixes;
+                for (int i = 0; i < href.length(); i++) {
+                    node = node.children.computeIfAbsent(href.charAt(i),
+                            key -> new Node());
+                }
+                node.links.add(link);
+            }
+        }
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2000-2022 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.router;
+
+/**
+ * Defines when a {@link RouterLink} sends a prefetch hint to the server.
+ * <p>
+ * A prefetch hint is sent once the condition has held for a short while and is
+ * canceled if the condition ends before that. The server prewarms the
+ * navigation target of the link if it is annotated with {@link PrewarmRoute}.
+ *
+ * @see RouterLink#setPrefetch(RouterLinkPrefetch)
+ *
+ * @author Vaadin Ltd
+ * @since 23.2
+ */
+public enum RouterLinkPrefetch {
+    /**
+     * No prefetch hints are sent.
+     */
+    NONE,
+
+    /**
+     * A prefetch hint is sent when the link is hovered or focused.
+     */
+    HOVER,
+
+    /**
+     * A prefetch hint is sent when the link becomes visible in the viewport.
+     */
+    VISIBLE
+}
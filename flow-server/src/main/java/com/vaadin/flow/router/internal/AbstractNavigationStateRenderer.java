@@ -106,7 +106,8 @@ public abstract class AbstractNavigationStateRenderer
      * <p>
      * Override this method to control the creation of view instances.
      * <p>
-     * By default always creates new instances.
+     * By default creates new instances, unless an instance prewarmed with
+     * {@link RouteTargetPool} is available.
      *
      * @param <T>
      *            the route target type
@@ -126,8 +127,9 @@ public abstract class AbstractNavigationStateRenderer
                 .filter(component -> component.getClass()
                         .equals(routeTargetType))
                 .findAny();
-        return (T) currentInstance.orElseGet(() -> Instantiator.get(ui)
-                .createRouteTarget(routeTargetType, event));
+        return (T) currentInstance.orElseGet(() -> RouteTargetPool
+                .take(ui, routeTargetType).orElseGet(() -> Instantiator.get(ui)
+                        .createRouteTarget(routeTargetType, event)));
     }
 
     @Override
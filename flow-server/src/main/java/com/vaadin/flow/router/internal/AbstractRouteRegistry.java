@@ -83,6 +83,24 @@ public abstract class AbstractRouteRegistry implements RouteRegistry {
 
     private CopyOnWriteArrayList<RoutesChangedListener> routesChangedListeners = new CopyOnWriteArrayList<>();
 
+    /**
+     * The registered routes of the last configuration they were collected for.
+     * Configurations are immutable, so the routes stay valid until the
+     * configuration is replaced.
+     */
+    private transient volatile RegisteredRoutes registeredRoutes;
+
+    private static final class RegisteredRoutes implements Serializable {
+        private final ConfiguredRoutes configuration;
+        private final List<RouteData> routes;
+
+        private RegisteredRoutes(ConfiguredRoutes configuration,
+                List<RouteData> routes) {
+            this.configuration = configuration;
+            this.routes = routes;
+        }
+    }
+
     /**
      * Thread-safe update of the RouteConfiguration.
      *
@@ -194,6 +212,20 @@ public abstract class AbstractRouteRegistry implements RouteRegistry {
 
     private List<RouteData> getRegisteredRoutes(
             ConfiguredRoutes configuration) {
+        RegisteredRoutes cached = registeredRoutes;
+        if (cached != null && cached.configuration == configuration) {
+            return cached.routes;
+        }
+        List<RouteData> routes = collectRegisteredRoutes(configuration);
+        // A configuration being edited may still change
+        if (!(configuration instanceof ConfigureRoutes)) {
+            registeredRoutes = new RegisteredRoutes(configuration, routes);
+        }
+        return routes;
+    }
+
+    private List<RouteData> collectRegisteredRoutes(
+            ConfiguredRoutes configuration) {
         List<RouteData> registeredRoutes = new ArrayList<>();
         configuration.getTargetRoutes().forEach(
                 (target, template) -> populateRegisteredRoutes(configuration,
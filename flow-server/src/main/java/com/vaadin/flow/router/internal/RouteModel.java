@@ -40,6 +40,12 @@ class RouteModel implements Serializable {
 
     private RouteSegment root;
 
+    /**
+     * Token identifying the segments this model may modify in place. All other
+     * segments may be shared with copies of this model.
+     */
+    private transient Object owner;
+
     private RouteModel(boolean mutable) {
         this(RouteSegment.createRoot(), mutable);
     }
@@ -59,6 +65,9 @@ class RouteModel implements Serializable {
 
     /**
      * Copy the given model into a new one.
+     * <p>
+     * The copy shares the segment tree with the original. Segments are copied
+     * only along the paths modified later in either model.
      *
      * @param original
      *            the original model.
@@ -67,7 +76,11 @@ class RouteModel implements Serializable {
      * @return a copy of the original model.
      */
     static RouteModel copy(RouteModel original, boolean mutable) {
-        return new RouteModel(new RouteSegment(original.root), mutable);
+        if (original.mutable) {
+            // The original no longer owns the shared segments
+            original.owner = null;
+        }
+        return new RouteModel(original.root, mutable);
     }
 
     /**
@@ -105,7 +118,8 @@ class RouteModel implements Serializable {
      */
     void removeRoute(String template) {
         throwIfImmutable();
-        root.removeSubRoute(template);
+        root = root.getEditable(getOwner());
+        root.removeSubRoute(template, owner);
     }
 
     /**
@@ -127,7 +141,8 @@ class RouteModel implements Serializable {
      */
     void addRoute(String template, RouteTarget target) {
         throwIfImmutable();
-        root.addSubRoute(template, target);
+        root = root.getEditable(getOwner());
+        root.addSubRoute(template, target, owner);
     }
 
     /**
@@ -253,6 +268,13 @@ class RouteModel implements Serializable {
         return result;
     }
 
+    private Object getOwner() {
+        if (owner == null) {
+            owner = new Object();
+        }
+        return owner;
+    }
+
     private void throwIfImmutable() {
         if (!mutable) {
             throw new IllegalStateException("Tried to mutate immutable model.");
@@ -17,7 +17,7 @@ package com.vaadin.flow.router.internal;
 
 import java.io.Serializable;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -32,8 +32,10 @@ import java.util.function.Function;
 import java.util.regex.Pattern;
 
 import com.vaadin.flow.component.Component;
+import com.vaadin.flow.function.SerializablePredicate;
 import com.vaadin.flow.router.Route;
 import com.vaadin.flow.router.RouteAlias;
+import com.vaadin.flow.router.RouteParameterRegex;
 import com.vaadin.flow.router.RouteParameters;
 import com.vaadin.flow.server.AmbiguousRouteConfigurationException;
 
@@ -68,9 +70,9 @@ final class RouteSegment implements Serializable {
     private RouteFormat.ParameterInfo info;
 
     /**
-     * Parameter matching regex.
+     * Parameter value matcher, created from the parameter regex.
      */
-    private Pattern pattern;
+    private SerializablePredicate<String> valueMatcher;
 
     /**
      * Target.
@@ -113,14 +115,23 @@ final class RouteSegment implements Serializable {
      */
     private boolean isMainRouteSegment;
 
-    private RouteSegment(String segmentTemplate, boolean isRoot) {
+    /**
+     * The token of the route model which may modify this segment in place.
+     * Segments are shared between copies of a route model, so any other model
+     * has to copy a segment before modifying it.
+     */
+    private transient Object owner;
+
+    private RouteSegment(String segmentTemplate, boolean isRoot, Object owner) {
         this.template = segmentTemplate;
         this.isRoot = isRoot;
+        this.owner = owner;
 
         if (RouteFormat.isParameter(segmentTemplate)) {
             info = new RouteFormat.ParameterInfo(segmentTemplate);
 
-            getRegex().ifPresent(s -> pattern = Pattern.compile(s));
+            getRegex().ifPresent(
+                    regex -> valueMatcher = createValueMatcher(regex));
 
             this.name = info.getName();
         } else {
@@ -128,37 +139,52 @@ final class RouteSegment implements Serializable {
         }
     }
 
-    public RouteSegment(RouteSegment original) {
+    /**
+     * Creates a shallow copy of the given segment, sharing the child segments
+     * with the original.
+     */
+    private RouteSegment(RouteSegment original, Object owner) {
         this.name = original.name;
         this.template = original.template;
         this.info = original.info;
-        this.pattern = original.pattern;
+        this.valueMatcher = original.valueMatcher;
         this.target = original.target;
         this.isRoot = original.isRoot;
         this.isMainRouteSegment = original.isMainRouteSegment;
+        this.owner = owner;
+
+        staticSegments = copyChildren(original.staticSegments);
+        parameterSegments = copyChildren(original.parameterSegments);
+        optionalSegments = copyChildren(original.optionalSegments);
+        varargsSegments = copyChildren(original.varargsSegments);
+        allSegments = original.allSegments == null ? null
+                : new HashMap<>(original.allSegments);
+    }
 
-        original.getStaticSegments().entrySet()
-                .forEach(e -> this.addSegment(new RouteSegment(e.getValue()),
-                        this.getStaticSegments()));
-
-        original.getParameterSegments().entrySet()
-                .forEach(e -> this.addSegment(new RouteSegment(e.getValue()),
-                        this.getParameterSegments()));
-
-        original.getOptionalSegments().entrySet()
-                .forEach(e -> this.addSegment(new RouteSegment(e.getValue()),
-                        this.getOptionalSegments()));
-
-        original.getVarargsSegments().entrySet()
-                .forEach(e -> this.addSegment(new RouteSegment(e.getValue()),
-                        this.getVarargsSegments()));
+    private static Map<String, RouteSegment> copyChildren(
+            Map<String, RouteSegment> children) {
+        return children == null ? null : new LinkedHashMap<>(children);
     }
 
     /**
      * Create a new root segment instance.
      */
     static RouteSegment createRoot() {
-        return new RouteSegment("", true);
+        return new RouteSegment("", true, null);
+    }
+
+    /**
+     * Gets a version of this segment which can be modified by the route model
+     * with the given owner token. If the segment is owned by another model, a
+     * shallow copy is returned.
+     *
+     * @param owner
+     *            the owner token of the modifying route model, not {@code null}
+     * @return this segment or a copy of it owned by {@code owner}
+     */
+    RouteSegment getEditable(Object owner) {
+        assert owner != null;
+        return this.owner == owner ? this : new RouteSegment(this, owner);
     }
 
     String getName() {
@@ -202,11 +228,52 @@ final class RouteSegment implements Serializable {
             return Objects.equals(getName(), value);
         }
 
-        if (pattern == null) {
+        if (valueMatcher == null) {
             return true;
         } else {
-            return pattern.matcher(value).matches();
+            return valueMatcher.test(value);
+        }
+    }
+
+    /**
+     * Creates the matcher for parameter values. The regular expressions used
+     * for typed parameters are checked without running the regex.
+     */
+    private static SerializablePredicate<String> createValueMatcher(
+            String regex) {
+        if (RouteParameterRegex.INTEGER.equals(regex)) {
+            return value -> isNumber(value, 0, Integer.MAX_VALUE);
+        } else if (RouteParameterRegex.LONG.equals(regex)) {
+            return value -> isNumber(value, 18, 19);
+        } else if (RouteParameterRegex.BOOLEAN.equals(regex)) {
+            return value -> "true".equals(value) || "false".equals(value);
+        }
+        Pattern pattern = Pattern.compile(regex);
+        return value -> pattern.matcher(value).matches();
+    }
+
+    /**
+     * Checks that the value is an optionally signed number of at most
+     * {@code maxDigits} digits. A number having more than {@code freeDigits}
+     * digits may not start with 9, which is how
+     * {@link RouteParameterRegex#LONG} is defined.
+     */
+    private static boolean isNumber(String value, int freeDigits,
+            int maxDigits) {
+        int start = !value.isEmpty()
+                && (value.charAt(0) == '-' || value.charAt(0) == '+') ? 1 : 0;
+        int digits = value.length() - start;
+        if (digits == 0 || digits > maxDigits) {
+            return false;
+        }
+        for (int i = start; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
         }
+        return freeDigits <= 0 || digits <= freeDigits
+                || value.charAt(start) != '9';
     }
 
     /**
@@ -249,8 +316,8 @@ final class RouteSegment implements Serializable {
         return result;
     }
 
-    void removeSubRoute(String template) {
-        removeSubRoute(PathUtil.getSegmentsList(template));
+    void removeSubRoute(String template, Object owner) {
+        removeSubRoute(PathUtil.getSegmentsList(template), owner);
     }
 
     /**
@@ -262,9 +329,11 @@ final class RouteSegment implements Serializable {
      *            details.
      * @param target
      *            target to set for the given template
+     * @param owner
+     *            the owner token of the route model being modified
      */
-    void addSubRoute(String template, RouteTarget target) {
-        addSubRoute(PathUtil.getSegmentsList(template), target);
+    void addSubRoute(String template, RouteTarget target, Object owner) {
+        addSubRoute(PathUtil.getSegmentsList(template), target, owner);
     }
 
     /**
@@ -280,11 +349,17 @@ final class RouteSegment implements Serializable {
      */
     NavigationRouteTarget getNavigationRouteTarget(String url) {
 
-        Map<String, String> parameters = new HashMap<>();
+        List<String> parameterValues = new ArrayList<>();
 
         RouteTarget routeTarget = url == null ? null
-                : findRouteTarget(PathUtil.getSegmentsList(url), parameters);
+                : findRouteTarget(
+                        PathUtil.getSegmentsList(url).toArray(new String[0]), 0,
+                        parameterValues);
 
+        Map<String, String> parameters = new HashMap<>();
+        for (int i = 0; i < parameterValues.size(); i += 2) {
+            parameters.put(parameterValues.get(i), parameterValues.get(i + 1));
+        }
         return new NavigationRouteTarget(url, routeTarget, parameters);
     }
 
@@ -385,7 +460,7 @@ final class RouteSegment implements Serializable {
         return first.getFirstLeafSegment();
     }
 
-    private void removeSubRoute(List<String> segmentPatterns) {
+    private void removeSubRoute(List<String> segmentPatterns, Object owner) {
         RouteSegment routeSegment;
         String segmentPattern = null;
         Map<String, RouteSegment> children = null;
@@ -398,14 +473,15 @@ final class RouteSegment implements Serializable {
             segmentPattern = segmentPatterns.get(0);
 
             children = getChildren(segmentPattern);
-            routeSegment = children.get(segmentPattern);
+            routeSegment = getEditableChild(segmentPattern, children, owner);
         }
 
         if (routeSegment != null) {
 
             if (segmentPatterns.size() > 1) {
                 routeSegment.removeSubRoute(
-                        segmentPatterns.subList(1, segmentPatterns.size()));
+                        segmentPatterns.subList(1, segmentPatterns.size()),
+                        owner);
             } else {
                 routeSegment.target = null;
             }
@@ -416,7 +492,8 @@ final class RouteSegment implements Serializable {
         }
     }
 
-    private void addSubRoute(List<String> segmentPatterns, RouteTarget target) {
+    private void addSubRoute(List<String> segmentPatterns, RouteTarget target,
+            Object owner) {
         boolean isMainRoute = isEmpty() && isRoot;
 
         RouteSegment routeSegment;
@@ -431,7 +508,7 @@ final class RouteSegment implements Serializable {
             segmentPattern = segmentPatterns.get(0);
 
             children = getChildren(segmentPattern);
-            routeSegment = children.get(segmentPattern);
+            routeSegment = getEditableChild(segmentPattern, children, owner);
         }
 
         if (routeSegment == null) {
@@ -452,10 +529,10 @@ final class RouteSegment implements Serializable {
                         getTarget().getTarget());
             }
 
-            routeSegment = addSegment(segmentPattern, children);
+            routeSegment = addSegment(segmentPattern, children, owner);
         }
 
-        routeSegment.setRouteTarget(segmentPatterns, target);
+        routeSegment.setRouteTarget(segmentPatterns, target, owner);
 
         if (isMainRoute) {
             RouteSegment firstSegment = getFirstLeafSegment();
@@ -464,10 +541,10 @@ final class RouteSegment implements Serializable {
     }
 
     private void setRouteTarget(List<String> segmentPatterns,
-            RouteTarget target) {
+            RouteTarget target, Object owner) {
         if (segmentPatterns.size() > 1) {
             addSubRoute(segmentPatterns.subList(1, segmentPatterns.size()),
-                    target);
+                    target, owner);
 
         } else {
             if (!hasTarget()) {
@@ -490,31 +567,44 @@ final class RouteSegment implements Serializable {
     }
 
     /**
-     * Searches for the route target using specified segments.
+     * Searches for the route target using the specified segments, starting from
+     * the segment at {@code index}.
      * <p>
-     * Input parameters argument will be filled with parameter values found in
-     * segments.
+     * Names and values of the parameters found in the segments are appended to
+     * the {@code parameters} list in pairs. Parameters are appended only when a
+     * target is found, so the list is left as it was when this method returns
+     * {@code null}. Later values take precedence over earlier ones with the
+     * same name.
      *
      * @param segments
      *            input segments from navigation url.
+     * @param index
+     *            the index of the first segment to match.
      * @param parameters
-     *            a map instance used to output the parameters found in the
-     *            input segment values.
+     *            a list used to output the names and values of the parameters
+     *            found in the input segment values.
      * @return the {@link RouteTarget} found.
      */
-    private RouteTarget findRouteTarget(List<String> segments,
-            Map<String, String> parameters) {
+    private RouteTarget findRouteTarget(String[] segments, int index,
+            List<String> parameters) {
+        boolean noSegments = index == segments.length;
 
-        // First try with a static segment (non a parameter). An empty
-        // segments list should happen only on root, so this instance should
+        // First try with a static segment (non a parameter). Running out of
+        // segments should happen only on root, so this instance should
         // resemble only the root.
-        RouteSegment routeSegment = segments.isEmpty() ? this
-                : getStaticSegments().get(segments.get(0));
+        RouteSegment routeSegment;
+        if (noSegments) {
+            routeSegment = this;
+        } else {
+            routeSegment = staticSegments == null ? null
+                    : staticSegments.get(segments[index]);
+        }
 
         // Static segments
         if (routeSegment != null) {
             RouteTarget foundTarget = routeSegment
-                    .getRouteTargetMatchingParameter(segments, parameters);
+                    .getRouteTargetMatchingParameter(segments, index,
+                            parameters);
             if (foundTarget != null) {
                 return foundTarget;
             }
@@ -522,33 +612,34 @@ final class RouteSegment implements Serializable {
 
         // If no route following a static segment was found try through
         // parameters.
-        if (!segments.isEmpty()) {
+        if (!noSegments) {
 
             RouteTarget foundTarget;
 
             // Mandatory parameters
-            foundTarget = findRouteTarget(segments, parameters,
-                    getParameterSegments());
+            foundTarget = findRouteTarget(segments, index, parameters,
+                    parameterSegments);
             if (foundTarget != null) {
                 return foundTarget;
             }
 
             // Optionals
-            foundTarget = findRouteTarget(segments, parameters,
-                    getOptionalSegments());
+            foundTarget = findRouteTarget(segments, index, parameters,
+                    optionalSegments);
             if (foundTarget != null) {
                 return foundTarget;
             }
 
             // Optional's children
-            foundTarget = findRouteTargetInOptionals(segments, parameters);
+            foundTarget = findRouteTargetInOptionals(segments, index,
+                    parameters);
             if (foundTarget != null) {
                 return foundTarget;
             }
 
             // Varargs
-            foundTarget = findRouteTarget(segments, parameters,
-                    getVarargsSegments());
+            foundTarget = findRouteTarget(segments, index, parameters,
+                    varargsSegments);
             if (foundTarget != null) {
                 return foundTarget;
             }
@@ -557,29 +648,31 @@ final class RouteSegment implements Serializable {
         return null;
     }
 
-    private RouteTarget findRouteTargetInOptionals(List<String> segments,
-            Map<String, String> parameters) {
-        RouteTarget foundTarget;
-        for (RouteSegment parameter : getOptionalSegments().values()) {
+    private RouteTarget findRouteTargetInOptionals(String[] segments, int index,
+            List<String> parameters) {
+        if (optionalSegments == null) {
+            return null;
+        }
+        for (RouteSegment parameter : optionalSegments.values()) {
             // Try ignoring the parameter if optional and look into its
             // children using the same segments.
-            Map<String, String> outputParameters = new HashMap<>();
-            foundTarget = parameter.findRouteTarget(segments, outputParameters);
-
+            RouteTarget foundTarget = parameter.findRouteTarget(segments, index,
+                    parameters);
             if (foundTarget != null) {
-                parameters.putAll(outputParameters);
                 return foundTarget;
             }
         }
         return null;
     }
 
-    private RouteTarget findRouteTarget(List<String> segments,
-            Map<String, String> parameters,
-            Map<String, RouteSegment> children) {
+    private RouteTarget findRouteTarget(String[] segments, int index,
+            List<String> parameters, Map<String, RouteSegment> children) {
+        if (children == null) {
+            return null;
+        }
         for (RouteSegment segment : children.values()) {
-            RouteTarget foundTarget = segment
-                    .getRouteTargetMatchingParameter(segments, parameters);
+            RouteTarget foundTarget = segment.getRouteTargetMatchingParameter(
+                    segments, index, parameters);
             if (foundTarget != null) {
                 return foundTarget;
             }
@@ -587,57 +680,63 @@ final class RouteSegment implements Serializable {
         return null;
     }
 
-    private RouteTarget getRouteTargetMatchingParameter(List<String> segments,
-            Map<String, String> parameters) {
+    private RouteTarget getRouteTargetMatchingParameter(String[] segments,
+            int index, List<String> parameters) {
 
-        Map<String, String> outputParameters = new HashMap<>();
+        int parametersSize = parameters.size();
+        int nextIndex;
 
         // Handle varargs.
         if (isVarargs()) {
 
-            for (String value : segments) {
-                if (!isEligible(value)) {
+            for (int i = index; i < segments.length; i++) {
+                if (!isEligible(segments[i])) {
                     // If any value is not eligible we don't want to go
                     // any further.
                     return null;
                 }
             }
 
-            outputParameters.put(getName(), PathUtil.getPath(segments));
-            segments = Collections.emptyList();
+            parameters.add(getName());
+            parameters.add(PathUtil.getPath(
+                    Arrays.asList(segments).subList(index, segments.length)));
+            nextIndex = segments.length;
 
         } else if (isParameter()) {
             // Handle one parameter value.
-            String value = segments.get(0);
+            String value = segments[index];
 
             if (isEligible(value)) {
-                outputParameters.put(getName(), value);
+                parameters.add(getName());
+                parameters.add(value);
 
             } else {
                 // If the value is not eligible we don't want to go any
                 // further.
                 return null;
             }
-        }
+            nextIndex = index + 1;
 
-        segments = segments.size() <= 1 ? Collections.emptyList()
-                : segments.subList(1, segments.size());
+        } else {
+            nextIndex = Math.min(index + 1, segments.length);
+        }
 
-        RouteTarget foundTarget = getRouteTarget(segments, outputParameters);
+        RouteTarget foundTarget = getRouteTarget(segments, nextIndex,
+                parameters);
 
-        if (foundTarget != null) {
-            parameters.putAll(outputParameters);
+        if (foundTarget == null) {
+            parameters.subList(parametersSize, parameters.size()).clear();
         }
 
         return foundTarget;
     }
 
-    private RouteTarget getRouteTarget(List<String> segments,
-            Map<String, String> outputParameters) {
+    private RouteTarget getRouteTarget(String[] segments, int index,
+            List<String> parameters) {
         RouteTarget foundTarget;
-        if (!segments.isEmpty()) {
+        if (index < segments.length) {
             // Continue looking if there any more segments.
-            foundTarget = findRouteTarget(segments, outputParameters);
+            foundTarget = findRouteTarget(segments, index, parameters);
 
         } else if (hasTarget()) {
             // Found target.
@@ -811,12 +910,30 @@ final class RouteSegment implements Serializable {
     }
 
     private RouteSegment addSegment(String segmentTemplate,
-            Map<String, RouteSegment> children) {
-        RouteSegment routeSegment = new RouteSegment(segmentTemplate, false);
+            Map<String, RouteSegment> children, Object owner) {
+        RouteSegment routeSegment = new RouteSegment(segmentTemplate, false,
+                owner);
         addSegment(routeSegment, children);
         return routeSegment;
     }
 
+    /**
+     * Gets the child with the given template, replacing it with a copy owned by
+     * {@code owner} if it is shared with other route models.
+     */
+    private RouteSegment getEditableChild(String segmentTemplate,
+            Map<String, RouteSegment> children, Object owner) {
+        RouteSegment child = children.get(segmentTemplate);
+        if (child == null) {
+            return null;
+        }
+        RouteSegment editable = child.getEditable(owner);
+        if (editable != child) {
+            addSegment(editable, children);
+        }
+        return editable;
+    }
+
     private void addSegment(RouteSegment routeSegment,
             Map<String, RouteSegment> children) {
         children.put(routeSegment.getTemplate(), routeSegment);
@@ -0,0 +1,255 @@
+/*
+ * Copyright 2000-2022 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.router.internal;
+
+import java.io.Serializable;
+import java.lang.ref.SoftReference;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.ComponentUtil;
+import com.vaadin.flow.component.HasElement;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.di.Instantiator;
+import com.vaadin.flow.internal.AnnotationReader;
+import com.vaadin.flow.router.Location;
+import com.vaadin.flow.router.NavigationEvent;
+import com.vaadin.flow.router.NavigationTrigger;
+import com.vaadin.flow.router.PrewarmRoute;
+import com.vaadin.flow.router.Router;
+import com.vaadin.flow.server.auth.ViewAccessChecker;
+
+/**
+ * Pool of navigation target instances which have been created for a UI ahead of
+ * navigation.
+ * <p>
+ * Only navigation targets annotated with {@link PrewarmRoute} can be prewarmed.
+ * The pool keeps at most {@link #getMaxSize()} instances and evicts the least
+ * recently prewarmed instance when the limit is exceeded. A pooled instance is
+ * removed from the pool when it is used for navigation. Pooled instances are
+ * only softly referenced, so the garbage collector may discard them when memory
+ * runs low, and they are not serialized with the session.
+ * <p>
+ * For internal use only. May be renamed or removed in a future release.
+ *
+ * @since 23.2
+ */
+public final class RouteTargetPool implements Serializable {
+
+    /**
+     * The default maximum number of pooled instances per UI.
+     */
+    public static final int DEFAULT_MAX_SIZE = 3;
+
+    private final UI ui;
+
+    // Soft references are not serializable, so the pool is empty after
+    // deserialization
+    private transient LinkedHashMap<Class<? extends Component>, SoftReference<Component>> pooled;
+
+    private final Set<Class<? extends Component>> pending = new HashSet<>();
+
+    private int maxSize = DEFAULT_MAX_SIZE;
+
+    private RouteTargetPool(UI ui) {
+        this.ui = ui;
+    }
+
+    /**
+     * Gets the route target pool of the given UI, creating it if necessary.
+     *
+     * @param ui
+     *            the UI to get the pool for, not {@code null}
+     * @return the route target pool of the UI, not {@code null}
+     */
+    public static RouteTargetPool get(UI ui) {
+        RouteTargetPool pool = ComponentUtil.getData(ui, RouteTargetPool.class);
+        if (pool == null) {
+            pool = new RouteTargetPool(ui);
+            ComponentUtil.setData(ui, RouteTargetPool.class, pool);
+        }
+        return pool;
+    }
+
+    /**
+     * Takes a pooled instance of the given navigation target from the pool of
+     * the given UI, if there is one.
+     *
+     * @param ui
+     *            the UI navigating to the target, not {@code null}
+     * @param routeTargetType
+     *            the navigation target type, not {@code null}
+     * @param <T>
+     *            the navigation target type
+     * @return the pooled instance, or an empty optional if there is none
+     */
+    static <T extends HasElement> Optional<T> take(UI ui,
+            Class<T> routeTargetType) {
+        RouteTargetPool pool = ComponentUtil.getData(ui, RouteTargetPool.class);
+        if (pool == null) {
+            return Optional.empty();
+        }
+        SoftReference<Component> reference = pool.getPooled()
+                .remove(routeTargetType);
+        return Optional.ofNullable(reference)
+                .map(ref -> routeTargetType.cast(ref.get()));
+    }
+
+    /**
+     * Requests an instance of the given navigation target to be created for the
+     * next navigation to it. The instance is created before the response to the
+     * current request is written. Nothing is done if an instance is already
+     * pooled or the target is currently shown.
+     * <p>
+     * Nothing is done either if a {@link ViewAccessChecker} registered for the
+     * UI denies the current user access to the target, so that views are never
+     * constructed for users who could not navigate to them.
+     *
+     * @param routeTargetType
+     *            the navigation target type, not {@code null}
+     * @throws IllegalArgumentException
+     *             if the target is not annotated with {@link PrewarmRoute}
+     */
+    public void prewarm(Class<? extends Component> routeTargetType) {
+        if (!AnnotationReader
+                .getAnnotationFor(routeTargetType, PrewarmRoute.class)
+                .isPresent()) {
+            throw new IllegalArgumentException(String.format(
+                    "Navigation target '%s' is not annotated with @%s",
+                    routeTargetType.getName(),
+                    PrewarmRoute.class.getSimpleName()));
+        }
+        if (isPooled(routeTargetType) || pending.contains(routeTargetType)) {
+            return;
+        }
+        if (!hasAccess(routeTargetType)) {
+            getLogger().debug(
+                    "Not prewarming navigation target {} since access to it is denied",
+                    routeTargetType.getName());
+            return;
+        }
+        pending.add(routeTargetType);
+        ui.beforeClientResponse(ui, context -> {
+            pending.remove(routeTargetType);
+            create(routeTargetType);
+        });
+    }
+
+    /**
+     * Checks whether an instance of the given navigation target is pooled.
+     *
+     * @param routeTargetType
+     *            the navigation target type, not {@code null}
+     * @return {@code true} if an instance is pooled, {@code false} otherwise
+     */
+    public boolean isPooled(Class<? extends Component> routeTargetType) {
+        SoftReference<Component> reference = getPooled().get(routeTargetType);
+        return reference != null && reference.get() != null;
+    }
+
+    /**
+     * Gets the maximum number of pooled instances.
+     *
+     * @return the maximum number of pooled instances
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Sets the maximum number of pooled instances. Least recently prewarmed
+     * instances are evicted if the pool is larger than the new maximum.
+     *
+     * @param maxSize
+     *            the maximum number of pooled instances, not negative
+     */
+    public void setMaxSize(int maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException(
+                    "Maximum size cannot be negative");
+        }
+        this.maxSize = maxSize;
+        evict();
+    }
+
+    /**
+     * Removes all pooled instances.
+     */
+    public void clear() {
+        getPooled().clear();
+    }
+
+    private Map<Class<? extends Component>, SoftReference<Component>> getPooled() {
+        if (pooled == null) {
+            pooled = new LinkedHashMap<>();
+        }
+        return pooled;
+    }
+
+    private boolean hasAccess(Class<? extends Component> routeTargetType) {
+        return ui.getNavigationListeners(BeforeEnterHandler.class).stream()
+                .filter(ViewAccessChecker.class::isInstance)
+                .map(ViewAccessChecker.class::cast)
+                .allMatch(checker -> checker.hasAccess(routeTargetType, ui));
+    }
+
+    private void create(Class<? extends Component> routeTargetType) {
+        if (isPooled(routeTargetType) || maxSize == 0 || ui.getInternals()
+                .getActiveRouterTargetsChain().stream()
+                .anyMatch(target -> target.getClass() == routeTargetType)) {
+            return;
+        }
+        Router router = ui.getInternals().getRouter();
+        if (router == null) {
+            return;
+        }
+        String template = router.getRegistry().getTemplate(routeTargetType)
+                .orElse("");
+        NavigationEvent event = new NavigationEvent(router,
+                new Location(template), ui, NavigationTrigger.PROGRAMMATIC);
+        try {
+            getPooled().put(routeTargetType, new SoftReference<>(Instantiator
+                    .get(ui).createRouteTarget(routeTargetType, event)));
+        } catch (RuntimeException exception) {
+            getLogger().debug("Unable to prewarm navigation target {}",
+                    routeTargetType.getName(), exception);
+        }
+        evict();
+    }
+
+    private void evict() {
+        Map<Class<? extends Component>, SoftReference<Component>> instances = getPooled();
+        instances.values().removeIf(reference -> reference.get() == null);
+        Iterator<SoftReference<Component>> iterator = instances.values()
+                .iterator();
+        while (instances.size() > maxSize && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private static Logger getLogger() {
+        return LoggerFactory.getLogger(RouteTargetPool.class);
+    }
+}
@@ -75,6 +75,9 @@ public class AppShellRegistry implements Serializable {
 
     private Class<? extends AppShellConfigurator> appShellClass;
 
+    // Computed when the shell is set, checked on every index.html request
+    private boolean pageConfiguredProgrammatically;
+
     private final Lookup lookup;
 
     /**
@@ -126,6 +129,7 @@ public class AppShellRegistry implements Serializable {
      */
     public void reset() {
         this.appShellClass = null;
+        pageConfiguredProgrammatically = false;
     }
 
     /**
@@ -142,6 +146,7 @@ public class AppShellRegistry implements Serializable {
                             this.appShellClass.getName(), shell.getName()));
         }
         this.appShellClass = shell;
+        pageConfiguredProgrammatically = overridesConfigurePage(shell);
     }
 
     /**
@@ -153,6 +158,32 @@ public class AppShellRegistry implements Serializable {
         return appShellClass;
     }
 
+    /**
+     * Checks whether the app shell configures the page programmatically by
+     * overriding {@link AppShellConfigurator#configurePage(AppShellSettings)}.
+     * Unlike annotations, such a configuration may differ between requests.
+     *
+     * @return {@code true} if the page is configured programmatically,
+     *         {@code false} otherwise
+     * @since 23.2
+     */
+    public boolean isPageConfiguredProgrammatically() {
+        return pageConfiguredProgrammatically;
+    }
+
+    private static boolean overridesConfigurePage(
+            Class<? extends AppShellConfigurator> shell) {
+        if (shell == null) {
+            return false;
+        }
+        try {
+            return shell.getMethod("configurePage", AppShellSettings.class)
+                    .getDeclaringClass() != AppShellConfigurator.class;
+        } catch (NoSuchMethodException e) {
+            return true;
+        }
+    }
+
     /**
      * Checks whether the class is extending {@link AppShellConfigurator}.
      *
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2000-2022 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Serializable;
+
+/**
+ * Random access data of a {@link StreamResource}.
+ * <p>
+ * Unlike {@link InputStreamFactory}, a range source knows the length of its
+ * data and can write any part of it. This allows {@link StreamResource}
+ * instances to answer range requests, for instance when seeking in a video or
+ * resuming a download, and conditional requests based on the last modification
+ * timestamp or entity tag.
+ * <p>
+ * The methods are not called under the session lock, so the implementation must
+ * not access application data that requires the lock.
+ *
+ * @author Vaadin Ltd
+ * @since 23.2
+ */
+public interface ByteRangeSource extends Serializable {
+
+    /**
+     * Gets the length of the data in bytes.
+     *
+     * @return the length of the data, or -1 if not known
+     * @throws IOException
+     *             if an IO error occurred
+     */
+    long getLength() throws IOException;
+
+    /**
+     * Writes a range of the data into the given stream.
+     * <p>
+     * Writing stops at the end of the data, even if {@code count} would extend
+     * beyond it.
+     *
+     * @param stream
+     *            the stream to write to, not <code>null</code>
+     * @param start
+     *            the index of the first byte to write
+     * @param count
+     *            the maximum number of bytes to write
+     * @throws IOException
+     *             if an IO error occurred
+     */
+    void writeRange(OutputStream stream, long start, long count)
+            throws IOException;
+
+    /**
+     * Gets the last modification timestamp of the data.
+     *
+     * @return the last modification timestamp in milliseconds, or -1 if not
+     *         known
+     * @throws IOException
+     *             if an IO error occurred
+     */
+    default long getLastModified() throws IOException {
+        return -1;
+    }
+
+    /**
+     * Gets the entity tag of the data, including the quotes and an optional
+     * {@code W/} prefix for weak tags.
+     * <p>
+     * If no tag is provided, a weak tag derived from the length and the last
+     * modification timestamp is used when both are known.
+     *
+     * @return the entity tag, or <code>null</code> to use the default
+     * @throws IOException
+     *             if an IO error occurred
+     */
+    default String getETag() throws IOException {
+        return null;
+    }
+}
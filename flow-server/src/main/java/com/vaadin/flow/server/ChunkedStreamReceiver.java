@@ -0,0 +1,301 @@
+/*
+ * Copyright 2000-2022 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import com.vaadin.flow.internal.StateNode;
+import com.vaadin.flow.server.communication.streaming.ChunkedUpload;
+import com.vaadin.flow.server.communication.streaming.StreamingErrorEventImpl;
+
+/**
+ * A receiver for data upload from the client that, in addition to regular
+ * single request uploads, accepts uploads split into chunks.
+ * <p>
+ * Chunks are sent as separate POST requests to the receiver URI and may be sent
+ * concurrently and in any order. Each chunk request contains the raw chunk data
+ * as its body and the following headers:
+ * <ul>
+ * <li>{@value #UPLOAD_ID_HEADER}: a client generated id that is the same for
+ * all chunks of an upload</li>
+ * <li>{@code Content-Range}: the position of the chunk and the total length of
+ * the file, e.g. {@code bytes 0-1048575/10485760}</li>
+ * <li>{@value #FILE_NAME_HEADER}: the URL encoded name of the file
+ * (optional)</li>
+ * <li>{@code Content-Type}: the MIME type of the file (optional)</li>
+ * </ul>
+ * Every response contains the {@value #RECEIVED_RANGES_HEADER} header with the
+ * byte ranges received so far, e.g. {@code 0-1048575,2097152-3145727}. To
+ * resume an interrupted upload, the client sends a request without body with
+ * {@code Content-Range: bytes *}{@code /<total length>} to get the received
+ * ranges, and then sends only the missing chunks. A finished upload is
+ * remembered for the {@link #getUploadTimeout() upload timeout}, so that
+ * retried chunks and status requests are answered with its final state instead
+ * of starting a new upload.
+ * <p>
+ * At most {@link #getMaxConcurrentUploads()} uploads can be ongoing at the same
+ * time, and uploads larger than {@link #getMaxUploadSize()} are rejected.
+ * Ongoing uploads fail and their temporary files are deleted when the receiver
+ * is unregistered or the session is destroyed.
+ * <p>
+ * The {@link StreamVariable} is notified of the start of the upload when the
+ * first chunk arrives and of the end once all bytes have been received. The
+ * chunks are assembled directly into the target file of a
+ * {@link FileStreamVariable}, or otherwise into a temporary file that is
+ * streamed to {@link StreamVariable#getOutputStream()} once complete.
+ *
+ * @author Vaadin Ltd
+ * @since 23.2
+ */
+public class ChunkedStreamReceiver extends StreamReceiver {
+
+    /**
+     * Request header containing the id of a chunked upload.
+     */
+    public static final String UPLOAD_ID_HEADER = "X-Upload-Id";
+
+    /**
+     * Request header containing the URL encoded file name of a chunked upload.
+     */
+    public static final String FILE_NAME_HEADER = "X-Upload-File-Name";
+
+    /**
+     * Response header listing the byte ranges received for a chunked upload.
+     */
+    public static final String RECEIVED_RANGES_HEADER = "X-Upload-Received";
+
+    /**
+     * The default time after which an upload with no new chunks is discarded.
+     */
+    public static final Duration DEFAULT_UPLOAD_TIMEOUT = Duration.ofHours(1);
+
+    /**
+     * The default maximum number of uploads that can be ongoing at the same
+     * time.
+     */
+    public static final int DEFAULT_MAX_CONCURRENT_UPLOADS = 10;
+
+    private final Map<String, ChunkedUpload> uploads = new HashMap<>();
+
+    private Duration uploadTimeout = DEFAULT_UPLOAD_TIMEOUT;
+
+    private int maxConcurrentUploads = DEFAULT_MAX_CONCURRENT_UPLOADS;
+
+    private long maxUploadSize = -1;
+
+    /**
+     * Creates {@link ChunkedStreamReceiver} instance for {@code streamVariable}
+     * as a data receiver.
+     * <p>
+     * {@code resourceName} parameter value will be used in URI (generated when
+     * resource is registered) in a way that the {@code resourceName} is the
+     * last segment of the path. So this is synthetic file name (not real one).
+     *
+     * @param node
+     *            receiver node
+     * @param resourceName
+     *            resource name for registration URI
+     * @param streamVariable
+     *            stream variable for controlling the upload stream
+     */
+    public ChunkedStreamReceiver(StateNode node, String resourceName,
+            StreamVariable streamVariable) {
+        super(node, resourceName, streamVariable);
+    }
+
+    /**
+     * Sets the time after which an upload that receives no new chunks is
+     * discarded, so that the client can no longer resume it.
+     *
+     * @param uploadTimeout
+     *            the upload timeout, not <code>null</code>
+     */
+    public void setUploadTimeout(Duration uploadTimeout) {
+        this.uploadTimeout = Objects.requireNonNull(uploadTimeout,
+                "Upload timeout cannot be null");
+    }
+
+    /**
+     * Gets the time after which an upload that receives no new chunks is
+     * discarded.
+     *
+     * @return the upload timeout
+     */
+    public Duration getUploadTimeout() {
+        return uploadTimeout;
+    }
+
+    /**
+     * Sets the maximum number of uploads that can be ongoing at the same time.
+     * Chunks starting further uploads are rejected until an ongoing upload
+     * finishes or expires. The default is
+     * {@value #DEFAULT_MAX_CONCURRENT_UPLOADS}.
+     *
+     * @param maxConcurrentUploads
+     *            the maximum number of ongoing uploads, at least 1
+     */
+    public void setMaxConcurrentUploads(int maxConcurrentUploads) {
+        if (maxConcurrentUploads < 1) {
+            throw new IllegalArgumentException(
+                    "Max concurrent uploads must be at least 1");
+        }
+        this.maxConcurrentUploads = maxConcurrentUploads;
+    }
+
+    /**
+     * Gets the maximum number of uploads that can be ongoing at the same time.
+     *
+     * @return the maximum number of ongoing uploads
+     */
+    public int getMaxConcurrentUploads() {
+        return maxConcurrentUploads;
+    }
+
+    /**
+     * Sets the maximum total length of an upload. Chunks of larger uploads are
+     * rejected. By default the size is not limited.
+     *
+     * @param maxUploadSize
+     *            the maximum length in bytes, or -1 for no limit
+     */
+    public void setMaxUploadSize(long maxUploadSize) {
+        if (maxUploadSize < -1) {
+            throw new IllegalArgumentException(
+                    "Max upload size cannot be negative, use -1 for no limit");
+        }
+        this.maxUploadSize = maxUploadSize;
+    }
+
+    /**
+     * Gets the maximum total length of an upload.
+     *
+     * @return the maximum length in bytes, or -1 if the size is not limited
+     */
+    public long getMaxUploadSize() {
+        return maxUploadSize;
+    }
+
+    /**
+     * Gets the ongoing or recently finished upload with the given id.
+     * <p>
+     * For internal use only. May be renamed or removed in a future release.
+     * Must be called with the session locked.
+     *
+     * @param uploadId
+     *            the id of the upload
+     * @return the upload, or <code>null</code> if there is no such upload
+     */
+    public ChunkedUpload getUpload(String uploadId) {
+        return uploads.get(uploadId);
+    }
+
+    /**
+     * Adds an ongoing upload.
+     * <p>
+     * For internal use only. May be renamed or removed in a future release.
+     * Must be called with the session locked.
+     *
+     * @param upload
+     *            the upload to add, not <code>null</code>
+     */
+    public void addUpload(ChunkedUpload upload) {
+        uploads.put(upload.getId(), upload);
+    }
+
+    /**
+     * Checks whether the maximum number of ongoing uploads has been reached, so
+     * that no new upload can be started.
+     * <p>
+     * For internal use only. May be renamed or removed in a future release.
+     * Must be called with the session locked.
+     *
+     * @return <code>true</code> if no new upload can be started,
+     *         <code>false</code> otherwise
+     */
+    public boolean isUploadLimitReached() {
+        return uploads.values().stream().filter(upload -> !upload.isFinished())
+                .count() >= maxConcurrentUploads;
+    }
+
+    /**
+     * Fails an upload, unless it has already finished. The stream variable is
+     * notified and the temporary file of the upload is deleted.
+     * <p>
+     * For internal use only. May be renamed or removed in a future release.
+     * Must be called with the session locked.
+     *
+     * @param upload
+     *            the upload to fail, not <code>null</code>
+     * @param exception
+     *            the reason of the failure
+     */
+    public void failUpload(ChunkedUpload upload, Exception exception) {
+        // Concurrent chunks may all notice the failure, notify only once
+        if (!upload.finish(true)) {
+            return;
+        }
+        try {
+            getStreamVariable().streamingFailed(
+                    new StreamingErrorEventImpl(upload.getFileName(),
+                            upload.getMimeType(), upload.getContentLength(),
+                            upload.getReceivedBytes(), exception));
+        } finally {
+            upload.deleteTemporaryFile();
+        }
+    }
+
+    /**
+     * Removes all uploads, failing the ongoing ones. Called when the receiver
+     * can no longer be reached by the client.
+     * <p>
+     * Must be called with the session locked.
+     */
+    void discardUploads() {
+        List<ChunkedUpload> discarded = new ArrayList<>(uploads.values());
+        uploads.clear();
+        for (ChunkedUpload upload : discarded) {
+            failUpload(upload, new IOException("Upload receiver removed"));
+        }
+    }
+
+    /**
+     * Removes and returns the uploads that have not received chunks, or have
+     * finished, longer than the {@link #getUploadTimeout() upload timeout} ago.
+     * <p>
+     * For internal use only. May be renamed or removed in a future release.
+     * Must be called with the session locked.
+     *
+     * @return the expired uploads, not <code>null</code>
+     */
+    public List<ChunkedUpload> removeExpiredUploads() {
+        List<ChunkedUpload> expired = new ArrayList<>();
+        long timeout = uploadTimeout.toMillis();
+        uploads.values().removeIf(upload -> {
+            if (upload.isExpired(timeout)) {
+                expired.add(upload);
+                return true;
+            }
+            return false;
+        });
+        return expired;
+    }
+}
@@ -232,6 +232,13 @@ public final class Constants implements Serializable {
     public static final String TEMPLATE_DIRECTORY = Constants.VAADIN_CONFIGURATION
             + "templates/";
 
+    /**
+     * Default resource directory to place the PWA icons generated during the
+     * production build in. The icons are then not drawn on startup.
+     */
+    public static final String PWA_ICONS_DIRECTORY = Constants.VAADIN_CONFIGURATION
+            + "pwa-icons/";
+
     /**
      * Name of the <code>npm</code> main file.
      */
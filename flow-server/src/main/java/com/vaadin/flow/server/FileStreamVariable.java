@@ -0,0 +1,67 @@
+/*
+ * Copyright 2000-2022 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * A {@link StreamVariable} whose value is streamed directly into a file.
+ * <p>
+ * The upload handler writes the received data into the file returned by
+ * {@link #getTargetFile()} through a {@link FileChannel}, instead of an
+ * {@link OutputStream} provided by the application. This is the fastest way of
+ * receiving large uploads. Use e.g.
+ * {@link Files#createTempFile(String, String, java.nio.file.attribute.FileAttribute...)}
+ * to receive the data into a temporary file.
+ *
+ * @author Vaadin Ltd
+ * @since 23.2
+ */
+public interface FileStreamVariable extends StreamVariable {
+
+    /**
+     * Invoked when a new upload arrives, after
+     * {@link #streamingStarted(StreamingStartEvent)} method has been called.
+     * The uploaded data will be written to the returned file, replacing any
+     * existing content.
+     *
+     * @return the file to which the uploaded data should be written
+     * @throws IOException
+     *             if the file could not be determined or created
+     */
+    Path getTargetFile() throws IOException;
+
+    /**
+     * Opens an output stream to the {@link #getTargetFile() target file}.
+     * <p>
+     * Only used by handlers that do not support writing to the file directly.
+     *
+     * @return stream to which the uploaded file should be written
+     */
+    @Override
+    default OutputStream getOutputStream() {
+        try {
+            return Files.newOutputStream(getTargetFile());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -221,4 +221,23 @@ public class InitParameters implements Serializable {
      * @since
      */
     public static final String ADDITIONAL_POSTINSTALL_PACKAGES = "npm.postinstallPackages";
+
+    /**
+     * Configuration name for the maximum size in kilobytes of the in-memory
+     * cache for static resources served in production mode, including their
+     * precompressed variants. The cache is disabled by default.
+     *
+     * @since 23.2
+     */
+    public static final String STATIC_RESOURCE_CACHE_SIZE = "staticResourceCacheSize";
+
+    /**
+     * Configuration name for the maximum size in kilobytes of the in-memory
+     * cache for text resources that are compressed on the fly in production
+     * mode, because they have no precompressed variants. Compressing on the fly
+     * is disabled by default.
+     *
+     * @since 23.2
+     */
+    public static final String COMPRESSED_RESOURCE_CACHE_SIZE = "compressedResourceCacheSize";
 }
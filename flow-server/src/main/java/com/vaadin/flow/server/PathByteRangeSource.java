@@ -0,0 +1,82 @@
+/*
+ * Copyright 2000-2022 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Range source reading the data from a file.
+ * <p>
+ * The data is written using
+ * {@link FileChannel#transferTo(long, long, WritableByteChannel)}, which leaves
+ * it to the JDK to pick the most efficient way of copying the data to the
+ * response.
+ *
+ * @author Vaadin Ltd
+ * @since 23.2
+ */
+class PathByteRangeSource implements ByteRangeSource {
+
+    // Path is not serializable
+    private final URI uri;
+
+    PathByteRangeSource(Path path) {
+        uri = path.toUri();
+    }
+
+    @Override
+    public long getLength() throws IOException {
+        return Files.size(getPath());
+    }
+
+    @Override
+    public long getLastModified() throws IOException {
+        return Files.getLastModifiedTime(getPath()).toMillis();
+    }
+
+    @Override
+    public void writeRange(OutputStream stream, long start, long count)
+            throws IOException {
+        try (FileChannel channel = FileChannel.open(getPath(),
+                StandardOpenOption.READ)) {
+            // Not closed, since that would close the response stream
+            WritableByteChannel target = Channels.newChannel(stream);
+            long position = start;
+            long end = start + Math.min(count, channel.size() - start);
+            while (position < end) {
+                long transferred = channel.transferTo(position, end - position,
+                        target);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+            }
+        }
+    }
+
+    private Path getPath() {
+        return Paths.get(uri);
+    }
+}
@@ -22,18 +22,20 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.io.Serializable;
 import java.io.UncheckedIOException;
-import java.util.Arrays;
+import java.util.Base64;
 import java.util.HashMap;
 import java.util.Map;
 
 import org.jsoup.nodes.Element;
 
+import com.vaadin.flow.internal.MessageDigestUtil;
+
 /**
  * Implementation of icons used in PWA resources.
  *
  * Creates the href automatically based on - baseName (the file name with path,
  * as {@literal icons/icon.png"}) - width (width of icon) - height (height of
- * icon) - (possibly) fileHash (the hashcode of image file)
+ * icon) - (possibly) fileHash (the SHA-256 hash of image file)
  *
  * The href will be set as: {@code [basename]-[width]x[height].png{?[filehash]}}
  *
@@ -55,7 +57,8 @@ public class PwaIcon implements Serializable {
     private final boolean shouldBeCached;
     private final int width;
     private final int height;
-    private long fileHash;
+    // Not known until the image is set
+    private String fileHash = "0";
     private String baseName;
     private Domain domain;
     private byte[] data;
@@ -219,14 +222,25 @@ public class PwaIcon implements Serializable {
         try (ByteArrayOutputStream stream = new ByteArrayOutputStream()) {
             ImageIO.write(image, "png", stream);
             stream.flush();
-            data = stream.toByteArray();
-            fileHash = Arrays.hashCode(data);
-            setRelativeName();
+            setImageData(stream.toByteArray());
         } catch (IOException ioe) {
             throw new UncheckedIOException("Failed to write an image ", ioe);
         }
     }
 
+    /**
+     * Sets the image presenting the icon from already encoded png data.
+     *
+     * @param pngData
+     *            the image data in png format
+     */
+    void setImageData(byte[] pngData) {
+        data = pngData;
+        fileHash = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(MessageDigestUtil.sha256(data));
+        setRelativeName();
+    }
+
     /**
      * Writes the icon image to output stream.
      *
@@ -23,6 +23,8 @@ import java.awt.Graphics2D;
 import java.awt.Image;
 import java.awt.image.BufferedImage;
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -32,15 +34,22 @@ import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLConnection;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.slf4j.LoggerFactory;
 
 import com.vaadin.experimental.FeatureFlags;
+import com.vaadin.flow.di.Lookup;
+import com.vaadin.flow.di.ResourceProvider;
+import com.vaadin.flow.internal.MessageDigestUtil;
 import com.vaadin.flow.server.communication.PwaHandler;
 import com.vaadin.flow.server.startup.ApplicationConfiguration;
 import com.vaadin.flow.server.startup.ApplicationRouteRegistry;
@@ -74,6 +83,7 @@ public class PwaRegistry implements Serializable {
     private static final String ORIENTATION_PORTRAIT = "portrait";
     private static final String ORIENTATION_LANDSCAPE = "landscape";
     private static final String WORKBOX_CACHE_FORMAT = "{ url: '%s', revision: '%s' }";
+    private static final String LOGO_HASH_FILE = "logo.hash";
 
     private String offlineHtml = "";
     private String manifestJson = "";
@@ -94,10 +104,7 @@ public class PwaRegistry implements Serializable {
      */
     public PwaRegistry(PWA pwa, ServletContext servletContext)
             throws IOException {
-        if (System.getProperty(HEADLESS_PROPERTY) == null) {
-            // set headless mode if the property is not explicitly set
-            System.setProperty(HEADLESS_PROPERTY, Boolean.TRUE.toString());
-        }
+        setHeadless();
 
         boolean useV14Bootstrap = false;
         ApplicationConfiguration applicationConfiguration = (ApplicationConfiguration) servletContext
@@ -123,18 +130,26 @@ public class PwaRegistry implements Serializable {
 
             // Load base logo from servlet context if available
             // fall back to local image if unavailable
-            BufferedImage baseImage = getBaseImage(logo);
-
-            if (baseImage == null) {
-                LoggerFactory.getLogger(PwaRegistry.class).error(
-                        "Image is not found or can't be loaded: " + logo);
-            } else {
-                // Pick top-left pixel as fill color if needed for image
-                // resizing
-                int bgColor = baseImage.getRGB(0, 0);
-
-                // initialize icons
-                icons = initializeIcons(baseImage, bgColor);
+            byte[] logoData = getLogoData(logo);
+
+            // Use the icons generated during the build if they were generated
+            // from the same logo, draw them only if they are not available
+            icons = getGeneratedIcons(servletContext, logoData);
+            if (icons.isEmpty()) {
+                BufferedImage baseImage = ImageIO
+                        .read(new ByteArrayInputStream(logoData));
+
+                if (baseImage == null) {
+                    LoggerFactory.getLogger(PwaRegistry.class).error(
+                            "Image is not found or can't be loaded: " + logo);
+                } else {
+                    // Pick top-left pixel as fill color if needed for image
+                    // resizing
+                    int bgColor = baseImage.getRGB(0, 0);
+
+                    // initialize icons
+                    icons = initializeIcons(baseImage, bgColor);
+                }
             }
 
             // Load offline page as string, from servlet context if
@@ -151,6 +166,105 @@ public class PwaRegistry implements Serializable {
         }
     }
 
+    /**
+     * Generates the images of all the PWA icons from the given logo and writes
+     * them to the given directory, so that they don't need to be drawn when the
+     * application starts. A hash of the logo is written along with the icons,
+     * so that icons generated from some other logo are never used.
+     * <p>
+     * For internal use only. May be renamed or removed in a future release.
+     *
+     * @param logoData
+     *            the data of the logo image to generate the icons from
+     * @param directory
+     *            the directory to write the icons to
+     * @throws IOException
+     *             if the logo can't be read or the icons can't be written
+     * @since 23.2
+     */
+    public static void generateIcons(byte[] logoData, File directory)
+            throws IOException {
+        setHeadless();
+        BufferedImage baseImage = ImageIO
+                .read(new ByteArrayInputStream(logoData));
+        if (baseImage == null) {
+            throw new IOException("The PWA logo image can't be loaded");
+        }
+        int bgColor = baseImage.getRGB(0, 0);
+
+        Files.createDirectories(directory.toPath());
+        Set<String> fileNames = new HashSet<>();
+        for (PwaIcon icon : getIconTemplates(PwaConfiguration.DEFAULT_ICON)) {
+            String fileName = getIconFileName(icon);
+            if (fileNames.add(fileName)) {
+                ImageIO.write(drawIconImage(baseImage, bgColor, icon), "png",
+                        new File(directory, fileName));
+            }
+        }
+        Files.write(new File(directory, LOGO_HASH_FILE).toPath(),
+                getLogoHash(logoData).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void setHeadless() {
+        if (System.getProperty(HEADLESS_PROPERTY) == null) {
+            // set headless mode if the property is not explicitly set
+            System.setProperty(HEADLESS_PROPERTY, Boolean.TRUE.toString());
+        }
+    }
+
+    private List<PwaIcon> getGeneratedIcons(ServletContext servletContext,
+            byte[] logoData) throws IOException {
+        Lookup lookup = new VaadinServletContext(servletContext)
+                .getAttribute(Lookup.class);
+        ResourceProvider resourceProvider = lookup == null ? null
+                : lookup.lookup(ResourceProvider.class);
+        if (resourceProvider == null) {
+            return new ArrayList<>();
+        }
+        String directory = Constants.VAADIN_SERVLET_RESOURCES
+                + Constants.PWA_ICONS_DIRECTORY;
+        URL logoHash = resourceProvider
+                .getApplicationResource(directory + LOGO_HASH_FILE);
+        if (logoHash == null) {
+            return new ArrayList<>();
+        }
+        try (InputStream stream = logoHash.openStream()) {
+            if (!getLogoHash(logoData).equals(
+                    new String(stream.readAllBytes(), StandardCharsets.UTF_8)
+                            .trim())) {
+                LoggerFactory.getLogger(PwaRegistry.class).debug(
+                        "The generated PWA icons are for a different logo");
+                return new ArrayList<>();
+            }
+        }
+
+        List<PwaIcon> generatedIcons = new ArrayList<>();
+        for (PwaIcon icon : getIconTemplates(pwaConfiguration.getIconPath())) {
+            URL image = resourceProvider
+                    .getApplicationResource(directory + getIconFileName(icon));
+            if (image == null) {
+                LoggerFactory.getLogger(PwaRegistry.class).debug(
+                        "The generated PWA icon '{}' is missing",
+                        getIconFileName(icon));
+                return new ArrayList<>();
+            }
+            try (InputStream stream = image.openStream()) {
+                icon.setImageData(stream.readAllBytes());
+            }
+            generatedIcons.add(icon);
+        }
+        return generatedIcons;
+    }
+
+    private static String getIconFileName(PwaIcon icon) {
+        return icon.getSizes() + ".png";
+    }
+
+    private static String getLogoHash(byte[] logoData) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(MessageDigestUtil.sha256(logoData));
+    }
+
     private URL getResourceUrl(ServletContext context, String path)
             throws MalformedURLException {
         URL resourceUrl = context.getResource(path);
@@ -175,8 +289,8 @@ public class PwaRegistry implements Serializable {
         return icons;
     }
 
-    private BufferedImage drawIconImage(BufferedImage baseImage, int bgColor,
-            PwaIcon icon) {
+    private static BufferedImage drawIconImage(BufferedImage baseImage,
+            int bgColor, PwaIcon icon) {
         BufferedImage bimage = new BufferedImage(icon.getWidth(),
                 icon.getHeight(), BufferedImage.TYPE_INT_ARGB);
         // Draw the image on to the buffered image
@@ -391,11 +505,25 @@ public class PwaRegistry implements Serializable {
         }
     }
 
-    private BufferedImage getBaseImage(URL logo) throws IOException {
+    private byte[] getLogoData(URL logo) throws IOException {
         URLConnection logoResource = logo != null ? logo.openConnection()
-                : BootstrapHandler.class.getResource("default-logo.png")
-                        .openConnection();
-        return ImageIO.read(logoResource.getInputStream());
+                : getDefaultLogo().openConnection();
+        try (InputStream stream = logoResource.getInputStream()) {
+            return stream.readAllBytes();
+        }
+    }
+
+    /**
+     * Gets the logo used for generating the PWA icons when the application
+     * doesn't provide one.
+     * <p>
+     * For internal use only. May be renamed or removed in a future release.
+     *
+     * @return the url of the default logo
+     * @since 23.2
+     */
+    public static URL getDefaultLogo() {
+        return BootstrapHandler.class.getResource("default-logo.png");
     }
 
     /**
@@ -57,4 +57,28 @@ public interface RequestHandler extends Serializable {
     boolean handleRequest(VaadinSession session, VaadinRequest request,
             VaadinResponse response) throws IOException;
 
+    /**
+     * Checks whether this handler needs a {@link VaadinSession} to handle the
+     * given request.
+     * <p>
+     * Service level handlers that return <code>false</code> are called before
+     * the session for the request is looked up or created, with
+     * <code>null</code> as the session, and are not called again once the
+     * session is available. This avoids creating and locking sessions for
+     * requests that don't need one, such as requests for static resources made
+     * by crawlers. Such a handler must not handle requests that a preceding
+     * handler in the chain would handle.
+     * <p>
+     * The default implementation returns <code>true</code>.
+     *
+     * @param request
+     *            the request to handle
+     * @return <code>true</code> if the handler needs a session for the request,
+     *         <code>false</code> if it should be called without one
+     * @since 23.2
+     */
+    default boolean isSessionRequired(VaadinRequest request) {
+        return true;
+    }
+
 }
@@ -15,7 +15,9 @@
  */
 package com.vaadin.flow.server;
 
+import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -48,6 +50,26 @@ public class SessionRouteRegistry extends AbstractRouteRegistry {
 
     private final VaadinSession session;
 
+    /**
+     * The merged routes of this registry and the parent registry. The route
+     * lists of both registries are replaced whenever their routes change, so
+     * the merged routes are valid as long as both lists are the same.
+     */
+    private transient volatile MergedRoutes mergedRoutes;
+
+    private static final class MergedRoutes implements Serializable {
+        private final List<RouteData> ownRoutes;
+        private final List<RouteData> parentRoutes;
+        private final List<RouteData> routes;
+
+        private MergedRoutes(List<RouteData> ownRoutes,
+                List<RouteData> parentRoutes, List<RouteData> routes) {
+            this.ownRoutes = ownRoutes;
+            this.parentRoutes = parentRoutes;
+            this.routes = routes;
+        }
+    }
+
     /**
      * Package protected constructor for the session route registry.
      * <p>
@@ -87,10 +109,17 @@ public class SessionRouteRegistry extends AbstractRouteRegistry {
 
     @Override
     public List<RouteData> getRegisteredRoutes() {
-        List<RouteData> routes = new ArrayList<>(super.getRegisteredRoutes());
-
+        List<RouteData> ownRoutes = super.getRegisteredRoutes();
         List<RouteData> registeredRoutes = getParentRegistry()
                 .getRegisteredRoutes();
+
+        MergedRoutes cached = mergedRoutes;
+        if (cached != null && cached.ownRoutes == ownRoutes
+                && cached.parentRoutes == registeredRoutes) {
+            return cached.routes;
+        }
+
+        List<RouteData> routes = new ArrayList<>(ownRoutes);
         if (!registeredRoutes.isEmpty()) {
             Set<String> collect = routes.stream().map(RouteData::getTemplate)
                     .collect(Collectors.toSet());
@@ -99,7 +128,9 @@ public class SessionRouteRegistry extends AbstractRouteRegistry {
                     .forEach(routes::add);
         }
 
-        return routes;
+        List<RouteData> result = Collections.unmodifiableList(routes);
+        mergedRoutes = new MergedRoutes(ownRoutes, registeredRoutes, result);
+        return result;
     }
 
     /**
@@ -190,7 +221,8 @@ public class SessionRouteRegistry extends AbstractRouteRegistry {
     private boolean parentContainsExactMatch(String url) {
         final List<RouteData> parentRoutes = getParentRegistry()
                 .getRegisteredRoutes();
-        final List<RouteData> registeredRoutes = getRegisteredRoutes();
+        final List<RouteData> registeredRoutes = new ArrayList<>(
+                super.getRegisteredRoutes());
 
         // Remove any routes coming from parent registry
         registeredRoutes.removeAll(parentRoutes);
@@ -34,6 +34,7 @@ import java.nio.file.Paths;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.regex.Pattern;
 
 import org.slf4j.Logger;
@@ -43,6 +44,7 @@ import com.vaadin.flow.function.DeploymentConfiguration;
 import com.vaadin.flow.internal.DevModeHandler;
 import com.vaadin.flow.internal.DevModeHandlerManager;
 import com.vaadin.flow.internal.ResponseWriter;
+import com.vaadin.flow.internal.StaticResourceCache;
 
 import static com.vaadin.flow.server.Constants.VAADIN_MAPPING;
 import static com.vaadin.flow.server.Constants.VAADIN_WEBAPP_RESOURCES;
@@ -89,6 +91,9 @@ public class StaticFileServer implements StaticFileHandler {
         this.vaadinService = vaadinService;
         deploymentConfiguration = vaadinService.getDeploymentConfiguration();
         responseWriter = new ResponseWriter(deploymentConfiguration);
+        responseWriter.getCompressedResourceCache().ifPresent(
+                compressedCache -> vaadinService.addServiceDestroyListener(
+                        event -> compressedCache.shutdown()));
 
         this.devModeHandler = DevModeHandlerManager
                 .getDevModeHandler(vaadinService).orElse(null);
@@ -246,6 +251,14 @@ public class StaticFileServer implements StaticFileHandler {
             return true;
         }
 
+        Optional<StaticResourceCache.Resource> cachedResource = responseWriter
+                .getCachedResource(filenameWithPath);
+        if (cachedResource.isPresent()) {
+            writeCachedResource(filenameWithPath, cachedResource.get(), request,
+                    response);
+            return true;
+        }
+
         URL resourceUrl = null;
         if (APP_THEME_PATTERN.matcher(filenameWithPath).find()) {
             resourceUrl = vaadinService.getClassLoader()
@@ -283,6 +296,14 @@ public class StaticFileServer implements StaticFileHandler {
 
         // There is a resource!
 
+        cachedResource = responseWriter.cacheResource(filenameWithPath,
+                resourceUrl, request);
+        if (cachedResource.isPresent()) {
+            writeCachedResource(filenameWithPath, cachedResource.get(), request,
+                    response);
+            return true;
+        }
+
         // Intentionally writing cache headers also for 304 responses
         writeCacheHeaders(filenameWithPath, response);
 
@@ -299,6 +320,31 @@ public class StaticFileServer implements StaticFileHandler {
         return true;
     }
 
+    private void writeCachedResource(String filenameWithPath,
+            StaticResourceCache.Resource resource, HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        // Intentionally writing cache headers also for 304 responses
+        writeCacheHeaders(filenameWithPath, response);
+
+        long timestamp = resource.getLastModified();
+        if (timestamp >= 0) {
+            response.setDateHeader("Last-Modified", timestamp);
+        }
+        // If-None-Match takes precedence over If-Modified-Since
+        String ifNoneMatch = request.getHeader("If-None-Match");
+        boolean notModified = ifNoneMatch != null
+                ? resource.matchesETag(ifNoneMatch)
+                : browserHasNewestVersion(request, timestamp);
+        if (notModified) {
+            response.setHeader("ETag",
+                    responseWriter.getETag(resource, request));
+            response.setStatus(HttpStatusCode.NOT_MODIFIED.getCode());
+            return;
+        }
+        responseWriter.writeResponseContents(filenameWithPath, resource,
+                request, response);
+    }
+
     /**
      * Returns a URL to the static Web resource at the given URI or null if no
      * file found.
@@ -20,6 +20,7 @@ import javax.servlet.ServletContext;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.file.Path;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -53,6 +54,8 @@ public class StreamResource extends AbstractStreamResource {
 
     private final StreamResourceWriter writer;
 
+    private final ByteRangeSource rangeSource;
+
     private ContentTypeResolver resolver = DEFAULT_RESOLVER;
 
     private Map<String, String> headers;
@@ -126,6 +129,21 @@ public class StreamResource extends AbstractStreamResource {
         }
     }
 
+    private static class RangeWriter implements StreamResourceWriter {
+
+        private final ByteRangeSource source;
+
+        private RangeWriter(ByteRangeSource source) {
+            this.source = source;
+        }
+
+        @Override
+        public void accept(OutputStream stream, VaadinSession session)
+                throws IOException {
+            source.writeRange(stream, 0, Long.MAX_VALUE);
+        }
+    }
+
     /**
      * Creates {@link StreamResource} instance using mandatory parameters
      * {@code name} as a resource file name and output stream {@code writer} as
@@ -143,6 +161,11 @@ public class StreamResource extends AbstractStreamResource {
      *            data output stream consumer
      */
     public StreamResource(String name, StreamResourceWriter writer) {
+        this(name, writer, null);
+    }
+
+    private StreamResource(String name, StreamResourceWriter writer,
+            ByteRangeSource rangeSource) {
         assert name != null;
         assert writer != null;
 
@@ -152,6 +175,7 @@ public class StreamResource extends AbstractStreamResource {
         }
         fileName = name;
         this.writer = writer;
+        this.rangeSource = rangeSource;
     }
 
     /**
@@ -173,6 +197,45 @@ public class StreamResource extends AbstractStreamResource {
         assert name != null;
     }
 
+    /**
+     * Creates {@link StreamResource} instance using mandatory parameters
+     * {@code name} as a resource file name and range {@code source} as a random
+     * access provider of data.
+     * <p>
+     * Such a resource supports range requests and conditional requests based on
+     * the last modification timestamp and entity tag of the source.
+     * <p>
+     * {@code name} parameter value will be used in URI (generated when resource
+     * is registered) in a way that the {@code name} is the last segment of the
+     * path. So this is synthetic file name (not real one).
+     *
+     * @param name
+     *            resource file name. May not be null.
+     * @param source
+     *            random access data source. May not be null.
+     * @since 23.2
+     */
+    public StreamResource(String name, ByteRangeSource source) {
+        this(name, new RangeWriter(source), source);
+    }
+
+    /**
+     * Creates {@link StreamResource} instance using mandatory parameters
+     * {@code name} as a resource file name and {@code file} as the data.
+     * <p>
+     * Such a resource supports range requests and conditional requests based on
+     * the last modification timestamp of the file.
+     *
+     * @param name
+     *            resource file name. May not be null.
+     * @param file
+     *            the file to serve. May not be null.
+     * @since 23.2
+     */
+    public StreamResource(String name, Path file) {
+        this(name, new PathByteRangeSource(file));
+    }
+
     /**
      * Returns the stream resource writer.
      * <p>
@@ -185,6 +248,18 @@ public class StreamResource extends AbstractStreamResource {
         return writer;
     }
 
+    /**
+     * Gets the random access data source of the resource, if the resource was
+     * created with one.
+     *
+     * @return an optional with the range source, or an empty optional if the
+     *         resource only supports writing the whole data
+     * @since 23.2
+     */
+    public Optional<ByteRangeSource> getByteRangeSource() {
+        return Optional.ofNullable(rangeSource);
+    }
+
     /**
      * Sets the resolver which is used to lookup the content type of the
      * resource.
@@ -55,7 +55,7 @@ public class StreamResourceRegistry implements Serializable {
 
         @Override
         public void unregister() {
-            registry.res.remove(getResourceUri());
+            registry.unregister(getResourceUri());
         }
 
         @Override
@@ -108,7 +108,24 @@ public class StreamResourceRegistry implements Serializable {
      *            stream receiver resource to unregister
      */
     public void unregisterResource(StreamReceiver resource) {
-        res.remove(getURI(resource));
+        unregister(getURI(resource));
+    }
+
+    private void unregister(URI uri) {
+        AbstractStreamResource resource = res.remove(uri);
+        if (resource instanceof ChunkedStreamReceiver) {
+            ((ChunkedStreamReceiver) resource).discardUploads();
+        }
+    }
+
+    /**
+     * Discards the chunked uploads of all registered receivers, deleting their
+     * temporary files. Called when the session is destroyed.
+     */
+    void discardChunkedUploads() {
+        res.values().stream().filter(ChunkedStreamReceiver.class::isInstance)
+                .map(ChunkedStreamReceiver.class::cast)
+                .forEach(ChunkedStreamReceiver::discardUploads);
     }
 
     /**
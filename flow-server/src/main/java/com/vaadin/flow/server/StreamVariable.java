@@ -48,11 +48,14 @@ public interface StreamVariable extends Serializable {
      * Whether the {@link #onProgress(StreamingProgressEvent)} method should be
      * called during the upload.
      * <p>
-     * {@link #onProgress(StreamingProgressEvent)} is called in a synchronized
-     * block when the content is being received. This is potentially bit slow,
-     * so we are calling that method only if requested. The value is requested
-     * after the {@link #streamingStarted(StreamingStartEvent)} event, but not
-     * after reading each buffer.
+     * {@link #onProgress(StreamingProgressEvent)} is called with the session
+     * locked when the content is being received. This is potentially bit slow,
+     * so we are calling that method only if requested. Progress events are
+     * delivered asynchronously, so that receiving the content does not wait for
+     * the session lock, and only the latest event is delivered if several are
+     * waiting for the lock. The value is requested after the
+     * {@link #streamingStarted(StreamingStartEvent)} event, but not after
+     * reading each buffer.
      *
      * @return true if this {@link StreamVariable} wants to by notified during
      *         the upload of the progress of streaming.
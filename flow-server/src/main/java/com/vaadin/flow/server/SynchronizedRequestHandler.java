@@ -16,6 +16,10 @@
 package com.vaadin.flow.server;
 
 import java.io.IOException;
+import java.io.Serializable;
+import java.util.Optional;
+
+import com.vaadin.flow.internal.ReflectionCache;
 
 /**
  * RequestHandler which takes care of locking and unlocking of the VaadinSession
@@ -28,6 +32,26 @@ import java.io.IOException;
  */
 public abstract class SynchronizedRequestHandler implements RequestHandler {
 
+    private static final ReflectionCache<SynchronizedRequestHandler, Boolean> HANDLE_REQUEST_OVERRIDDEN = new ReflectionCache<>(
+            SynchronizedRequestHandler::isHandleRequestOverridden);
+
+    /**
+     * A response that has been prepared while the session was locked and is
+     * written once the session has been unlocked.
+     *
+     * @since 23.2
+     */
+    @FunctionalInterface
+    public interface DeferredResponse extends Serializable {
+        /**
+         * Writes the response. The session is not locked when this is called.
+         *
+         * @throws IOException
+         *             If an IO error occurred
+         */
+        void writeResponse() throws IOException;
+    }
+
     @Override
     public boolean handleRequest(VaadinSession session, VaadinRequest request,
             VaadinResponse response) throws IOException {
@@ -35,12 +59,120 @@ public abstract class SynchronizedRequestHandler implements RequestHandler {
             return false;
         }
 
+        if (!isWriteOutsideSessionLock()
+                || HANDLE_REQUEST_OVERRIDDEN.get(getClass())) {
+            session.lock();
+            try {
+                return synchronizedHandleRequest(session, request, response);
+            } finally {
+                session.unlock();
+            }
+        }
+
+        Optional<DeferredResponse> deferredResponse;
         session.lock();
         try {
-            return synchronizedHandleRequest(session, request, response);
+            deferredResponse = synchronizedPrepareResponse(session, request,
+                    response);
         } finally {
             session.unlock();
         }
+        if (deferredResponse.isPresent()) {
+            deferredResponse.get().writeResponse();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether a subclass overrides
+     * {@link #synchronizedHandleRequest(VaadinSession, VaadinRequest, VaadinResponse)}
+     * below the class that implements
+     * {@link #synchronizedPrepareResponse(VaadinSession, VaadinRequest, VaadinResponse)}.
+     * Preparing the response would then bypass the overridden method.
+     */
+    private static boolean isHandleRequestOverridden(
+            Class<SynchronizedRequestHandler> type) {
+        Class<?> handleDeclarer = getDeclaringClass(type,
+                "synchronizedHandleRequest");
+        Class<?> prepareDeclarer = getDeclaringClass(type,
+                "synchronizedPrepareResponse");
+        return handleDeclarer != prepareDeclarer
+                && prepareDeclarer.isAssignableFrom(handleDeclarer);
+    }
+
+    private static Class<?> getDeclaringClass(Class<?> type,
+            String methodName) {
+        try {
+            return type
+                    .getMethod(methodName, VaadinSession.class,
+                            VaadinRequest.class, VaadinResponse.class)
+                    .getDeclaringClass();
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Checks whether the response should be written after the session has been
+     * unlocked. If this returns {@code true},
+     * {@link #synchronizedPrepareResponse(VaadinSession, VaadinRequest, VaadinResponse)}
+     * is called with the session locked instead of
+     * {@link #synchronizedHandleRequest(VaadinSession, VaadinRequest, VaadinResponse)},
+     * and the returned response is written once the session has been unlocked.
+     * <p>
+     * This allows encoding and writing a large response without blocking other
+     * requests to the same session. The default implementation returns
+     * {@code false}.
+     * <p>
+     * If a subclass overrides
+     * {@link #synchronizedHandleRequest(VaadinSession, VaadinRequest, VaadinResponse)}
+     * without also overriding
+     * {@link #synchronizedPrepareResponse(VaadinSession, VaadinRequest, VaadinResponse)},
+     * the overridden method is called with the session locked and the whole
+     * response is written under the lock, regardless of this setting.
+     *
+     * @return {@code true} if the response should be written outside the
+     *         session lock, {@code false} otherwise
+     * @since 23.2
+     */
+    protected boolean isWriteOutsideSessionLock() {
+        return false;
+    }
+
+    /**
+     * Handles the request with the session locked like
+     * {@link #synchronizedHandleRequest(VaadinSession, VaadinRequest, VaadinResponse)},
+     * but leaves writing the response to the returned deferred response, which
+     * is written after the session has been unlocked. The deferred response
+     * must not access the session or any of its UIs.
+     * <p>
+     * The default implementation handles the whole request with
+     * {@link #synchronizedHandleRequest(VaadinSession, VaadinRequest, VaadinResponse)}
+     * and returns a deferred response that writes nothing.
+     *
+     * @param session
+     *            The session for the request
+     * @param request
+     *            The request to handle
+     * @param response
+     *            The response object to which a response can be written.
+     * @return the deferred response if the request has been handled and no
+     *         further request handlers should be called, otherwise an empty
+     *         optional
+     * @throws IOException
+     *             If an IO error occurred
+     * @see #isWriteOutsideSessionLock()
+     * @since 23.2
+     */
+    public Optional<DeferredResponse> synchronizedPrepareResponse(
+            VaadinSession session, VaadinRequest request,
+            VaadinResponse response) throws IOException {
+        if (synchronizedHandleRequest(session, request, response)) {
+            return Optional.of(() -> {
+            });
+        }
+        return Optional.empty();
     }
 
     /**
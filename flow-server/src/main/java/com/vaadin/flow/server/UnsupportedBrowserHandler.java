@@ -73,6 +73,17 @@ public class UnsupportedBrowserHandler extends SynchronizedRequestHandler {
             + "</head>";
     // @formatter:on
 
+    @Override
+    protected boolean canHandleRequest(VaadinRequest request) {
+        // Avoid locking the session for requests from supported browsers. The
+        // session details normally come from the same User-Agent, so the
+        // parsed details are found in the shared cache.
+        String userAgent = request.getHeader("User-Agent");
+        return userAgent == null
+                || WebBrowser.getBrowserDetails(request.getService(), userAgent)
+                        .isTooOldToFunctionProperly();
+    }
+
     @Override
     public boolean synchronizedHandleRequest(VaadinSession session,
             VaadinRequest request, VaadinResponse response) throws IOException {
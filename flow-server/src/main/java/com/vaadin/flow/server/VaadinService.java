@@ -58,6 +58,7 @@ import com.vaadin.flow.di.InstantiatorFactory;
 import com.vaadin.flow.di.Lookup;
 import com.vaadin.flow.function.DeploymentConfiguration;
 import com.vaadin.flow.i18n.I18NProvider;
+import com.vaadin.flow.internal.BrowserDetailsCache;
 import com.vaadin.flow.internal.CurrentInstance;
 import com.vaadin.flow.internal.LocaleUtil;
 import com.vaadin.flow.internal.UsageStatistics;
@@ -190,6 +191,8 @@ public abstract class VaadinService implements Serializable {
 
     private VaadinContext vaadinContext;
 
+    private final BrowserDetailsCache browserDetailsCache = new BrowserDetailsCache();
+
     /**
      * Creates a new vaadin service based on a deployment configuration.
      *
@@ -617,6 +620,20 @@ public abstract class VaadinService implements Serializable {
                 listener -> listener.modifyIndexHtmlResponse(response));
     }
 
+    /**
+     * Checks whether any {@link IndexHtmlRequestListener} is registered. The
+     * Index HTML page is only written from a precompiled template when there
+     * are no listeners that need to modify its DOM.
+     *
+     * @return {@code true} if there are registered listeners, {@code false}
+     *         otherwise
+     * @since 23.2
+     */
+    public boolean hasIndexHtmlRequestListeners() {
+        return indexHtmlRequestListeners != null
+                && indexHtmlRequestListeners.iterator().hasNext();
+    }
+
     /**
      * Handles destruction of the given session. Internally ensures proper
      * locking is done.
@@ -648,6 +665,9 @@ public abstract class VaadinService implements Serializable {
                     session.removeUI(ui);
                 });
             }
+            // Receivers not tied to a detached component may still have
+            // uploads with temporary files
+            session.getResourceRegistry().discardChunkedUploads();
             SessionDestroyEvent event = new SessionDestroyEvent(
                     VaadinService.this, session);
             for (SessionDestroyListener listener : sessionDestroyListeners) {
@@ -1554,13 +1574,24 @@ public abstract class VaadinService implements Serializable {
 
         VaadinSession vaadinSession = null;
         try {
+            // Let handlers that don't need a session try first, so that no
+            // session is created or locked for their requests
+            List<RequestHandler> sessionHandlers = new ArrayList<>();
+            for (RequestHandler handler : getRequestHandlers()) {
+                if (handler.isSessionRequired(request)) {
+                    sessionHandlers.add(handler);
+                } else if (handler.handleRequest(null, request, response)) {
+                    return;
+                }
+            }
+
             // Find out the service session this request is related to
             vaadinSession = findVaadinSession(request);
             if (vaadinSession == null) {
                 return;
             }
 
-            for (RequestHandler handler : getRequestHandlers()) {
+            for (RequestHandler handler : sessionHandlers) {
                 if (handler.handleRequest(vaadinSession, request, response)) {
                     return;
                 }
@@ -2241,6 +2272,17 @@ public abstract class VaadinService implements Serializable {
         return VaadinSession.class.getName() + "." + getServiceName();
     }
 
+    /**
+     * Gets the cache of parsed browser details shared by all sessions of this
+     * service.
+     *
+     * @return the browser details cache, not <code>null</code>
+     * @since 23.2
+     */
+    public BrowserDetailsCache getBrowserDetailsCache() {
+        return browserDetailsCache;
+    }
+
     /**
      * Gets the router used for UIs served by this service.
      *
@@ -19,6 +19,7 @@ package com.vaadin.flow.server;
 import java.io.Serializable;
 import java.util.Locale;
 
+import com.vaadin.flow.internal.BrowserDetailsCache;
 import com.vaadin.flow.shared.BrowserDetails;
 
 /**
@@ -65,10 +66,28 @@ public class WebBrowser implements Serializable {
 
         if (agent != null) {
             browserApplication = agent;
-            browserDetails = new BrowserDetails(agent);
+            browserDetails = getBrowserDetails(request.getService(), agent);
         }
     }
 
+    /**
+     * For internal use only. Gets the browser details for the given User-Agent
+     * string, using the cache of the service if available.
+     *
+     * @param service
+     *            the service to get the cache from, or <code>null</code>
+     * @param userAgent
+     *            the User-Agent string, not <code>null</code>
+     * @return the browser details, not <code>null</code>
+     */
+    static BrowserDetails getBrowserDetails(VaadinService service,
+            String userAgent) {
+        BrowserDetailsCache cache = service == null ? null
+                : service.getBrowserDetailsCache();
+        return cache == null ? new BrowserDetails(userAgent)
+                : cache.get(userAgent);
+    }
+
     /**
      * Get the browser user-agent string.
      *
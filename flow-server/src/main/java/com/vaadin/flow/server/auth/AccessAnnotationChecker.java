@@ -28,6 +28,7 @@ import javax.annotation.security.PermitAll;
 import javax.annotation.security.RolesAllowed;
 import javax.servlet.http.HttpServletRequest;
 
+import com.vaadin.flow.internal.ReflectionCache;
 import com.vaadin.flow.server.VaadinServletRequest;
 
 /**
@@ -55,6 +56,55 @@ import com.vaadin.flow.server.VaadinServletRequest;
  */
 public class AccessAnnotationChecker implements Serializable {
 
+    private static final ReflectionCache<Object, Class<?>> SECURITY_TARGETS = new ReflectionCache<>(
+            AccessAnnotationChecker::findSecurityTarget);
+
+    private static final ReflectionCache<Object, AccessRule> ACCESS_RULES = new ReflectionCache<>(
+            AccessRule::new);
+
+    /**
+     * The security annotations of a class or a method.
+     */
+    private static final class AccessRule implements Serializable {
+        private final boolean denyAll;
+        private final boolean anonymousAllowed;
+        private final boolean permitAll;
+        private final String[] rolesAllowed;
+
+        private AccessRule(AnnotatedElement annotatedClassOrMethod) {
+            denyAll = annotatedClassOrMethod.isAnnotationPresent(DenyAll.class);
+            anonymousAllowed = annotatedClassOrMethod
+                    .isAnnotationPresent(AnonymousAllowed.class);
+            permitAll = annotatedClassOrMethod
+                    .isAnnotationPresent(PermitAll.class);
+            RolesAllowed annotation = annotatedClassOrMethod
+                    .getAnnotation(RolesAllowed.class);
+            rolesAllowed = annotation == null ? null : annotation.value();
+        }
+
+        private boolean hasAccess(Principal principal,
+                Function<String, Boolean> roleChecker) {
+            if (denyAll) {
+                return false;
+            }
+            if (anonymousAllowed) {
+                return true;
+            }
+            if (principal == null) {
+                return false;
+            }
+            if (rolesAllowed == null) {
+                return permitAll;
+            }
+            for (String role : rolesAllowed) {
+                if (roleChecker.apply(role)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
     /**
      * Checks if the user defined by the current active servlet request (using
      * {@link HttpServletRequest#getUserPrincipal()} and
@@ -224,6 +274,10 @@ public class AccessAnnotationChecker implements Serializable {
     public AnnotatedElement getSecurityTarget(Class<?> cls) {
         Objects.requireNonNull(cls, "The input Class must not be null.");
 
+        return SECURITY_TARGETS.get(cls);
+    }
+
+    private static Class<?> findSecurityTarget(Class<?> cls) {
         Class<?> clazz = cls;
         while (clazz != null && clazz != Object.class) {
             if (hasSecurityAnnotation(clazz)) {
@@ -236,37 +290,17 @@ public class AccessAnnotationChecker implements Serializable {
 
     private boolean hasAccess(AnnotatedElement annotatedClassOrMethod,
             Principal principal, Function<String, Boolean> roleChecker) {
-        if (annotatedClassOrMethod.isAnnotationPresent(DenyAll.class)) {
-            return false;
-        }
-        if (annotatedClassOrMethod
-                .isAnnotationPresent(AnonymousAllowed.class)) {
-            return true;
-        }
-        if (principal == null) {
-            return false;
-        }
-        RolesAllowed rolesAllowed = annotatedClassOrMethod
-                .getAnnotation(RolesAllowed.class);
-        if (rolesAllowed == null) {
-            return annotatedClassOrMethod.isAnnotationPresent(PermitAll.class);
+        AccessRule rule;
+        if (annotatedClassOrMethod instanceof Class) {
+            // Class level rules are resolved once per class
+            rule = ACCESS_RULES.get((Class<?>) annotatedClassOrMethod);
         } else {
-            return roleAllowed(rolesAllowed, roleChecker);
+            rule = new AccessRule(annotatedClassOrMethod);
         }
+        return rule.hasAccess(principal, roleChecker);
     }
 
-    private boolean roleAllowed(RolesAllowed rolesAllowed,
-            Function<String, Boolean> roleChecker) {
-        for (String role : rolesAllowed.value()) {
-            if (roleChecker.apply(role)) {
-                return true;
-            }
-        }
-
-        return false;
-    }
-
-    private boolean hasSecurityAnnotation(AnnotatedElement method) {
+    private static boolean hasSecurityAnnotation(AnnotatedElement method) {
         return method.isAnnotationPresent(AnonymousAllowed.class)
                 || method.isAnnotationPresent(PermitAll.class)
                 || method.isAnnotationPresent(DenyAll.class)
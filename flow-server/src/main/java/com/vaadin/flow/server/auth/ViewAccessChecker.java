@@ -15,7 +15,11 @@
  */
 package com.vaadin.flow.server.auth;
 
+import java.io.Serializable;
 import java.security.Principal;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 
 import javax.annotation.security.DenyAll;
@@ -24,11 +28,13 @@ import javax.annotation.security.RolesAllowed;
 import javax.servlet.http.HttpSession;
 
 import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.UI;
 import com.vaadin.flow.router.BeforeEnterEvent;
 import com.vaadin.flow.router.BeforeEnterListener;
 import com.vaadin.flow.router.NotFoundException;
 import com.vaadin.flow.server.VaadinRequest;
 import com.vaadin.flow.server.VaadinServletRequest;
+import com.vaadin.flow.server.VaadinSession;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -47,6 +53,21 @@ public class ViewAccessChecker implements BeforeEnterListener {
     private Class<? extends Component> loginView;
     private String loginUrl;
     private boolean enabled = false;
+    private boolean accessDecisionCacheEnabled = false;
+    private final AtomicLong accessDecisionCacheHits = new AtomicLong();
+    private final AtomicLong accessDecisionCacheMisses = new AtomicLong();
+
+    /**
+     * Access decisions made for the principal of a session, by view class.
+     */
+    private static final class AccessDecisionCache implements Serializable {
+        private final transient Principal principal;
+        private final Map<Class<?>, Boolean> decisions = new HashMap<>();
+
+        private AccessDecisionCache(Principal principal) {
+            this.principal = principal;
+        }
+    }
 
     /**
      * Creates an instance.
@@ -97,6 +118,63 @@ public class ViewAccessChecker implements BeforeEnterListener {
         this.enabled = true;
     }
 
+    /**
+     * Sets whether access decisions are cached for the logged in user. When
+     * enabled, the decision for a view is made once per session and principal,
+     * and reused for later navigation to the same view. Decisions are discarded
+     * when the principal of the session changes.
+     * <p>
+     * Only enable the cache if the roles of a user cannot change without the
+     * principal changing as well. Principals which include the granted
+     * authorities in {@code equals}, such as the authentication tokens of
+     * Spring Security, fulfill this. Anonymous access is never cached. By
+     * default the cache is disabled.
+     *
+     * @param accessDecisionCacheEnabled
+     *            {@code true} to cache access decisions, {@code false} to check
+     *            the access on every navigation
+     * @since 23.2
+     */
+    public void setAccessDecisionCacheEnabled(
+            boolean accessDecisionCacheEnabled) {
+        this.accessDecisionCacheEnabled = accessDecisionCacheEnabled;
+    }
+
+    /**
+     * Gets whether access decisions are cached for the logged in user.
+     *
+     * @return {@code true} if access decisions are cached, {@code false}
+     *         otherwise
+     * @see #setAccessDecisionCacheEnabled(boolean)
+     * @since 23.2
+     */
+    public boolean isAccessDecisionCacheEnabled() {
+        return accessDecisionCacheEnabled;
+    }
+
+    /**
+     * Gets the number of access checks answered from the access decision cache.
+     *
+     * @return the number of cache hits
+     * @see #setAccessDecisionCacheEnabled(boolean)
+     * @since 23.2
+     */
+    public long getAccessDecisionCacheHitCount() {
+        return accessDecisionCacheHits.get();
+    }
+
+    /**
+     * Gets the number of access checks which were not found in the access
+     * decision cache and were evaluated.
+     *
+     * @return the number of cache misses
+     * @see #setAccessDecisionCacheEnabled(boolean)
+     * @since 23.2
+     */
+    public long getAccessDecisionCacheMissCount() {
+        return accessDecisionCacheMisses.get();
+    }
+
     /**
      * Sets the Flow login view to use.
      * <p>
@@ -158,7 +236,7 @@ public class ViewAccessChecker implements BeforeEnterListener {
             return;
         }
 
-        boolean hasAccess = accessAnnotationChecker.hasAccess(targetView,
+        boolean hasAccess = hasAccess(beforeEnterEvent.getUI(), targetView,
                 principal, rolesChecker);
 
         if (hasAccess) {
@@ -209,6 +287,32 @@ public class ViewAccessChecker implements BeforeEnterListener {
         }
     }
 
+    /**
+     * Checks whether the currently logged in user has access to the given
+     * navigation target in the given UI, the same way as when navigating to it.
+     * This can be used to decide whether anything should be done for the target
+     * ahead of navigation.
+     * <p>
+     * Returns {@code true} if the access checker is not enabled or the target
+     * is the login view.
+     *
+     * @param navigationTarget
+     *            the navigation target to check, not {@code null}
+     * @param ui
+     *            the UI in which the target would be shown, not {@code null}
+     * @return {@code true} if navigation to the target would be allowed,
+     *         {@code false} otherwise
+     * @since 23.2
+     */
+    public boolean hasAccess(Class<?> navigationTarget, UI ui) {
+        if (!enabled || (loginView != null && navigationTarget == loginView)) {
+            return true;
+        }
+        VaadinRequest request = VaadinRequest.getCurrent();
+        return hasAccess(ui, navigationTarget, getPrincipal(request),
+                getRolesChecker(request));
+    }
+
     /**
      * Gets a function for checking roles for the currently logged in user.
      *
@@ -226,6 +330,34 @@ public class ViewAccessChecker implements BeforeEnterListener {
         return request::isUserInRole;
     }
 
+    private boolean hasAccess(UI ui, Class<?> targetView, Principal principal,
+            Function<String, Boolean> rolesChecker) {
+        VaadinSession session = accessDecisionCacheEnabled && principal != null
+                ? ui.getSession()
+                : null;
+        if (session == null) {
+            return accessAnnotationChecker.hasAccess(targetView, principal,
+                    rolesChecker);
+        }
+
+        AccessDecisionCache cache = session
+                .getAttribute(AccessDecisionCache.class);
+        if (cache == null || !principal.equals(cache.principal)) {
+            cache = new AccessDecisionCache(principal);
+            session.setAttribute(AccessDecisionCache.class, cache);
+        }
+        Boolean decision = cache.decisions.get(targetView);
+        if (decision != null) {
+            accessDecisionCacheHits.incrementAndGet();
+            return decision;
+        }
+        accessDecisionCacheMisses.incrementAndGet();
+        boolean hasAccess = accessAnnotationChecker.hasAccess(targetView,
+                principal, rolesChecker);
+        cache.decisions.put(targetView, hasAccess);
+        return hasAccess;
+    }
+
     /**
      * Gets the principal for the currently logged in user.
      *
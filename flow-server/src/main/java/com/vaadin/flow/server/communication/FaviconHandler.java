@@ -50,4 +50,9 @@ public class FaviconHandler implements RequestHandler {
         return isFavicon;
     }
 
+    @Override
+    public boolean isSessionRequired(VaadinRequest request) {
+        return false;
+    }
+
 }
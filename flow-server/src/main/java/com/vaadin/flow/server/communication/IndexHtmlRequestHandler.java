@@ -17,17 +17,19 @@ package com.vaadin.flow.server.communication;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Serializable;
 import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import org.jsoup.Jsoup;
+import org.jsoup.nodes.Comment;
 import org.jsoup.nodes.DataNode;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
 import org.jsoup.select.Elements;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 import com.vaadin.experimental.FeatureFlags;
 import com.vaadin.flow.component.UI;
@@ -68,21 +70,27 @@ public class IndexHtmlRequestHandler extends JavaScriptBootstrapHandler {
     private static final String SCRIPT_INITIAL = "initial";
 
     @Override
-    public boolean synchronizedHandleRequest(VaadinSession session,
-            VaadinRequest request, VaadinResponse response) throws IOException {
+    public Optional<DeferredResponse> synchronizedPrepareResponse(
+            VaadinSession session, VaadinRequest request,
+            VaadinResponse response) throws IOException {
         if (writeErrorCodeIfRequestLocationIsInvalid(request, response)) {
-            return true;
+            return Optional.of(() -> {
+            });
         }
 
         DeploymentConfiguration config = session.getConfiguration();
         IndexHtmlResponse indexHtmlResponse;
 
         VaadinService service = request.getService();
+        if (canUseTemplate(config, service)) {
+            return prepareFromTemplate(session, request, response);
+        }
+
         Document indexDocument = config.isProductionMode()
                 ? getCachedIndexHtmlDocument(service)
                 : getIndexHtmlDocument(service);
 
-        prependBaseHref(request, indexDocument);
+        prependBaseHref(getServiceUrl(request), indexDocument);
         String contextRootRelativePath = request.getService()
                 .getContextRootRelativePath(request);
         rewriteBundleImportToContextRoot(indexDocument,
@@ -142,14 +150,58 @@ public class IndexHtmlRequestHandler extends JavaScriptBootstrapHandler {
             addLicenseChecker(indexDocument);
         }
 
-        try {
-            response.getOutputStream()
-                    .write(indexDocument.html().getBytes(UTF_8));
-        } catch (IOException e) {
-            getLogger().error("Error writing 'index.html' to response", e);
-            return false;
+        return Optional.of(() -> response.getOutputStream()
+                .write(indexDocument.html().getBytes(UTF_8)));
+    }
+
+    /**
+     * Checks whether the page can be written from a precompiled template. The
+     * template is only used in production mode when nothing needs to modify the
+     * DOM of the page for each request.
+     */
+    private static boolean canUseTemplate(DeploymentConfiguration config,
+            VaadinService service) {
+        return config.isProductionMode() && !config.isDevToolsEnabled()
+                && !service.hasIndexHtmlRequestListeners()
+                && !AppShellRegistry.getInstance(service.getContext())
+                        .isPageConfiguredProgrammatically();
+    }
+
+    private Optional<DeferredResponse> prepareFromTemplate(
+            VaadinSession session, VaadinRequest request,
+            VaadinResponse response) {
+        VaadinService service = request.getService();
+        IndexHtmlTemplate template = service.getContext()
+                .getAttribute(IndexHtmlHolder.class,
+                        () -> new IndexHtmlHolder(service))
+                .getTemplate(service, request);
+
+        JsonObject initialJson = Json.createObject();
+        if (service.getBootstrapInitialPredicate()
+                .includeInitialUidl(request)) {
+            includeInitialUidl(initialJson, session, request, response);
+
+            // App might be using classic server-routing, which is true
+            // unless we detect a call to JavaScriptBootstrapUI.connectClient
+            session.setAttribute(SERVER_ROUTING, Boolean.TRUE);
+        }
+
+        response.setContentType(CONTENT_TYPE_TEXT_HTML_UTF_8);
+        if (UI.getCurrent() != null && template.title != null) {
+            UI.getCurrent().getInternals().setAppShellTitle(template.title);
         }
-        return true;
+        String baseHref = getServiceUrl(request);
+        String contextRoot = service.getContextRootRelativePath(request);
+
+        return Optional.of(() -> {
+            // Only the initial elements are rendered per request, in the same
+            // order as they would be inserted to the head of the full page
+            Document initial = Document.createShell("");
+            initial.outputSettings().prettyPrint(false);
+            addInitialFlow(initialJson, initial, request);
+            template.write(response.getOutputStream(), baseHref, contextRoot,
+                    initial.head().html());
+        });
     }
 
     private void catchErrorsInDevMode(Document indexDocument) {
@@ -291,16 +343,15 @@ public class IndexHtmlRequestHandler extends JavaScriptBootstrapHandler {
         }
     }
 
-    private void configureErrorDialogStyles(Document document) {
+    private static void configureErrorDialogStyles(Document document) {
         Element styles = document.createElement("style");
         document.head().appendChild(styles);
         setupErrorDialogs(styles);
     }
 
-    private static void prependBaseHref(VaadinRequest request,
+    private static void prependBaseHref(String baseHref,
             Document indexDocument) {
         Elements base = indexDocument.head().getElementsByTag("base");
-        String baseHref = getServiceUrl(request);
         if (base.isEmpty()) {
             indexDocument.head().prependElement("base").attr("href", baseHref);
         } else {
@@ -373,6 +424,7 @@ public class IndexHtmlRequestHandler extends JavaScriptBootstrapHandler {
     // will be serialized/deserialized.
     private static final class IndexHtmlHolder implements Serializable {
         private final transient Document indexHtmlDocument;
+        private transient volatile IndexHtmlTemplate template;
 
         private IndexHtmlHolder(VaadinService service) {
             try {
@@ -386,10 +438,113 @@ public class IndexHtmlRequestHandler extends JavaScriptBootstrapHandler {
         private Document getDocument() {
             return this.indexHtmlDocument.clone();
         }
+
+        private IndexHtmlTemplate getTemplate(VaadinService service,
+                VaadinRequest request) {
+            IndexHtmlTemplate result = template;
+            if (result == null) {
+                // Compiling twice concurrently is harmless
+                result = IndexHtmlTemplate.compile(getDocument(), service,
+                        request);
+                template = result;
+            }
+            return result;
+        }
     }
 
-    private static Logger getLogger() {
-        return LoggerFactory.getLogger(IndexHtmlRequestHandler.class);
+    /**
+     * The production mode page serialized once, with splice points for the
+     * parts that differ between requests: the base href, the context root
+     * relative path of the bundle imports and the initial elements inserted
+     * first in the head.
+     */
+    private static final class IndexHtmlTemplate implements Serializable {
+
+        private static final String INITIAL_COMMENT = "__vaadin-splice-initial__";
+
+        private enum Splice {
+            BASE_HREF("__vaadin-splice-base-href__"), CONTEXT_ROOT(
+                    "__vaadin-splice-context-root__"), INITIAL(
+                            "<!--" + INITIAL_COMMENT + "-->");
+
+            private final String marker;
+
+            Splice(String marker) {
+                this.marker = marker;
+            }
+        }
+
+        private final List<byte[]> literals = new ArrayList<>();
+        private final List<Splice> splices = new ArrayList<>();
+        private final String title;
+
+        private IndexHtmlTemplate(String html, String title) {
+            this.title = title;
+            int from = 0;
+            while (true) {
+                Splice next = null;
+                int index = -1;
+                for (Splice splice : Splice.values()) {
+                    int candidate = html.indexOf(splice.marker, from);
+                    if (candidate >= 0 && (index < 0 || candidate < index)) {
+                        index = candidate;
+                        next = splice;
+                    }
+                }
+                if (next == null) {
+                    literals.add(html.substring(from).getBytes(UTF_8));
+                    return;
+                }
+                literals.add(html.substring(from, index).getBytes(UTF_8));
+                splices.add(next);
+                from = index + next.marker.length();
+            }
+        }
+
+        private static IndexHtmlTemplate compile(Document indexDocument,
+                VaadinService service, VaadinRequest request) {
+            prependBaseHref(Splice.BASE_HREF.marker, indexDocument);
+            rewriteBundleImportToContextRoot(indexDocument,
+                    Splice.CONTEXT_ROOT.marker);
+            indexDocument.head().insertChildren(0,
+                    new Comment(INITIAL_COMMENT));
+
+            configureErrorDialogStyles(indexDocument);
+            setupPwa(indexDocument, service);
+            AppShellRegistry.getInstance(service.getContext())
+                    .modifyIndexHtml(indexDocument, request);
+
+            Element titleElement = indexDocument.head().selectFirst("title");
+            String title = null;
+            if (titleElement != null) {
+                title = titleElement.text().isEmpty() ? titleElement.data()
+                        : titleElement.text();
+            }
+            return new IndexHtmlTemplate(indexDocument.html(), title);
+        }
+
+        private void write(OutputStream output, String baseHref,
+                String contextRoot, String initial) throws IOException {
+            for (int i = 0; i < splices.size(); i++) {
+                output.write(literals.get(i));
+                switch (splices.get(i)) {
+                case BASE_HREF:
+                    output.write(escapeAttribute(baseHref).getBytes(UTF_8));
+                    break;
+                case CONTEXT_ROOT:
+                    output.write(escapeAttribute(contextRoot).getBytes(UTF_8));
+                    break;
+                default:
+                    output.write(initial.getBytes(UTF_8));
+                }
+            }
+            output.write(literals.get(splices.size()));
+        }
+
+        private static String escapeAttribute(String value) {
+            return value.replace("&", "&amp;").replace("\"", "&quot;")
+                    .replace("\u00A0", "&nbsp;");
+        }
     }
 
 }
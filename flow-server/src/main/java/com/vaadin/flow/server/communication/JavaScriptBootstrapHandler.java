@@ -192,6 +192,33 @@ public class JavaScriptBootstrapHandler extends BootstrapHandler {
     @Override
     public boolean synchronizedHandleRequest(VaadinSession session,
             VaadinRequest request, VaadinResponse response) throws IOException {
+        Optional<DeferredResponse> deferredResponse = synchronizedPrepareResponse(
+                session, request, response);
+        if (deferredResponse.isPresent()) {
+            deferredResponse.get().writeResponse();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The UI is created and the initial UIDL is collected with the session
+     * locked, while the response is encoded and written after the session has
+     * been unlocked. This way concurrent first loads in the same session, for
+     * instance when opening several tabs at once, do not wait for each other to
+     * be written.
+     */
+    @Override
+    protected boolean isWriteOutsideSessionLock() {
+        return true;
+    }
+
+    @Override
+    public Optional<DeferredResponse> synchronizedPrepareResponse(
+            VaadinSession session, VaadinRequest request,
+            VaadinResponse response) throws IOException {
         try {
             // #9443 Use error code 400 for bad location and don't create UI
             // Normally caught by IndexHtmlRequestHandler, but checking here too
@@ -206,14 +233,15 @@ public class JavaScriptBootstrapHandler extends BootstrapHandler {
         } catch (InvalidLocationException invalidLocationException) {
             response.sendError(400, "Invalid location: "
                     + invalidLocationException.getMessage());
-            return true;
+            return Optional.of(() -> {
+            });
         }
 
         HandlerHelper.setResponseNoCacheHeaders(response::setHeader,
                 response::setDateHeader);
 
-        writeResponse(response, getInitialJson(request, response, session));
-        return true;
+        JsonObject initialJson = getInitialJson(request, response, session);
+        return Optional.of(() -> writeResponse(response, initialJson));
     }
 
     /**
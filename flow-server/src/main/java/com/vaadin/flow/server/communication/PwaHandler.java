@@ -19,6 +19,7 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.io.PrintWriter;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -76,6 +77,11 @@ public class PwaHandler implements RequestHandler {
                         if (icon.shouldBeCached()) {
                             response.setHeader("Cache-Control",
                                     "no-cache, must-revalidate");
+                        } else if (isCurrentHref(request, icon)) {
+                            // Href contains the hash of the image, so the
+                            // browser may cache it without revalidating
+                            response.setHeader("Cache-Control",
+                                    "public, max-age=31536000, immutable");
                         }
                         try (OutputStream out = response.getOutputStream()) {
                             icon.write(out);
@@ -125,6 +131,23 @@ public class PwaHandler implements RequestHandler {
                 });
     }
 
+    /**
+     * Checks whether the request query is the image hash of the current href of
+     * the icon. Requests without it, or with the hash of an earlier image, must
+     * not be cached as immutable.
+     */
+    private static boolean isCurrentHref(VaadinRequest request, PwaIcon icon) {
+        String href = icon.getHref();
+        int queryStart = href.indexOf('?');
+        if (queryStart < 0) {
+            return false;
+        }
+        Map<String, String[]> parameters = request.getParameterMap();
+        return parameters != null && parameters.size() == 1
+                && Arrays.equals(new String[] { "" },
+                        parameters.get(href.substring(queryStart + 1)));
+    }
+
     @Override
     public boolean handleRequest(VaadinSession session, VaadinRequest request,
             VaadinResponse response) throws IOException {
@@ -132,8 +155,7 @@ public class PwaHandler implements RequestHandler {
         boolean hasPwa = pwaRegistry != null
                 && pwaRegistry.getPwaConfiguration().isEnabled();
         RequestHandler handler = null;
-        session.lock();
-        try {
+        synchronized (requestHandlerMap) {
             if (isInitialized && !hasPwa) {
                 requestHandlerMap.clear();
             } else if (!isInitialized && hasPwa) {
@@ -143,8 +165,6 @@ public class PwaHandler implements RequestHandler {
             if (hasPwa) {
                 handler = requestHandlerMap.get(request.getPathInfo());
             }
-        } finally {
-            session.unlock();
         }
 
         if (handler == null) {
@@ -154,4 +174,10 @@ public class PwaHandler implements RequestHandler {
         }
     }
 
+    @Override
+    public boolean isSessionRequired(VaadinRequest request) {
+        // PWA resources are the same for all users
+        return false;
+    }
+
 }
@@ -25,10 +25,19 @@ import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
 import java.io.Serializable;
+import java.net.URLDecoder;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.security.MessageDigest;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import org.apache.commons.fileupload.FileItemIterator;
 import org.apache.commons.fileupload.FileItemStream;
@@ -38,9 +47,13 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.UIDetachedException;
 import com.vaadin.flow.internal.Pair;
 import com.vaadin.flow.internal.StateNode;
+import com.vaadin.flow.server.ChunkedStreamReceiver;
+import com.vaadin.flow.server.Command;
 import com.vaadin.flow.server.ErrorEvent;
+import com.vaadin.flow.server.FileStreamVariable;
 import com.vaadin.flow.server.HttpStatusCode;
 import com.vaadin.flow.server.NoInputStreamException;
 import com.vaadin.flow.server.NoOutputStreamException;
@@ -50,6 +63,7 @@ import com.vaadin.flow.server.UploadException;
 import com.vaadin.flow.server.VaadinRequest;
 import com.vaadin.flow.server.VaadinResponse;
 import com.vaadin.flow.server.VaadinSession;
+import com.vaadin.flow.server.communication.streaming.ChunkedUpload;
 import com.vaadin.flow.server.communication.streaming.StreamingEndEventImpl;
 import com.vaadin.flow.server.communication.streaming.StreamingErrorEventImpl;
 import com.vaadin.flow.server.communication.streaming.StreamingProgressEventImpl;
@@ -69,7 +83,11 @@ import static java.nio.charset.StandardCharsets.UTF_8;
  */
 public class StreamReceiverHandler implements Serializable {
 
-    private static final int MAX_UPLOAD_BUFFER_SIZE = 4 * 1024;
+    private static final Pattern CONTENT_RANGE_PATTERN = Pattern
+            .compile("^bytes (?:(\\d+)-(\\d+)|\\*)/(\\d+)$");
+
+    /* Size of the buffer used for reading uploaded data. */
+    public static final int DEFAULT_UPLOAD_BUFFER_SIZE = 64 * 1024;
 
     /* Minimum interval which will be used for streaming progress events. */
     public static final int DEFAULT_STREAMING_PROGRESS_EVENT_INTERVAL_MS = 500;
@@ -142,7 +160,12 @@ public class StreamReceiverHandler implements Serializable {
         }
 
         try {
-            if (isMultipartUpload(request)) {
+            if (streamReceiver instanceof ChunkedStreamReceiver
+                    && request.getHeader(
+                            ChunkedStreamReceiver.UPLOAD_ID_HEADER) != null) {
+                doHandleChunkedUpload(session, request, response,
+                        (ChunkedStreamReceiver) streamReceiver, source);
+            } else if (isMultipartUpload(request)) {
                 doHandleMultipartFileUpload(session, request, response,
                         streamReceiver, source);
             } else {
@@ -340,6 +363,281 @@ public class StreamReceiverHandler implements Serializable {
         sendUploadResponse(response, success);
     }
 
+    /**
+     * Handles a request containing a chunk of a chunked upload, or a request
+     * for the status of a chunked upload. See {@link ChunkedStreamReceiver} for
+     * the protocol.
+     * <p>
+     * This method takes care of locking the session as needed and does not
+     * assume the caller has locked the session. This allows the session to be
+     * locked only when needed and not when handling the upload data.
+     *
+     * @param session
+     *            The session containing the stream variable
+     * @param request
+     *            The chunk request
+     * @param response
+     *            The chunk response
+     * @param streamReceiver
+     *            the receiver containing the destination stream variable
+     * @param owner
+     *            The owner of the stream
+     * @throws IOException
+     *             If there is a problem reading the request or writing the
+     *             response
+     * @since 23.2
+     */
+    protected void doHandleChunkedUpload(VaadinSession session,
+            VaadinRequest request, VaadinResponse response,
+            ChunkedStreamReceiver streamReceiver, StateNode owner)
+            throws IOException {
+        String uploadId = request
+                .getHeader(ChunkedStreamReceiver.UPLOAD_ID_HEADER);
+        String contentRange = request.getHeader("Content-Range");
+        Matcher matcher = CONTENT_RANGE_PATTERN
+                .matcher(contentRange == null ? "" : contentRange);
+        long start;
+        long end;
+        long total;
+        try {
+            if (!matcher.matches()) {
+                throw new NumberFormatException();
+            }
+            boolean statusRequest = matcher.group(1) == null;
+            start = statusRequest ? -1 : Long.parseLong(matcher.group(1));
+            end = statusRequest ? -1 : Long.parseLong(matcher.group(2)) + 1;
+            total = Long.parseLong(matcher.group(3));
+        } catch (NumberFormatException e) {
+            start = end = total = -1;
+        }
+        if (total <= 0 || (start >= 0 && (end <= start || end > total))) {
+            getLogger().info("Received a chunk with invalid Content-Range '{}'",
+                    contentRange);
+            response.setStatus(HttpStatusCode.BAD_REQUEST.getCode());
+            return;
+        }
+        long maxUploadSize = streamReceiver.getMaxUploadSize();
+        if (maxUploadSize >= 0 && total > maxUploadSize) {
+            getLogger().info(
+                    "Rejected a chunk of an upload of {} bytes, the limit is {}",
+                    total, maxUploadSize);
+            response.setStatus(
+                    HttpStatusCode.REQUEST_ENTITY_TOO_LARGE.getCode());
+            return;
+        }
+
+        ChunkedUpload upload;
+        try {
+            upload = getOrStartChunkedUpload(session, request, streamReceiver,
+                    owner, uploadId, total, start >= 0);
+        } catch (Exception e) {
+            session.lock();
+            try {
+                session.getErrorHandler().error(new ErrorEvent(e));
+            } finally {
+                session.unlock();
+            }
+            sendUploadResponse(response, false);
+            return;
+        }
+        if (upload == null && start >= 0) {
+            getLogger().info(
+                    "Rejected a chunk of a new upload, too many uploads are ongoing");
+            response.setStatus(HttpStatusCode.SERVICE_UNAVAILABLE.getCode());
+            return;
+        }
+        if (upload != null && upload.getContentLength() != total) {
+            getLogger().info(
+                    "Received a chunk with a different total length than the upload");
+            response.setStatus(HttpStatusCode.BAD_REQUEST.getCode());
+            return;
+        }
+
+        boolean success = true;
+        if (upload != null && upload.isFinished()) {
+            // A retried chunk or status request for a finished upload
+            success = !upload.isFailed();
+        } else if (start >= 0) {
+            success = writeChunk(session, request, streamReceiver, upload,
+                    start, end);
+        }
+        response.setHeader(ChunkedStreamReceiver.RECEIVED_RANGES_HEADER,
+                upload == null ? "" : upload.getReceivedRanges());
+        sendUploadResponse(response, success);
+    }
+
+    private ChunkedUpload getOrStartChunkedUpload(VaadinSession session,
+            VaadinRequest request, ChunkedStreamReceiver streamReceiver,
+            StateNode node, String uploadId, long total, boolean start)
+            throws UploadException, IOException {
+        session.lock();
+        try {
+            if (node == null) {
+                throw new UploadException(
+                        "File upload ignored because the node for the stream variable was not found");
+            }
+            if (!node.isAttached()) {
+                throw new UploadException("Warning: file upload ignored for "
+                        + node.getId() + " because the component was disabled");
+            }
+            for (ChunkedUpload expired : streamReceiver
+                    .removeExpiredUploads()) {
+                // Does nothing for uploads that have already finished
+                streamReceiver.failUpload(expired,
+                        new IOException("Upload timed out"));
+            }
+
+            ChunkedUpload upload = streamReceiver.getUpload(uploadId);
+            if (upload != null || !start
+                    || streamReceiver.isUploadLimitReached()) {
+                return upload;
+            }
+            StreamVariable streamVariable = streamReceiver.getStreamVariable();
+            String fileName = request
+                    .getHeader(ChunkedStreamReceiver.FILE_NAME_HEADER);
+            fileName = fileName == null ? "unknown"
+                    : URLDecoder.decode(fileName, UTF_8.name());
+            String mimeType = request.getContentType() == null ? "unknown"
+                    : request.getContentType();
+            StreamingStartEventImpl startedEvent = new StreamingStartEventImpl(
+                    fileName, mimeType, total);
+            streamVariable.streamingStarted(startedEvent);
+
+            Path file;
+            boolean temporaryFile = false;
+            if (streamVariable instanceof FileStreamVariable) {
+                file = ((FileStreamVariable) streamVariable).getTargetFile();
+            } else {
+                file = Files.createTempFile("vaadin-upload-", ".part");
+                temporaryFile = true;
+            }
+            // Start from an empty file, chunks are written at their positions
+            FileChannel.open(file, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING).close();
+
+            upload = new ChunkedUpload(uploadId, fileName, mimeType, total,
+                    file, temporaryFile, startedEvent);
+            streamReceiver.addUpload(upload);
+            return upload;
+        } finally {
+            session.unlock();
+        }
+    }
+
+    private boolean writeChunk(VaadinSession session, VaadinRequest request,
+            ChunkedStreamReceiver streamReceiver, ChunkedUpload upload,
+            long start, long end) {
+        StreamVariable streamVariable = streamReceiver.getStreamVariable();
+        long position = start;
+        try (InputStream in = request.getInputStream();
+                FileChannel channel = FileChannel.open(upload.getFile(),
+                        StandardOpenOption.WRITE)) {
+            final byte[] buffer = new byte[getUploadBufferSize()];
+            final ByteBuffer byteBuffer = ByteBuffer.wrap(buffer);
+            int bytesReadToBuffer;
+            while ((bytesReadToBuffer = in.read(buffer)) > 0) {
+                if (position + bytesReadToBuffer > end) {
+                    throw new IOException(
+                            "Chunk is longer than its Content-Range");
+                }
+                byteBuffer.clear().limit(bytesReadToBuffer);
+                while (byteBuffer.hasRemaining()) {
+                    position += channel.write(byteBuffer, position);
+                }
+                upload.touch();
+                if (streamVariable.isInterrupted()) {
+                    throw new UploadInterruptedException();
+                }
+            }
+        } catch (UploadInterruptedException e) {
+            failChunkedUpload(session, streamReceiver, upload, e);
+            return false;
+        } catch (IOException e) {
+            if (upload.isFinished()) {
+                // The upload finished while this chunk was being written
+                return !upload.isFailed();
+            }
+            // Only this chunk failed, the client may send it again
+            getLogger().debug("Receiving a chunk of upload {} failed",
+                    upload.getId(), e);
+            return false;
+        }
+        if (position != end) {
+            getLogger().debug("Received an incomplete chunk for upload {}",
+                    upload.getId());
+            return false;
+        }
+
+        if (upload.isFinished()) {
+            return !upload.isFailed();
+        }
+        boolean complete = upload.addReceivedRange(start, end);
+        if (streamVariable.listenProgress()) {
+            new ProgressDispatcher(session, UI.getCurrent(), streamVariable)
+                    .dispatch(new StreamingProgressEventImpl(
+                            upload.getFileName(), upload.getMimeType(),
+                            upload.getContentLength(),
+                            upload.getReceivedBytes()));
+        }
+        return !complete
+                || finishChunkedUpload(session, streamReceiver, upload);
+    }
+
+    private boolean finishChunkedUpload(VaadinSession session,
+            ChunkedStreamReceiver streamReceiver, ChunkedUpload upload) {
+        StreamVariable streamVariable = streamReceiver.getStreamVariable();
+        try {
+            if (upload.isTemporaryFile()) {
+                OutputStream out;
+                session.lock();
+                try {
+                    out = streamVariable.getOutputStream();
+                } finally {
+                    session.unlock();
+                }
+                if (out == null) {
+                    throw new NoOutputStreamException();
+                }
+                try (OutputStream handledStream = out) {
+                    Files.copy(upload.getFile(), handledStream);
+                }
+            }
+            session.lock();
+            try {
+                // The upload is kept to answer retried chunks until it expires
+                if (!upload.finish(false)) {
+                    return !upload.isFailed();
+                }
+                streamVariable.streamingFinished(new StreamingEndEventImpl(
+                        upload.getFileName(), upload.getMimeType(),
+                        upload.getContentLength()));
+            } finally {
+                session.unlock();
+            }
+            if (upload.getStartedEvent().isDisposed()) {
+                cleanStreamVariable(session, streamReceiver);
+            }
+            return true;
+        } catch (IOException | NoOutputStreamException e) {
+            failChunkedUpload(session, streamReceiver, upload, e);
+            return false;
+        } finally {
+            upload.deleteTemporaryFile();
+        }
+    }
+
+    private void failChunkedUpload(VaadinSession session,
+            ChunkedStreamReceiver streamReceiver, ChunkedUpload upload,
+            Exception exception) {
+        session.lock();
+        try {
+            streamReceiver.failUpload(upload, exception);
+        } finally {
+            session.unlock();
+        }
+    }
+
     /**
      * Validate that stream target is in a valid state for receiving data and
      * send stream to receiver. Handles cleanup and error in reading stream
@@ -413,6 +711,20 @@ public class StreamReceiverHandler implements Serializable {
         return DEFAULT_STREAMING_PROGRESS_EVENT_INTERVAL_MS;
     }
 
+    /**
+     * Gets the size of the buffer used for reading uploaded data. Larger
+     * buffers reduce the per read overhead of large uploads at the cost of
+     * memory per concurrent upload. To adjust this value override the method,
+     * and register your own handler in VaadinService.createRequestHandlers().
+     * The default is 64 kilobytes.
+     *
+     * @return the size of the upload buffer in bytes
+     * @since 23.2
+     */
+    protected int getUploadBufferSize() {
+        return DEFAULT_UPLOAD_BUFFER_SIZE;
+    }
+
     static void tryToCloseStream(OutputStream out) {
         try {
             // try to close output stream (e.g. file handle)
@@ -473,23 +785,35 @@ public class StreamReceiverHandler implements Serializable {
         }
 
         OutputStream out = null;
+        FileChannel channel = null;
+        ProgressDispatcher progress = null;
         long totalBytes = 0;
         StreamingStartEventImpl startedEvent = new StreamingStartEventImpl(
                 filename, type, contentLength);
         boolean success = false;
         try {
             boolean listenProgress;
+            Path targetFile = null;
             session.lock();
             try {
                 streamVariable.streamingStarted(startedEvent);
-                out = streamVariable.getOutputStream();
+                if (streamVariable instanceof FileStreamVariable) {
+                    targetFile = ((FileStreamVariable) streamVariable)
+                            .getTargetFile();
+                } else {
+                    out = streamVariable.getOutputStream();
+                }
                 listenProgress = streamVariable.listenProgress();
             } finally {
                 session.unlock();
             }
 
             // Gets the output target stream
-            if (out == null) {
+            if (targetFile != null) {
+                channel = FileChannel.open(targetFile,
+                        StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                        StandardOpenOption.TRUNCATE_EXISTING);
+            } else if (out == null) {
                 throw new NoOutputStreamException();
             }
 
@@ -498,22 +822,33 @@ public class StreamReceiverHandler implements Serializable {
                 throw new NoInputStreamException();
             }
 
-            final byte[] buffer = new byte[MAX_UPLOAD_BUFFER_SIZE];
+            if (listenProgress) {
+                progress = new ProgressDispatcher(session, UI.getCurrent(),
+                        streamVariable);
+            }
+            final byte[] buffer = new byte[getUploadBufferSize()];
+            final ByteBuffer byteBuffer = ByteBuffer.wrap(buffer);
             long lastStreamingEvent = 0;
             int bytesReadToBuffer;
             do {
                 bytesReadToBuffer = in.read(buffer);
                 if (bytesReadToBuffer > 0) {
-                    out.write(buffer, 0, bytesReadToBuffer);
+                    if (channel != null) {
+                        byteBuffer.clear().limit(bytesReadToBuffer);
+                        while (byteBuffer.hasRemaining()) {
+                            channel.write(byteBuffer);
+                        }
+                    } else {
+                        out.write(buffer, 0, bytesReadToBuffer);
+                    }
                     totalBytes += bytesReadToBuffer;
                 }
-                if (listenProgress) {
+                if (progress != null) {
                     StreamingProgressEventImpl progressEvent = new StreamingProgressEventImpl(
                             filename, type, contentLength, totalBytes);
 
-                    lastStreamingEvent = updateProgress(session, streamVariable,
-                            progressEvent, lastStreamingEvent,
-                            bytesReadToBuffer);
+                    lastStreamingEvent = updateProgress(progress, progressEvent,
+                            lastStreamingEvent, bytesReadToBuffer);
                 }
                 if (streamVariable.isInterrupted()) {
                     throw new UploadInterruptedException();
@@ -521,11 +856,17 @@ public class StreamReceiverHandler implements Serializable {
             } while (bytesReadToBuffer > 0);
 
             // upload successful
-            out.close();
+            if (channel != null) {
+                channel.close();
+            } else {
+                out.close();
+            }
             StreamVariable.StreamingEndEvent event = new StreamingEndEventImpl(
                     filename, type, totalBytes);
             session.lock();
             try {
+                // Deliver the final progress before the end event
+                firePendingProgress(progress);
                 streamVariable.streamingFinished(event);
             } finally {
                 session.unlock();
@@ -534,13 +875,15 @@ public class StreamReceiverHandler implements Serializable {
         } catch (UploadInterruptedException | IOException e) {
             // Download is either interrupted by application code or some
             // IOException happens
+            tryToCloseStream(channel);
             onStreamingFailed(session, filename, type, contentLength,
-                    streamVariable, out, totalBytes, e);
+                    streamVariable, out, progress, totalBytes, e);
             // Interrupted exception and IOEXception are not thrown forward:
             // it's enough to fire them via streamVariable
         } catch (final Exception e) {
+            tryToCloseStream(channel);
             onStreamingFailed(session, filename, type, contentLength,
-                    streamVariable, out, totalBytes, e);
+                    streamVariable, out, progress, totalBytes, e);
             // Throw not IOException and interrupted exception for terminal to
             // be handled (to be passed to terminalErrorHandler): such
             // exceptions mean mistakes in the implementation logic (not upload
@@ -551,12 +894,24 @@ public class StreamReceiverHandler implements Serializable {
                 success ? UploadStatus.OK : UploadStatus.ERROR);
     }
 
+    private static void tryToCloseStream(FileChannel channel) {
+        try {
+            if (channel != null) {
+                channel.close();
+            }
+        } catch (IOException ioe) {
+            getLogger().debug("Exception closing file channel", ioe);
+        }
+    }
+
     private void onStreamingFailed(VaadinSession session, String filename,
             String type, long contentLength, StreamVariable streamVariable,
-            OutputStream out, long totalBytes, final Exception exception) {
+            OutputStream out, ProgressDispatcher progress, long totalBytes,
+            final Exception exception) {
         tryToCloseStream(out);
         session.lock();
         try {
+            firePendingProgress(progress);
             streamVariable.streamingFailed(new StreamingErrorEventImpl(filename,
                     type, contentLength, totalBytes, exception));
         } finally {
@@ -564,8 +919,13 @@ public class StreamReceiverHandler implements Serializable {
         }
     }
 
-    private long updateProgress(VaadinSession session,
-            StreamVariable streamVariable,
+    private static void firePendingProgress(ProgressDispatcher progress) {
+        if (progress != null) {
+            progress.fire();
+        }
+    }
+
+    private long updateProgress(ProgressDispatcher progress,
             StreamingProgressEventImpl progressEvent, long lastStreamingEvent,
             int bytesReadToBuffer) {
         long now = System.currentTimeMillis();
@@ -573,17 +933,60 @@ public class StreamReceiverHandler implements Serializable {
         // events are sent in intervals, or at the end of the file.
         if (lastStreamingEvent + getProgressEventInterval() <= now
                 || bytesReadToBuffer <= 0) {
-            session.lock();
-            try {
-                streamVariable.onProgress(progressEvent);
-            } finally {
-                session.unlock();
-            }
+            progress.dispatch(progressEvent);
             return now;
         }
         return lastStreamingEvent;
     }
 
+    /**
+     * Delivers progress events without blocking the upload while waiting for
+     * the session lock. At most one delivery is queued at any time, and it
+     * delivers the latest event once it gets the lock.
+     */
+    private static class ProgressDispatcher implements Serializable {
+        private final VaadinSession session;
+        private final UI ui;
+        private final StreamVariable streamVariable;
+        private final AtomicReference<StreamingProgressEventImpl> pending = new AtomicReference<>();
+
+        private ProgressDispatcher(VaadinSession session, UI ui,
+                StreamVariable streamVariable) {
+            this.session = session;
+            this.ui = ui;
+            this.streamVariable = streamVariable;
+        }
+
+        private void dispatch(StreamingProgressEventImpl event) {
+            if (pending.getAndSet(event) != null) {
+                // A delivery is already queued, it will pick this event
+                return;
+            }
+            Command command = this::fire;
+            try {
+                if (ui != null) {
+                    ui.access(command);
+                } else {
+                    session.access(command);
+                }
+            } catch (UIDetachedException e) {
+                pending.set(null);
+                getLogger().debug(
+                        "Progress event not delivered, the UI is detached", e);
+            }
+        }
+
+        /*
+         * Must be called with the session locked.
+         */
+        private void fire() {
+            StreamingProgressEventImpl event = pending.getAndSet(null);
+            if (event != null) {
+                streamVariable.onProgress(event);
+            }
+        }
+    }
+
     /**
      * The request.getContentLength() is limited to "int" by the Servlet
      * specification. To support larger file uploads manually evaluate the
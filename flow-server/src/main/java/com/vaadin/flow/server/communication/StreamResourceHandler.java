@@ -16,11 +16,15 @@
 package com.vaadin.flow.server.communication;
 
 import javax.servlet.ServletContext;
+import javax.servlet.http.HttpServletResponse;
 
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.Serializable;
+import java.util.Optional;
 
+import com.vaadin.flow.internal.ResponseWriter;
+import com.vaadin.flow.server.ByteRangeSource;
 import com.vaadin.flow.server.HttpStatusCode;
 import com.vaadin.flow.server.StreamResource;
 import com.vaadin.flow.server.StreamResourceWriter;
@@ -60,6 +64,7 @@ public class StreamResourceHandler implements Serializable {
             throws IOException {
 
         StreamResourceWriter writer;
+        Optional<ByteRangeSource> rangeSource;
         session.lock();
         try {
             ServletContext context = ((VaadinServletRequest) request)
@@ -70,6 +75,7 @@ public class StreamResourceHandler implements Serializable {
             streamResource.getHeaders()
                     .forEach((name, value) -> response.setHeader(name, value));
             writer = streamResource.getWriter();
+            rangeSource = streamResource.getByteRangeSource();
             if (writer == null) {
                 throw new IOException(
                         "Stream resource produces null input stream");
@@ -87,8 +93,12 @@ public class StreamResourceHandler implements Serializable {
         // effect being called after closing the stream (see #8740).
         OutputStream outputStream = null;
         try {
-            outputStream = response.getOutputStream();
-            writer.accept(outputStream, session);
+            if (rangeSource.isPresent()) {
+                writeRangeSource(rangeSource.get(), request, response);
+            } else {
+                outputStream = response.getOutputStream();
+                writer.accept(outputStream, session);
+            }
         } catch (Exception exception) {
             response.setStatus(HttpStatusCode.INTERNAL_SERVER_ERROR.getCode());
             throw exception;
@@ -99,4 +109,79 @@ public class StreamResourceHandler implements Serializable {
         }
     }
 
+    private void writeRangeSource(ByteRangeSource source, VaadinRequest request,
+            VaadinResponse response) throws IOException {
+        long length = source.getLength();
+        long lastModified = source.getLastModified();
+        if (lastModified >= 0) {
+            // Browsers send the timestamp back without milliseconds
+            lastModified -= lastModified % 1000;
+            response.setDateHeader("Last-Modified", lastModified);
+        }
+        String eTag = source.getETag();
+        if (eTag == null && length >= 0 && lastModified >= 0) {
+            eTag = "W/\"" + Long.toHexString(length) + '-'
+                    + Long.toHexString(lastModified) + '"';
+        }
+        if (eTag != null) {
+            response.setHeader("ETag", eTag);
+        }
+        response.setHeader("Accept-Ranges", "bytes");
+
+        if (isNotModified(request, eTag, lastModified)) {
+            response.setStatus(HttpStatusCode.NOT_MODIFIED.getCode());
+            return;
+        }
+
+        String range = request.getHeader("Range");
+        if (range != null && isRangeApplicable(request, eTag, lastModified)) {
+            try (OutputStream outputStream = response.getOutputStream()) {
+                ResponseWriter.writeRangeContents(range,
+                        (HttpServletResponse) response, source);
+            }
+            return;
+        }
+        if (length >= 0) {
+            ((HttpServletResponse) response).setContentLengthLong(length);
+        }
+        try (OutputStream outputStream = response.getOutputStream()) {
+            source.writeRange(outputStream, 0, Long.MAX_VALUE);
+        }
+    }
+
+    private static boolean isNotModified(VaadinRequest request, String eTag,
+            long lastModified) {
+        // If-None-Match takes precedence over If-Modified-Since
+        String ifNoneMatch = request.getHeader("If-None-Match");
+        if (ifNoneMatch != null) {
+            return eTag != null
+                    && ResponseWriter.matchesETag(ifNoneMatch, eTag);
+        }
+        try {
+            return lastModified >= 0 && request
+                    .getDateHeader("If-Modified-Since") >= lastModified;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static boolean isRangeApplicable(VaadinRequest request, String eTag,
+            long lastModified) {
+        String ifRange = request.getHeader("If-Range");
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            // If-Range requires the strong comparison
+            return eTag != null && !eTag.startsWith("W/")
+                    && eTag.equals(ifRange.trim());
+        }
+        try {
+            return lastModified >= 0
+                    && request.getDateHeader("If-Range") == lastModified;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
 }
@@ -0,0 +1,300 @@
+/*
+ * Copyright 2000-2022 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server.communication.streaming;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * State of a chunked upload that is being assembled into a file.
+ * <p>
+ * Chunks may arrive in any order and concurrently. The byte ranges that have
+ * been written are tracked so that clients can resume an interrupted upload by
+ * sending only the missing ranges.
+ * <p>
+ * A finished upload, whether completed or failed, is kept until it expires, so
+ * that retried chunks and status requests get its final state.
+ * <p>
+ * For internal use only. May be renamed or removed in a future release.
+ *
+ * @author Vaadin Ltd
+ * @since 23.2
+ */
+public class ChunkedUpload implements Serializable {
+
+    private final String id;
+    private final String fileName;
+    private final String mimeType;
+    private final long contentLength;
+    // Path is not serializable
+    private final URI file;
+    private final boolean temporaryFile;
+    private final StreamingStartEventImpl startedEvent;
+
+    // start -> end (exclusive) of the received ranges, never overlapping
+    private final TreeMap<Long, Long> receivedRanges = new TreeMap<>();
+    private long receivedBytes;
+    private long lastActivity = System.currentTimeMillis();
+    private boolean complete;
+    private boolean finished;
+    private boolean failed;
+
+    /**
+     * Creates a new chunked upload.
+     *
+     * @param id
+     *            the client generated id of the upload
+     * @param fileName
+     *            the name of the uploaded file
+     * @param mimeType
+     *            the MIME type of the uploaded file
+     * @param contentLength
+     *            the total length of the uploaded file
+     * @param file
+     *            the file the chunks are written to
+     * @param temporaryFile
+     *            <code>true</code> if the file is a temporary file that should
+     *            be deleted once the upload is over
+     * @param startedEvent
+     *            the event fired when the upload started
+     */
+    public ChunkedUpload(String id, String fileName, String mimeType,
+            long contentLength, Path file, boolean temporaryFile,
+            StreamingStartEventImpl startedEvent) {
+        this.id = id;
+        this.fileName = fileName;
+        this.mimeType = mimeType;
+        this.contentLength = contentLength;
+        this.file = file.toUri();
+        this.temporaryFile = temporaryFile;
+        this.startedEvent = startedEvent;
+    }
+
+    /**
+     * Gets the client generated id of the upload.
+     *
+     * @return the upload id
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Gets the name of the uploaded file.
+     *
+     * @return the file name
+     */
+    public String getFileName() {
+        return fileName;
+    }
+
+    /**
+     * Gets the MIME type of the uploaded file.
+     *
+     * @return the MIME type
+     */
+    public String getMimeType() {
+        return mimeType;
+    }
+
+    /**
+     * Gets the total length of the uploaded file.
+     *
+     * @return the length in bytes
+     */
+    public long getContentLength() {
+        return contentLength;
+    }
+
+    /**
+     * Gets the file the chunks are written to.
+     *
+     * @return the file
+     */
+    public Path getFile() {
+        return Paths.get(file);
+    }
+
+    /**
+     * Checks whether the file is a temporary file that should be deleted once
+     * the upload is over.
+     *
+     * @return <code>true</code> for a temporary file, <code>false</code> if the
+     *         file is the final target of the upload
+     */
+    public boolean isTemporaryFile() {
+        return temporaryFile;
+    }
+
+    /**
+     * Deletes the file the chunks are written to if it is a
+     * {@link #isTemporaryFile() temporary file}.
+     */
+    public void deleteTemporaryFile() {
+        if (temporaryFile) {
+            try {
+                Files.deleteIfExists(getFile());
+            } catch (IOException e) {
+                getLogger().debug("Unable to delete temporary upload file {}",
+                        file, e);
+            }
+        }
+    }
+
+    /**
+     * Gets the event fired when the upload started.
+     *
+     * @return the start event
+     */
+    public StreamingStartEventImpl getStartedEvent() {
+        return startedEvent;
+    }
+
+    /**
+     * Marks the given byte range as received.
+     *
+     * @param start
+     *            the index of the first received byte
+     * @param end
+     *            the index after the last received byte
+     * @return <code>true</code> if this range completed the upload, which
+     *         happens only once, <code>false</code> otherwise
+     */
+    public synchronized boolean addReceivedRange(long start, long end) {
+        lastActivity = System.currentTimeMillis();
+        long mergedStart = start;
+        long mergedEnd = end;
+        Map.Entry<Long, Long> previous = receivedRanges.floorEntry(start);
+        if (previous != null && previous.getValue() >= start) {
+            mergedStart = previous.getKey();
+            mergedEnd = Math.max(mergedEnd, previous.getValue());
+        }
+        Map.Entry<Long, Long> next = receivedRanges.ceilingEntry(mergedStart);
+        while (next != null && next.getKey() <= mergedEnd) {
+            mergedEnd = Math.max(mergedEnd, next.getValue());
+            receivedBytes -= next.getValue() - next.getKey();
+            receivedRanges.remove(next.getKey());
+            next = receivedRanges.ceilingEntry(mergedStart);
+        }
+        receivedRanges.put(mergedStart, mergedEnd);
+        receivedBytes += mergedEnd - mergedStart;
+
+        if (!complete && receivedBytes >= contentLength) {
+            complete = true;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Marks the upload as finished, either because it was handed over to the
+     * stream variable or because it failed.
+     *
+     * @param failed
+     *            <code>true</code> if the upload failed, <code>false</code> if
+     *            it completed successfully
+     * @return <code>true</code> if the upload was finished by this call,
+     *         <code>false</code> if it had already been finished
+     */
+    public synchronized boolean finish(boolean failed) {
+        if (finished) {
+            return false;
+        }
+        finished = true;
+        this.failed = failed;
+        lastActivity = System.currentTimeMillis();
+        return true;
+    }
+
+    /**
+     * Checks whether the upload has finished, either successfully or not.
+     *
+     * @return <code>true</code> if the upload is finished, <code>false</code>
+     *         if it is ongoing
+     */
+    public synchronized boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * Checks whether the upload has failed.
+     *
+     * @return <code>true</code> if the upload failed, <code>false</code>
+     *         otherwise
+     */
+    public synchronized boolean isFailed() {
+        return failed;
+    }
+
+    /**
+     * Gets the number of distinct bytes received so far.
+     *
+     * @return the number of received bytes
+     */
+    public synchronized long getReceivedBytes() {
+        return receivedBytes;
+    }
+
+    /**
+     * Gets the received byte ranges as a comma separated list of inclusive
+     * {@code start-end} pairs, e.g. {@code 0-1023,4096-8191}.
+     *
+     * @return the received ranges, an empty string if nothing has been received
+     */
+    public synchronized String getReceivedRanges() {
+        StringJoiner joiner = new StringJoiner(",");
+        receivedRanges
+                .forEach((start, end) -> joiner.add(start + "-" + (end - 1)));
+        return joiner.toString();
+    }
+
+    /**
+     * Checks whether no chunk has been received for the given time, or the
+     * upload finished longer than the given time ago. A complete upload that is
+     * still being handed over to the stream variable never expires.
+     *
+     * @param timeout
+     *            the timeout in milliseconds
+     * @return <code>true</code> if the upload has been idle longer than the
+     *         timeout, <code>false</code> otherwise
+     */
+    public synchronized boolean isExpired(long timeout) {
+        return (finished || !complete)
+                && System.currentTimeMillis() - lastActivity > timeout;
+    }
+
+    /**
+     * Marks that data is being received, so that the upload does not expire
+     * while a chunk is being written.
+     */
+    public synchronized void touch() {
+        lastActivity = System.currentTimeMillis();
+    }
+
+    private static Logger getLogger() {
+        return LoggerFactory.getLogger(ChunkedUpload.class);
+    }
+}
@@ -111,6 +111,8 @@ public class NodeTasks implements FallibleCommand {
 
         private boolean copyTemplates = false;
 
+        private boolean generatePwaIcons = false;
+
         /**
          * Directory for npm and folders and files.
          */
@@ -360,6 +362,21 @@ public class NodeTasks implements FallibleCommand {
             return this;
         }
 
+        /**
+         * Sets whether to generate the PWA icons to
+         * {@code META-INF/VAADIN/config/pwa-icons}, so that they are not
+         * generated when the application starts.
+         *
+         * @param generatePwaIcons
+         *            whether to generate the PWA icons
+         *
+         * @return the builder
+         */
+        public Builder generatePwaIcons(boolean generatePwaIcons) {
+            this.generatePwaIcons = generatePwaIcons;
+            return this;
+        }
+
         /**
          * Sets whether to collect and package
          * {@link com.vaadin.flow.component.WebComponentExporter} dependencies.
@@ -713,7 +730,8 @@ public class NodeTasks implements FallibleCommand {
             TaskUpdateVite.class,
             TaskUpdateImports.class,
             TaskUpdateThemeImport.class,
-            TaskCopyTemplateFiles.class
+            TaskCopyTemplateFiles.class,
+            TaskGeneratePwaIcons.class
         ));
     // @formatter:on
 
@@ -870,6 +888,14 @@ public class NodeTasks implements FallibleCommand {
             commands.add(new TaskCopyTemplateFiles(classFinder,
                     builder.npmFolder, builder.resourceOutputDirectory));
         }
+
+        if (builder.generatePwaIcons && frontendDependencies != null
+                && builder.resourceOutputDirectory != null
+                && frontendDependencies.getPwaConfiguration().isEnabled()) {
+            commands.add(new TaskGeneratePwaIcons(classFinder,
+                    builder.npmFolder, builder.resourceOutputDirectory,
+                    frontendDependencies.getPwaConfiguration()));
+        }
     }
 
     private void addBootstrapTasks(Builder builder) {
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2000-2022 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server.frontend;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.file.Files;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.vaadin.flow.server.Constants;
+import com.vaadin.flow.server.ExecutionFailedException;
+import com.vaadin.flow.server.PwaConfiguration;
+import com.vaadin.flow.server.PwaRegistry;
+import com.vaadin.flow.server.frontend.scanner.ClassFinder;
+
+/**
+ * Generates the PWA icons into the target folder so as to be available at
+ * runtime in production mode without drawing them on startup.
+ * <p>
+ * For internal use only. May be renamed or removed in a future release.
+ *
+ * @since 23.2
+ */
+public class TaskGeneratePwaIcons implements FallibleCommand {
+
+    private static final String WEBAPP_DIRECTORY = "src/main/webapp";
+    private static final String META_INF_RESOURCES = "META-INF/resources/";
+
+    private final ClassFinder classFinder;
+    private final File projectDirectory;
+    private final File resourceOutputDirectory;
+    private final PwaConfiguration pwaConfiguration;
+
+    TaskGeneratePwaIcons(ClassFinder classFinder, File projectDirectory,
+            File resourceOutputDirectory, PwaConfiguration pwaConfiguration) {
+        this.classFinder = classFinder;
+        this.projectDirectory = projectDirectory;
+        this.resourceOutputDirectory = resourceOutputDirectory;
+        this.pwaConfiguration = pwaConfiguration;
+    }
+
+    @Override
+    public void execute() throws ExecutionFailedException {
+        File iconsDirectory = new File(resourceOutputDirectory,
+                Constants.PWA_ICONS_DIRECTORY);
+        try {
+            PwaRegistry.generateIcons(getLogoData(), iconsDirectory);
+        } catch (IOException e) {
+            // The icons are then drawn on startup instead
+            log().warn("Unable to generate the PWA icons", e);
+        }
+    }
+
+    private byte[] getLogoData() throws IOException {
+        // Same lookup order as at runtime: web application resources, then
+        // the class path and finally the default logo
+        File webappLogo = new File(new File(projectDirectory, WEBAPP_DIRECTORY),
+                pwaConfiguration.getIconPath());
+        if (webappLogo.isFile()) {
+            return Files.readAllBytes(webappLogo.toPath());
+        }
+        URL logo = classFinder.getResource(
+                META_INF_RESOURCES + pwaConfiguration.getIconPath());
+        if (logo == null) {
+            logo = PwaRegistry.getDefaultLogo();
+        }
+        try (InputStream stream = logo.openStream()) {
+            return stream.readAllBytes();
+        }
+    }
+
+    Logger log() {
+        return LoggerFactory.getLogger(getClass());
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2000-2022 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.internal;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.vaadin.flow.shared.BrowserDetails;
+
+public class BrowserDetailsCacheTest {
+
+    private static final String CHROME = "Mozilla/5.0 (X11; Linux x86_64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/102.0.5005.61 Safari/537.36";
+    private static final String FIREFOX = "Mozilla/5.0 (X11; Ubuntu; Linux x86_64; rv:101.0) Gecko/20100101 Firefox/101.0";
+    private static final String IE11 = "Mozilla/5.0 (Windows NT 6.1; WOW64; Trident/7.0; rv:11.0) like Gecko";
+
+    @Test
+    public void get_sameUserAgent_parsedOnce() {
+        BrowserDetailsCache cache = new BrowserDetailsCache();
+
+        BrowserDetails details = cache.get(CHROME);
+
+        Assert.assertTrue(details.isChrome());
+        Assert.assertEquals(102, details.getBrowserMajorVersion());
+        Assert.assertSame(details, cache.get(CHROME));
+        Assert.assertEquals(1, cache.getHitCount());
+        Assert.assertEquals(1, cache.getMissCount());
+        Assert.assertEquals(0.5, cache.getHitRate(), 0);
+    }
+
+    @Test
+    public void get_cacheFull_leastRecentlyUsedEvicted() {
+        BrowserDetailsCache cache = new BrowserDetailsCache(2);
+        BrowserDetails chrome = cache.get(CHROME);
+        BrowserDetails firefox = cache.get(FIREFOX);
+
+        Assert.assertSame(chrome, cache.get(CHROME));
+        cache.get(IE11);
+
+        Assert.assertEquals(2, cache.getSize());
+        Assert.assertSame(chrome, cache.get(CHROME));
+        Assert.assertNotSame(firefox, cache.get(FIREFOX));
+    }
+
+    @Test
+    public void get_longUserAgent_notCached() {
+        BrowserDetailsCache cache = new BrowserDetailsCache();
+        StringBuilder userAgent = new StringBuilder(CHROME);
+        while (userAgent
+                .length() <= BrowserDetailsCache.MAX_USER_AGENT_LENGTH) {
+            userAgent.append(" Bot/1.0");
+        }
+
+        BrowserDetails details = cache.get(userAgent.toString());
+
+        Assert.assertTrue(details.isChrome());
+        Assert.assertEquals(0, cache.getSize());
+        Assert.assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void getHitRate_nothingLookedUp_zero() {
+        Assert.assertEquals(0, new BrowserDetailsCache().getHitRate(), 0);
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2000-2022 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.internal;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.net.URLStreamHandler;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+public class CompressedResourceCacheTest {
+
+    private static final String TEXT = repeat("function() {eval('foo');};\n",
+            100);
+
+    private final List<Runnable> tasks = new ArrayList<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final CompressedResourceCache cache = new CompressedResourceCache(
+            64 * 1024, tasks::add);
+
+    @Test
+    public void getGzipContent_compressedInBackgroundOnFirstRequest()
+            throws IOException {
+        URL url = createUrl("/file.js", TEXT);
+
+        Assert.assertNull(cache.getGzipContent(url, 1000L));
+        Assert.assertEquals(1, tasks.size());
+        Assert.assertEquals(0, connections.get());
+
+        runTasks();
+        byte[] compressed = cache.getGzipContent(url, 1000L);
+
+        Assert.assertNotNull(compressed);
+        Assert.assertEquals(TEXT, gunzip(compressed));
+        Assert.assertEquals(1, cache.getHitCount());
+        Assert.assertEquals(1, cache.getMissCount());
+        Assert.assertEquals(0.5, cache.getHitRate(), 0);
+        Assert.assertEquals(TEXT.length() - compressed.length,
+                cache.getBytesSaved());
+    }
+
+    @Test
+    public void getGzipContent_pendingCompression_scheduledOnlyOnce() {
+        URL url = createUrl("/file.js", TEXT);
+
+        cache.getGzipContent(url, 1000L);
+        cache.getGzipContent(url, 1000L);
+
+        Assert.assertEquals(1, tasks.size());
+        Assert.assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    public void getGzipContent_resourceModified_compressedAgain() {
+        URL url = createUrl("/file.js", TEXT);
+        cache.getGzipContent(url, 1000L);
+        runTasks();
+
+        Assert.assertNull(cache.getGzipContent(url, 2000L));
+        runTasks();
+
+        Assert.assertNotNull(cache.getGzipContent(url, 2000L));
+        Assert.assertEquals(2, connections.get());
+    }
+
+    @Test
+    public void getGzipContent_smallResource_notCompressedNorScheduledAgain() {
+        URL url = createUrl("/small.js", "small");
+        cache.getGzipContent(url, 1000L);
+        runTasks();
+
+        Assert.assertNull(cache.getGzipContent(url, 1000L));
+        Assert.assertTrue(tasks.isEmpty());
+        Assert.assertEquals(1, cache.getMissCount());
+        Assert.assertEquals(0, cache.getHitCount());
+    }
+
+    @Test
+    public void getGzipContent_cacheFull_leastRecentlyUsedEvicted() {
+        // Random text that does not compress well
+        byte[] random = new byte[1500];
+        new Random(42).nextBytes(random);
+        String text = Base64.getEncoder().encodeToString(random);
+        CompressedResourceCache smallCache = new CompressedResourceCache(
+                text.length() + 100, tasks::add);
+        URL first = createUrl("/first.js", text);
+        URL second = createUrl("/second.js", text);
+
+        smallCache.getGzipContent(first, 1000L);
+        runTasks();
+        smallCache.getGzipContent(second, 1000L);
+        runTasks();
+
+        Assert.assertNotNull(smallCache.getGzipContent(second, 1000L));
+        Assert.assertNull(smallCache.getGzipContent(first, 1000L));
+        Assert.assertTrue(smallCache.getSize() <= text.length() + 100);
+    }
+
+    @Test
+    public void getGzipContent_ownExecutor_compressedInDaemonThread()
+            throws InterruptedException {
+        CompressedResourceCache ownCache = new CompressedResourceCache(
+                64 * 1024);
+        URL url = createUrl("/file.js", TEXT);
+        try {
+            Assert.assertNull(ownCache.getGzipContent(url, 1000L));
+            for (int i = 0; i < 100
+                    && ownCache.getGzipContent(url, 1000L) == null; i++) {
+                Thread.sleep(50);
+            }
+            Assert.assertNotNull(ownCache.getGzipContent(url, 1000L));
+        } finally {
+            ownCache.shutdown();
+        }
+    }
+
+    @Test
+    public void getGzipContent_shutDown_nothingScheduled() {
+        URL url = createUrl("/file.js", TEXT);
+        CompressedResourceCache ownCache = new CompressedResourceCache(
+                64 * 1024);
+        ownCache.shutdown();
+
+        Assert.assertNull(ownCache.getGzipContent(url, 1000L));
+        Assert.assertNull(ownCache.getGzipContent(url, 1000L));
+        Assert.assertEquals(0, connections.get());
+    }
+
+    @Test
+    public void isCompressible() {
+        Assert.assertTrue(CompressedResourceCache
+                .isCompressible("text/css; charset=UTF-8"));
+        Assert.assertTrue(CompressedResourceCache
+                .isCompressible("application/javascript"));
+        Assert.assertTrue(
+                CompressedResourceCache.isCompressible("image/svg+xml"));
+        Assert.assertTrue(
+                CompressedResourceCache.isCompressible("application/json"));
+        Assert.assertFalse(CompressedResourceCache.isCompressible("image/png"));
+        Assert.assertFalse(CompressedResourceCache.isCompressible(null));
+    }
+
+    private void runTasks() {
+        List<Runnable> scheduled = new ArrayList<>(tasks);
+        tasks.clear();
+        scheduled.forEach(Runnable::run);
+    }
+
+    private static String gunzip(byte[] compressed) throws IOException {
+        return IOUtils.toString(
+                new GZIPInputStream(new ByteArrayInputStream(compressed)),
+                StandardCharsets.UTF_8);
+    }
+
+    private static String repeat(String text, int times) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < times; i++) {
+            builder.append(text);
+        }
+        return builder.toString();
+    }
+
+    private URL createUrl(String name, String data) {
+        byte[] bytes = data.getBytes(StandardCharsets.UTF_8);
+        try {
+            return new URL("file", "", -1, name, new URLStreamHandler() {
+                @Override
+                protected URLConnection openConnection(URL u)
+                        throws IOException {
+                    connections.incrementAndGet();
+                    URLConnection connection = Mockito
+                            .mock(URLConnection.class);
+                    Mockito.when(connection.getInputStream())
+                            .thenReturn(new ByteArrayInputStream(bytes));
+                    Mockito.when(connection.getContentLengthLong())
+                            .thenReturn((long) bytes.length);
+                    return connection;
+                }
+            });
+        } catch (MalformedURLException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
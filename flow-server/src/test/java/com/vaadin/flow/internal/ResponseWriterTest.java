@@ -166,6 +166,21 @@ public class ResponseWriterTest {
         }).when(response).setContentLengthLong(ArgumentMatchers.anyLong());
     }
 
+    @Test
+    public void matchesETag_weakComparisonAndWildcard() {
+        Assert.assertTrue(ResponseWriter.matchesETag("\"a\"", "\"a\""));
+        Assert.assertTrue(
+                ResponseWriter.matchesETag("\"b\", W/\"a\"", "\"a\""));
+        Assert.assertTrue(ResponseWriter.matchesETag("\"a\"", "W/\"a\""));
+        Assert.assertTrue(ResponseWriter.matchesETag("*", "\"a\""));
+        Assert.assertTrue(ResponseWriter.matchesETag("W/*", "\"a\""));
+        Assert.assertTrue(ResponseWriter.matchesETag("\"a-gzip\"", "\"a\"",
+                "\"a-gzip\""));
+        Assert.assertFalse(ResponseWriter.matchesETag("\"b\"", "\"a\""));
+        Assert.assertFalse(
+                ResponseWriter.matchesETag("\"a-other\"", "\"a\"", null));
+    }
+
     @Test
     public void contentType() {
         AtomicReference<String> contentType = new AtomicReference<>(null);
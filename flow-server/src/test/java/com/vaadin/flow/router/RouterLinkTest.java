@@ -15,10 +15,16 @@
  */
 package com.vaadin.flow.router;
 
+import java.security.Principal;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
+
+import javax.annotation.security.RolesAllowed;
 
 import net.jcip.annotations.NotThreadSafe;
 import org.junit.Assert;
@@ -31,13 +37,26 @@ import org.mockito.Mockito;
 import com.vaadin.flow.component.Component;
 import com.vaadin.flow.component.Tag;
 import com.vaadin.flow.component.UI;
+import com.vaadin.flow.dom.DomEvent;
+import com.vaadin.flow.internal.CurrentInstance;
 import com.vaadin.flow.internal.HasCurrentService;
+import com.vaadin.flow.internal.nodefeature.ElementListenerMap;
 import com.vaadin.flow.router.internal.HasUrlParameterFormat;
+import com.vaadin.flow.router.internal.RouteTargetPool;
 import com.vaadin.flow.server.InvalidRouteConfigurationException;
+import com.vaadin.flow.server.MockInstantiator;
+import com.vaadin.flow.server.RouteRegistry;
+import com.vaadin.flow.server.SessionRouteRegistry;
+import com.vaadin.flow.server.VaadinRequest;
 import com.vaadin.flow.server.VaadinService;
+import com.vaadin.flow.server.VaadinServletService;
+import com.vaadin.flow.server.VaadinSession;
+import com.vaadin.flow.server.auth.ViewAccessChecker;
 import com.vaadin.flow.server.startup.ApplicationRouteRegistry;
 import com.vaadin.flow.shared.ApplicationConstants;
 
+import elemental.json.Json;
+
 @NotThreadSafe
 public class RouterLinkTest extends HasCurrentService {
 
@@ -74,6 +93,10 @@ public class RouterLinkTest extends HasCurrentService {
         router = new Router(registry);
 
         ui = new RoutingTestBase.RouterTestUI(router);
+        SessionService sessionService = Mockito.mock(SessionService.class);
+        Mockito.when(sessionService.getRouter()).thenReturn(router);
+        Mockito.when(sessionService.getRouteRegistry()).thenReturn(registry);
+        Mockito.when(ui.getSession().getService()).thenReturn(sessionService);
         VaadinService service = VaadinService.getCurrent();
         Mockito.when(service.getRouter()).thenReturn(router);
     }
@@ -443,6 +466,53 @@ public class RouterLinkTest extends HasCurrentService {
                 link.getElement().getThemeList().contains("highlight"));
     }
 
+    @Test
+    public void attachedLinks_highlightedThroughIndex_actionCalledOnChange() {
+        List<String> calls = new ArrayList<>();
+        HighlightAction<RouterLink> action = (link, highlight) -> calls
+                .add(link.getHref() + "=" + highlight);
+
+        RouterLink foo = new RouterLink(router, "Foo",
+                FooNavigationTarget.class);
+        RouterLink greeting = new RouterLink(router, "Greeting",
+                GreetingNavigationTarget.class, "foo");
+        RouterLink exact = new RouterLink(router, "Bar", TestView.class, "foo");
+        exact.setHighlightCondition(HighlightConditions.sameLocation());
+        RouterLink root = new RouterLink();
+        Arrays.asList(foo, greeting, exact, root).forEach(link -> {
+            link.setHighlightAction(action);
+            ui.add(link);
+        });
+
+        navigateAll("foo/bar", foo, greeting, exact, root);
+        Assert.assertEquals(Arrays.asList("foo=true", "greeting/foo=false",
+                "bar/foo=false", "=false"), calls);
+
+        calls.clear();
+        navigateAll("foobar", foo, greeting, exact, root);
+        Assert.assertEquals(Collections.emptyList(), calls);
+
+        navigateAll("bar/foo", foo, greeting, exact, root);
+        Assert.assertEquals(Arrays.asList("foo=false", "bar/foo=true"), calls);
+
+        calls.clear();
+        exact.setRoute(router, TestView.class, "baz");
+        navigateAll("bar/foo", foo, greeting, exact, root);
+        Assert.assertEquals(Collections.singletonList("bar/baz=false"), calls);
+
+        calls.clear();
+        navigateAll("", foo, greeting, exact, root);
+        Assert.assertEquals(Collections.singletonList("=true"), calls);
+    }
+
+    private void navigateAll(String location, RouterLink... links) {
+        AfterNavigationEvent event = new AfterNavigationEvent(
+                new LocationChangeEvent(router, ui,
+                        NavigationTrigger.ROUTER_LINK, new Location(location),
+                        Collections.emptyList()));
+        Stream.of(links).forEach(link -> link.afterNavigation(event));
+    }
+
     @Test
     public void routerLinkQueryParameters()
             throws InvalidRouteConfigurationException {
@@ -467,6 +537,128 @@ public class RouterLinkTest extends HasCurrentService {
         new RouterLink("", Foo.class);
     }
 
+    @Test
+    public void setPrefetch_attachedLink_scriptExecutedOnceForEachChange() {
+        RouterLink link = new RouterLink(router, "Heavy", TestView.class,
+                "foo");
+        ui.add(link);
+        Assert.assertEquals(0, dumpPendingJavaScriptInvocations());
+
+        link.setPrefetch(RouterLinkPrefetch.HOVER);
+        link.setPrefetch(RouterLinkPrefetch.HOVER);
+        Assert.assertEquals(RouterLinkPrefetch.HOVER, link.getPrefetch());
+        Assert.assertEquals(1, dumpPendingJavaScriptInvocations());
+
+        link.setPrefetch(RouterLinkPrefetch.NONE);
+        Assert.assertEquals(1, dumpPendingJavaScriptInvocations());
+    }
+
+    @Test
+    public void prefetchHint_prewarmedTarget_instancePooled() {
+        RouteConfiguration.forRegistry(registry)
+                .setAnnotatedRoute(PrewarmedNavigationTarget.class);
+        Mockito.when(ui.getSession().getService().getInstantiator())
+                .thenReturn(new MockInstantiator());
+
+        RouterLink link = new RouterLink(router, "Heavy",
+                PrewarmedNavigationTarget.class);
+        link.setPrefetch(RouterLinkPrefetch.VISIBLE);
+        ui.add(link);
+
+        link.getElement().getNode().getFeature(ElementListenerMap.class)
+                .fireEvent(new DomEvent(link.getElement(),
+                        "vaadin-router-prefetch", Json.createObject()));
+        ui.getInternals().getStateTree().runExecutionsBeforeClientResponse();
+
+        Assert.assertTrue(RouteTargetPool.get(ui)
+                .isPooled(PrewarmedNavigationTarget.class));
+    }
+
+    @Test
+    public void prefetchHint_prewarmedSessionRoute_instancePooled() {
+        VaadinSession session = ui.getSession();
+        RouteRegistry sessionRegistry = SessionRouteRegistry
+                .getSessionRegistry(session);
+        Mockito.doReturn(sessionRegistry).when(session)
+                .getAttribute(SessionRouteRegistry.class);
+        RouteConfiguration.forRegistry(sessionRegistry).setRoute("heavy",
+                PrewarmedNavigationTarget.class);
+        Mockito.when(session.getService().getInstantiator())
+                .thenReturn(new MockInstantiator());
+
+        RouterLink link = new RouterLink(new Router(sessionRegistry), "Heavy",
+                PrewarmedNavigationTarget.class);
+        link.setPrefetch(RouterLinkPrefetch.HOVER);
+        ui.add(link);
+
+        firePrefetch(link);
+
+        Assert.assertTrue(RouteTargetPool.get(ui)
+                .isPooled(PrewarmedNavigationTarget.class));
+    }
+
+    @Test
+    public void prefetchHint_targetNotPrewarmed_nothingPooled() {
+        Mockito.when(ui.getSession().getService().getInstantiator())
+                .thenReturn(new MockInstantiator());
+
+        RouterLink link = new RouterLink(router, "Foo",
+                FooNavigationTarget.class);
+        link.setPrefetch(RouterLinkPrefetch.HOVER);
+        ui.add(link);
+
+        link.getElement().getNode().getFeature(ElementListenerMap.class)
+                .fireEvent(new DomEvent(link.getElement(),
+                        "vaadin-router-prefetch", Json.createObject()));
+        ui.getInternals().getStateTree().runExecutionsBeforeClientResponse();
+
+        Assert.assertFalse(
+                RouteTargetPool.get(ui).isPooled(FooNavigationTarget.class));
+    }
+
+    @Test
+    public void prefetchHint_accessToPrewarmedTargetDenied_nothingPooled() {
+        RouteConfiguration.forRegistry(registry)
+                .setAnnotatedRoute(SecuredPrewarmedNavigationTarget.class);
+        Mockito.when(ui.getSession().getService().getInstantiator())
+                .thenReturn(new MockInstantiator());
+        ui.addBeforeEnterListener(new ViewAccessChecker());
+
+        RouterLink link = new RouterLink(router, "Admin",
+                SecuredPrewarmedNavigationTarget.class);
+        link.setPrefetch(RouterLinkPrefetch.HOVER);
+        ui.add(link);
+
+        VaadinRequest request = Mockito.mock(VaadinRequest.class);
+        Mockito.when(request.getUserPrincipal())
+                .thenReturn(Mockito.mock(Principal.class));
+        CurrentInstance.set(VaadinRequest.class, request);
+        try {
+            firePrefetch(link);
+            Assert.assertFalse(RouteTargetPool.get(ui)
+                    .isPooled(SecuredPrewarmedNavigationTarget.class));
+
+            Mockito.when(request.isUserInRole("admin")).thenReturn(true);
+            firePrefetch(link);
+            Assert.assertTrue(RouteTargetPool.get(ui)
+                    .isPooled(SecuredPrewarmedNavigationTarget.class));
+        } finally {
+            CurrentInstance.set(VaadinRequest.class, null);
+        }
+    }
+
+    private void firePrefetch(RouterLink link) {
+        link.getElement().getNode().getFeature(ElementListenerMap.class)
+                .fireEvent(new DomEvent(link.getElement(),
+                        "vaadin-router-prefetch", Json.createObject()));
+        ui.getInternals().getStateTree().runExecutionsBeforeClientResponse();
+    }
+
+    private int dumpPendingJavaScriptInvocations() {
+        ui.getInternals().getStateTree().runExecutionsBeforeClientResponse();
+        return ui.getInternals().dumpPendingJavaScriptInvocations().size();
+    }
+
     @Rule
     public ExpectedException expectedEx = ExpectedException.none();
 
@@ -482,6 +674,19 @@ public class RouterLinkTest extends HasCurrentService {
     public static class ParameterNavigationTarget extends Component {
     }
 
+    @Route("heavy")
+    @PrewarmRoute
+    @Tag(Tag.DIV)
+    public static class PrewarmedNavigationTarget extends Component {
+    }
+
+    @Route("admin")
+    @PrewarmRoute
+    @RolesAllowed("admin")
+    @Tag(Tag.DIV)
+    public static class SecuredPrewarmedNavigationTarget extends Component {
+    }
+
     @Route("greeting")
     @PageTitle("Custom Title")
     @Tag(Tag.DIV)
@@ -496,4 +701,15 @@ public class RouterLinkTest extends HasCurrentService {
     public static class Foo extends Component {
 
     }
+
+    /**
+     * Extending class to let us mock the getRouteRegistry method for testing.
+     */
+    private static class SessionService extends VaadinServletService {
+
+        @Override
+        public RouteRegistry getRouteRegistry() {
+            return super.getRouteRegistry();
+        }
+    }
 }
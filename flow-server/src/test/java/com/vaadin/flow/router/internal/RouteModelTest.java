@@ -21,6 +21,7 @@ import java.util.Arrays;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.regex.Pattern;
 
 import com.vaadin.flow.component.Component;
 import com.vaadin.flow.component.Tag;
@@ -251,6 +252,58 @@ public class RouteModelTest {
                 routes.get(template).getTarget());
     }
 
+    @Test
+    public void typed_parameters_match_same_values_as_regex() {
+        String[] values = { "0", "12", "-5", "+7", "+", "-", "1a", "a1", "12-",
+                "123456789012345678", "9223372036854775807",
+                "8999999999999999999", "9999999999999999999",
+                "99999999999999999999", "true", "false", "TRUE", "truefalse",
+                "\u0663" };
+        for (String regex : Arrays.asList(RouteParameterRegex.INTEGER,
+                RouteParameterRegex.LONG, RouteParameterRegex.BOOLEAN)) {
+            RouteModel root = RouteModel.create(true);
+            root.addRoute(":value(" + regex + ")", routeTarget(Root.class));
+
+            for (String value : values) {
+                Assert.assertEquals("Matching " + value + " with " + regex,
+                        Pattern.matches(regex, value),
+                        root.getNavigationRouteTarget(value).hasTarget());
+            }
+        }
+    }
+
+    @Test
+    public void rejected_branch_parameters_not_included() {
+        RouteModel root = RouteModel.create(true);
+        root.addRoute(":first(" + RouteParameterRegex.INTEGER + ")/details",
+                routeTarget(Trunk.class));
+        root.addRoute(":second/summary", routeTarget(Branch.class));
+
+        assertNavigation(root, "12/summary", Branch.class,
+                parameters("second", "12"));
+        assertNavigation(root, "12/details", Trunk.class,
+                parameters("first", "12"));
+    }
+
+    @Test
+    public void copied_model_modified_original_not_affected() {
+        RouteModel original = getRouteModel();
+        RouteModel copy = RouteModel.copy(original, true);
+
+        copy.addRoute("trunk/branch/leaf", routeTarget(Twig.class));
+        copy.removeRoute("trunk/twig/:leafs*");
+
+        assertNavigation(original, "trunk/branch/leaf", null, null);
+        assertNavigation(original, "trunk/twig/a", Twig.class,
+                parameters("leafs", "a"));
+        assertNavigation(copy, "trunk/branch/leaf", Twig.class, parameters());
+        assertNavigation(copy, "trunk/twig/a", null, null);
+
+        original.addRoute("trunk/root", routeTarget(Root.class));
+        assertNavigation(original, "trunk/root", Root.class, parameters());
+        assertNavigation(copy, "trunk/root", null, null);
+    }
+
     @Test
     public void mutable_methods_throw_when_model_is_immutable() {
         RouteModel immutable = RouteModel.create(false);
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2000-2022 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.router.internal;
+
+import java.util.Optional;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.Tag;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.router.Location;
+import com.vaadin.flow.router.NavigationEvent;
+import com.vaadin.flow.router.NavigationTrigger;
+import com.vaadin.flow.router.PrewarmRoute;
+import com.vaadin.flow.router.Router;
+import com.vaadin.flow.router.TestRouteRegistry;
+import com.vaadin.flow.server.MockInstantiator;
+import com.vaadin.flow.server.VaadinSession;
+import com.vaadin.tests.util.MockUI;
+
+public class RouteTargetPoolTest {
+
+    private MockUI ui;
+    private Router router;
+
+    @PrewarmRoute
+    @Tag(Tag.DIV)
+    public static class HeavyView extends Component {
+    }
+
+    @PrewarmRoute
+    @Tag(Tag.DIV)
+    public static class OtherHeavyView extends Component {
+    }
+
+    @Tag(Tag.DIV)
+    public static class PlainView extends Component {
+    }
+
+    @Before
+    public void setUp() {
+        router = new Router(new TestRouteRegistry());
+        ui = new MockUI(router);
+        Mockito.when(ui.getSession().getService().getInstantiator())
+                .thenReturn(new MockInstantiator());
+        // Use the application registry instead of the session registry
+        VaadinSession.setCurrent(null);
+    }
+
+    @After
+    public void tearDown() {
+        UI.setCurrent(null);
+        VaadinSession.setCurrent(null);
+    }
+
+    @Test
+    public void prewarm_instanceCreatedBeforeResponse_takenOnce() {
+        RouteTargetPool pool = RouteTargetPool.get(ui);
+        Assert.assertSame(pool, RouteTargetPool.get(ui));
+
+        pool.prewarm(HeavyView.class);
+        Assert.assertFalse(pool.isPooled(HeavyView.class));
+
+        ui.getInternals().getStateTree().runExecutionsBeforeClientResponse();
+        Assert.assertTrue(pool.isPooled(HeavyView.class));
+
+        Assert.assertTrue(
+                RouteTargetPool.take(ui, HeavyView.class).isPresent());
+        Assert.assertFalse(
+                RouteTargetPool.take(ui, HeavyView.class).isPresent());
+    }
+
+    @Test
+    public void uiPrewarm_instancePooled() {
+        ui.prewarm(HeavyView.class);
+        ui.getInternals().getStateTree().runExecutionsBeforeClientResponse();
+
+        Assert.assertTrue(RouteTargetPool.get(ui).isPooled(HeavyView.class));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void prewarm_targetNotAnnotated_throws() {
+        RouteTargetPool.get(ui).prewarm(PlainView.class);
+    }
+
+    @Test
+    public void prewarm_poolFull_leastRecentlyPrewarmedEvicted() {
+        RouteTargetPool pool = RouteTargetPool.get(ui);
+        pool.setMaxSize(1);
+
+        pool.prewarm(HeavyView.class);
+        ui.getInternals().getStateTree().runExecutionsBeforeClientResponse();
+        pool.prewarm(OtherHeavyView.class);
+        ui.getInternals().getStateTree().runExecutionsBeforeClientResponse();
+
+        Assert.assertFalse(pool.isPooled(HeavyView.class));
+        Assert.assertTrue(pool.isPooled(OtherHeavyView.class));
+
+        pool.setMaxSize(0);
+        Assert.assertFalse(pool.isPooled(OtherHeavyView.class));
+    }
+
+    @Test
+    public void getRouteTarget_prewarmedInstanceUsed() {
+        RouteTargetPool pool = RouteTargetPool.get(ui);
+        pool.prewarm(HeavyView.class);
+        ui.getInternals().getStateTree().runExecutionsBeforeClientResponse();
+
+        NavigationEvent event = new NavigationEvent(router, new Location(""),
+                ui, NavigationTrigger.PROGRAMMATIC);
+        HeavyView first = AbstractNavigationStateRenderer
+                .getRouteTarget(HeavyView.class, event);
+        HeavyView second = AbstractNavigationStateRenderer
+                .getRouteTarget(HeavyView.class, event);
+
+        Assert.assertNotNull(first);
+        Assert.assertNotSame(first, second);
+        Assert.assertFalse(pool.isPooled(HeavyView.class));
+    }
+
+    @Test
+    public void take_noPool_empty() {
+        Optional<HeavyView> target = RouteTargetPool.take(ui, HeavyView.class);
+        Assert.assertFalse(target.isPresent());
+    }
+}
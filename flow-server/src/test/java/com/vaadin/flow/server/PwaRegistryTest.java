@@ -17,23 +17,34 @@ package com.vaadin.flow.server;
 
 import javax.servlet.ServletContext;
 import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.List;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import org.junit.Assert;
 import org.junit.BeforeClass;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 
 import com.vaadin.experimental.FeatureFlags;
+import com.vaadin.flow.di.Lookup;
+import com.vaadin.flow.di.ResourceProvider;
 import com.vaadin.flow.server.startup.ApplicationConfiguration;
 
 @PWA(name = "foo", shortName = "bar")
 public class PwaRegistryTest {
 
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     @PWA(name = "Custom Icon Path", shortName = "CIP", iconPath = "icons/splash/foo.png")
     private static class PwaWithCustomIconPath {
     }
@@ -75,8 +86,83 @@ public class PwaRegistryTest {
         Assert.assertEquals(26, stream.toByteArray()[36]);
     }
 
+    @Test
+    public void pwaIconsGeneratedDuringBuild_generatedIconsUsed()
+            throws IOException {
+        File iconsFolder = generateIcons();
+        byte[] generated = new byte[] { 1, 2, 3 };
+        Files.write(new File(iconsFolder, "32x32.png").toPath(), generated);
+
+        PwaRegistry registry = preparePwaRegistry(
+                PwaRegistryTest.class.getAnnotation(PWA.class), false,
+                createContext(iconsFolder));
+
+        PwaIcon pwaIcon = registry.getIcons().stream()
+                .filter(icon -> icon.getWidth() == 32).findFirst().get();
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        pwaIcon.write(stream);
+        Assert.assertArrayEquals(generated, stream.toByteArray());
+    }
+
+    @Test
+    public void pwaIconsGeneratedFromOtherLogo_iconsDrawnOnStartup()
+            throws IOException {
+        File iconsFolder = generateIcons();
+        byte[] generated = new byte[] { 1, 2, 3 };
+        Files.write(new File(iconsFolder, "32x32.png").toPath(), generated);
+        Files.write(new File(iconsFolder, "logo.hash").toPath(),
+                "other".getBytes(StandardCharsets.UTF_8));
+
+        PwaRegistry registry = preparePwaRegistry(
+                PwaRegistryTest.class.getAnnotation(PWA.class), false,
+                createContext(iconsFolder));
+
+        PwaIcon pwaIcon = registry.getIcons().stream()
+                .filter(icon -> icon.getWidth() == 32).findFirst().get();
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        pwaIcon.write(stream);
+        Assert.assertEquals(26, stream.toByteArray()[36]);
+    }
+
+    private File generateIcons() throws IOException {
+        File iconsFolder = temporaryFolder.newFolder();
+        try (InputStream logo = PwaRegistryTest.class
+                .getResourceAsStream("/META-INF/resources/icons/icon.png")) {
+            PwaRegistry.generateIcons(logo.readAllBytes(), iconsFolder);
+        }
+        return iconsFolder;
+    }
+
+    private ServletContext createContext(File iconsFolder) {
+        ResourceProvider resourceProvider = Mockito
+                .mock(ResourceProvider.class);
+        String prefix = Constants.VAADIN_SERVLET_RESOURCES
+                + Constants.PWA_ICONS_DIRECTORY;
+        Mockito.when(
+                resourceProvider.getApplicationResource(Mockito.anyString()))
+                .thenAnswer(invocation -> {
+                    String path = invocation.getArgument(0);
+                    File file = new File(iconsFolder,
+                            path.substring(prefix.length()));
+                    return file.exists() ? file.toURI().toURL() : null;
+                });
+        Lookup lookup = Mockito.mock(Lookup.class);
+        Mockito.when(lookup.lookup(ResourceProvider.class))
+                .thenReturn(resourceProvider);
+        ServletContext context = Mockito.mock(ServletContext.class);
+        Mockito.when(context.getAttribute(Lookup.class.getName()))
+                .thenReturn(lookup);
+        return context;
+    }
+
     private static PwaRegistry preparePwaRegistry(PWA pwa,
             boolean webpackEnabled) throws IOException {
+        return preparePwaRegistry(pwa, webpackEnabled,
+                Mockito.mock(ServletContext.class));
+    }
+
+    private static PwaRegistry preparePwaRegistry(PWA pwa,
+            boolean webpackEnabled, ServletContext context) throws IOException {
         try (MockedStatic<VaadinService> vaadinService = Mockito
                 .mockStatic(VaadinService.class);
                 MockedStatic<ApplicationConfiguration> configuration = Mockito
@@ -104,7 +190,6 @@ public class PwaRegistryTest {
             featureFlags.when(() -> FeatureFlags.get(Mockito.any()))
                     .thenReturn(flags);
 
-            ServletContext context = Mockito.mock(ServletContext.class);
             return new PwaRegistry(pwa, context);
         }
     }
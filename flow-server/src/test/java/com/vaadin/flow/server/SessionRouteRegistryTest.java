@@ -379,6 +379,29 @@ public class SessionRouteRegistryTest {
                 1, registeredRoutes.get(0).getRouteAliases().size());
     }
 
+    @Test
+    public void getRegisteredRoutes_mergedRoutesReusedUntilRoutesChange() {
+        registry.setRoute("global", MyRoute.class, Collections.emptyList());
+        SessionRouteRegistry sessionRegistry = getRegistry(session);
+        sessionRegistry.setRoute("local", Secondary.class,
+                Collections.emptyList());
+
+        List<RouteData> registeredRoutes = sessionRegistry
+                .getRegisteredRoutes();
+        Assert.assertEquals(2, registeredRoutes.size());
+        Assert.assertSame(registeredRoutes,
+                sessionRegistry.getRegisteredRoutes());
+
+        registry.setRoute("other", Parameter.class, Collections.emptyList());
+        registeredRoutes = sessionRegistry.getRegisteredRoutes();
+        Assert.assertEquals(3, registeredRoutes.size());
+        Assert.assertSame(registeredRoutes,
+                sessionRegistry.getRegisteredRoutes());
+
+        sessionRegistry.removeRoute("local");
+        Assert.assertEquals(2, sessionRegistry.getRegisteredRoutes().size());
+    }
+
     @Test
     public void registeredRouteWithAliasGlobally_sessionRegistryReturnsFromGlobal() {
         registry.setRoute("MyRoute", MyRouteWithAliases.class,
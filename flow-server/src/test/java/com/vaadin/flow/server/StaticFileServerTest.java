@@ -55,10 +55,12 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
 import net.jcip.annotations.NotThreadSafe;
+import org.apache.commons.io.IOUtils;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.BeforeClass;
@@ -1118,6 +1120,175 @@ public class StaticFileServerTest implements Serializable {
                 responseCode.get());
     }
 
+    @Test
+    public void serveStaticResource_cacheEnabled_resourceResolvedOnlyOnce()
+            throws IOException {
+        enableStaticResourceCache();
+        setupRequestURI("", "/some", "/file.js");
+        String fileData = "function() {eval('foo');};";
+        Mockito.when(servletService.getStaticResource("/some/file.js"))
+                .thenReturn(createFileURLWithDataAndLength("/some/file.js",
+                        fileData, 123000L));
+
+        Assert.assertTrue(fileServer.serveStaticResource(request, response));
+        Assert.assertEquals(fileData, out.getOutputString());
+        String eTag = headers.get("ETag");
+        Assert.assertNotNull(eTag);
+        Assert.assertTrue(eTag.startsWith("\"") && eTag.endsWith("\""));
+
+        resetOutput();
+        Assert.assertTrue(fileServer.serveStaticResource(request, response));
+        Assert.assertEquals(fileData, out.getOutputString());
+        Assert.assertEquals(eTag, headers.get("ETag"));
+        Assert.assertEquals(123000L, (long) dateHeaders.get("Last-Modified"));
+        Assert.assertEquals(fileData.length(), responseContentLength.get());
+
+        Mockito.verify(servletService, Mockito.times(1))
+                .getStaticResource("/some/file.js");
+    }
+
+    @Test
+    public void serveStaticResource_cacheEnabled_matchingETag_notModified()
+            throws IOException {
+        enableStaticResourceCache();
+        setupRequestURI("", "/some", "/file.js");
+        Mockito.when(servletService.getStaticResource("/some/file.js"))
+                .thenReturn(createFileURLWithDataAndLength("/some/file.js",
+                        "function() {eval('foo');};"));
+
+        Assert.assertTrue(fileServer.serveStaticResource(request, response));
+        String eTag = headers.get("ETag");
+
+        resetOutput();
+        Mockito.when(request.getHeader("If-None-Match"))
+                .thenReturn("\"other\", " + eTag);
+        Assert.assertTrue(fileServer.serveStaticResource(request, response));
+        Assert.assertEquals(0, out.getOutput().length);
+        Assert.assertEquals(HttpStatusCode.NOT_MODIFIED.getCode(),
+                responseCode.get());
+        Assert.assertEquals(eTag, headers.get("ETag"));
+
+        resetOutput();
+        responseCode.set(-1);
+        Mockito.when(request.getHeader("If-None-Match"))
+                .thenReturn("\"other\"");
+        Assert.assertTrue(fileServer.serveStaticResource(request, response));
+        Assert.assertEquals("function() {eval('foo');};",
+                out.getOutputString());
+        Assert.assertEquals(-1, responseCode.get());
+    }
+
+    @Test
+    public void serveStaticResource_cacheEnabled_gzippedVariantCached()
+            throws IOException {
+        enableStaticResourceCache();
+        setupRequestURI("", "/some", "/file.js");
+        Mockito.when(servletService.getStaticResource("/some/file.js"))
+                .thenReturn(createFileURLWithDataAndLength("/some/file.js",
+                        "function() {eval('foo');};"));
+        Mockito.when(servletContext.getResource("/some/file.js.gz")).thenReturn(
+                createFileURLWithDataAndLength("/some/file.js.gz", "gzipped"));
+        Mockito.when(request.getHeader("Accept-Encoding")).thenReturn("gzip");
+
+        Assert.assertTrue(fileServer.serveStaticResource(request, response));
+        resetOutput();
+        Assert.assertTrue(fileServer.serveStaticResource(request, response));
+
+        Assert.assertEquals("gzipped", out.getOutputString());
+        Assert.assertEquals("gzip", headers.get("Content-Encoding"));
+        Assert.assertEquals("Accept-Encoding", headers.get("Vary"));
+        Assert.assertTrue(headers.get("ETag").endsWith("-gzip\""));
+        Mockito.verify(servletContext, Mockito.times(1))
+                .getResource("/some/file.js.gz");
+    }
+
+    @Test
+    public void serveStaticResource_cacheAndCompressionEnabled_textResourceCompressed()
+            throws IOException {
+        Mockito.when(configuration.getStringProperty(
+                InitParameters.COMPRESSED_RESOURCE_CACHE_SIZE, null))
+                .thenReturn("64");
+        enableStaticResourceCache();
+        setupRequestURI("", "/some", "/file.js");
+        String fileData = String.join("\n",
+                Collections.nCopies(100, "function() {eval('foo');};"));
+        Mockito.when(servletService.getStaticResource("/some/file.js"))
+                .thenReturn(createFileURLWithDataAndLength("/some/file.js",
+                        fileData));
+        Mockito.when(servletContext.getMimeType("/some/file.js"))
+                .thenReturn("application/javascript");
+        Mockito.when(request.getHeader("Accept-Encoding")).thenReturn("gzip");
+
+        Assert.assertTrue(fileServer.serveStaticResource(request, response));
+
+        Assert.assertEquals("gzip", headers.get("Content-Encoding"));
+        Assert.assertTrue(out.getOutput().length < fileData.length());
+        Assert.assertEquals(fileData,
+                IOUtils.toString(
+                        new GZIPInputStream(
+                                new ByteArrayInputStream(out.getOutput())),
+                        StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void serveStaticResource_compressionEnabled_compressionPending_varyHeaderSet()
+            throws IOException {
+        Mockito.when(configuration.getStringProperty(
+                InitParameters.COMPRESSED_RESOURCE_CACHE_SIZE, null))
+                .thenReturn("64");
+        fileServer = new OverrideableStaticFileServer(servletService,
+                configuration);
+        setupRequestURI("", "/some", "/file.js");
+        String fileData = String.join("\n",
+                Collections.nCopies(100, "function() {eval('foo');};"));
+        Mockito.when(servletService.getStaticResource("/some/file.js"))
+                .thenReturn(createFileURLWithDataAndLength("/some/file.js",
+                        fileData));
+        Mockito.when(servletContext.getMimeType("/some/file.js"))
+                .thenReturn("application/javascript");
+        Mockito.when(request.getHeader("Accept-Encoding")).thenReturn("gzip");
+
+        Assert.assertTrue(fileServer.serveStaticResource(request, response));
+
+        Assert.assertEquals(fileData, out.getOutputString());
+        Assert.assertNull(headers.get("Content-Encoding"));
+        Assert.assertEquals("Accept-Encoding", headers.get("Vary"));
+        Mockito.verify(servletService).addServiceDestroyListener(Mockito.any());
+    }
+
+    @Test
+    public void serveStaticResource_cacheEnabledInDevelopmentMode_resourceNotCached()
+            throws IOException {
+        Mockito.when(configuration.isProductionMode()).thenReturn(false);
+        enableStaticResourceCache();
+        setupRequestURI("", "/some", "/file.js");
+        Mockito.when(servletService.getStaticResource("/some/file.js"))
+                .thenReturn(createFileURLWithDataAndLength("/some/file.js",
+                        "function() {eval('foo');};"));
+
+        Assert.assertTrue(fileServer.serveStaticResource(request, response));
+        resetOutput();
+        Assert.assertTrue(fileServer.serveStaticResource(request, response));
+
+        Assert.assertNull(headers.get("ETag"));
+        Mockito.verify(servletService, Mockito.times(2))
+                .getStaticResource("/some/file.js");
+    }
+
+    private void enableStaticResourceCache() {
+        Mockito.when(configuration.getStringProperty(
+                InitParameters.STATIC_RESOURCE_CACHE_SIZE, null))
+                .thenReturn("64");
+        fileServer = new OverrideableStaticFileServer(servletService,
+                configuration);
+    }
+
+    private void resetOutput() throws IOException {
+        headers.clear();
+        out = new CapturingServletOutputStream();
+        Mockito.when(response.getOutputStream()).thenReturn(out);
+    }
+
     @Test
     public void serveStaticResourceFromWebjarWithIncorrectPath()
             throws IOException {
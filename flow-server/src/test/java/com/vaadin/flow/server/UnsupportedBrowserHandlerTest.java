@@ -9,6 +9,7 @@ import org.junit.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
+import com.vaadin.flow.internal.BrowserDetailsCache;
 import com.vaadin.flow.shared.ApplicationConstants;
 import com.vaadin.tests.util.MockDeploymentConfiguration;
 
@@ -107,6 +108,35 @@ public class UnsupportedBrowserHandlerTest {
                 ApplicationConstants.CONTENT_TYPE_TEXT_HTML_UTF_8);
     }
 
+    @Test
+    public void canHandleRequest_supportedUserAgent_sessionNotLocked()
+            throws IOException {
+        initMocks(false, false);
+        VaadinService service = Mockito.mock(VaadinService.class);
+        BrowserDetailsCache cache = new BrowserDetailsCache();
+        Mockito.when(service.getBrowserDetailsCache()).thenReturn(cache);
+        Mockito.when(request.getService()).thenReturn(service);
+        Mockito.when(request.getHeader("User-Agent")).thenReturn(
+                "Mozilla/5.0 (X11; Linux x86_64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/102.0.5005.61 Safari/537.36");
+
+        Assert.assertFalse(handler.handleRequest(session, request, response));
+        Assert.assertFalse(handler.handleRequest(session, request, response));
+
+        Mockito.verify(session, Mockito.never()).lock();
+        Assert.assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    public void canHandleRequest_tooOldUserAgent_requestHandled()
+            throws IOException {
+        initMocks(false, true);
+        Mockito.when(request.getHeader("User-Agent")).thenReturn(
+                "Mozilla/5.0 (Windows NT 6.1; WOW64; Trident/7.0; rv:11.0) like Gecko");
+
+        Assert.assertTrue(handler.canHandleRequest(request));
+        Assert.assertTrue(handler.handleRequest(session, request, response));
+    }
+
     @After
     public void tearDown() {
         VaadinSession.setCurrent(null);
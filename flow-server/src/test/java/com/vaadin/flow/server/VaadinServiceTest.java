@@ -27,6 +27,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -498,6 +499,58 @@ public class VaadinServiceTest {
         return session;
     }
 
+    @Test
+    public void handleRequest_handlerDoesNotRequireSession_sessionNotLookedUp()
+            throws ServiceException {
+        AtomicBoolean sessionlessHandles = new AtomicBoolean(true);
+        List<VaadinSession> handledSessions = new ArrayList<>();
+        RequestHandler sessionlessHandler = new RequestHandler() {
+            @Override
+            public boolean handleRequest(VaadinSession session,
+                    VaadinRequest request, VaadinResponse response) {
+                handledSessions.add(session);
+                return sessionlessHandles.get();
+            }
+
+            @Override
+            public boolean isSessionRequired(VaadinRequest request) {
+                return false;
+            }
+        };
+        RequestHandler sessionHandler = Mockito.mock(RequestHandler.class);
+        Mockito.when(sessionHandler.isSessionRequired(Mockito.any()))
+                .thenReturn(true);
+
+        AtomicInteger sessionLookups = new AtomicInteger();
+        MockVaadinServletService service = new MockVaadinServletService() {
+            @Override
+            protected List<RequestHandler> createRequestHandlers() {
+                return new ArrayList<>(
+                        Arrays.asList(sessionlessHandler, sessionHandler));
+            }
+
+            @Override
+            public VaadinSession findVaadinSession(VaadinRequest request) {
+                sessionLookups.incrementAndGet();
+                return null;
+            }
+        };
+        service.init(new MockInstantiator());
+
+        VaadinRequest request = Mockito.mock(VaadinRequest.class);
+        VaadinResponse response = Mockito.mock(VaadinResponse.class);
+        service.handleRequest(request, response);
+
+        Assert.assertEquals(0, sessionLookups.get());
+        Assert.assertEquals(Collections.singletonList(null), handledSessions);
+
+        sessionlessHandles.set(false);
+        service.handleRequest(request, response);
+
+        Assert.assertEquals(1, sessionLookups.get());
+        Assert.assertEquals(2, handledSessions.size());
+    }
+
     private InstantiatorFactory createInstantiatorFactory(Lookup lookup) {
         InstantiatorFactory factory = Mockito.mock(InstantiatorFactory.class);
 
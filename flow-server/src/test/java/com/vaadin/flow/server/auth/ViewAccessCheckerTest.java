@@ -548,6 +548,79 @@ public class ViewAccessCheckerTest {
         Assert.assertTrue(result.wasTargetViewRendered());
     }
 
+    @Test
+    public void accessDecisionCacheEnabled_decisionReusedForSamePrincipal() {
+        viewAccessChecker.setAccessDecisionCacheEnabled(true);
+        Map<Class<?>, Object> attributes = new HashMap<>();
+
+        Result result = setupRequest(RolesAllowedAdminView.class, User.ADMIN,
+                true);
+        mockSessionAttributes(result, attributes);
+        viewAccessChecker.beforeEnter(result.event);
+        Assert.assertTrue(result.wasTargetViewRendered());
+
+        result = setupRequest(RolesAllowedAdminView.class, User.ADMIN, true);
+        mockSessionAttributes(result, attributes);
+        VaadinRequest request = VaadinRequest.getCurrent();
+        viewAccessChecker.beforeEnter(result.event);
+        Assert.assertTrue(result.wasTargetViewRendered());
+        Mockito.verify(request, Mockito.never())
+                .isUserInRole(Mockito.anyString());
+
+        Assert.assertEquals(1,
+                viewAccessChecker.getAccessDecisionCacheHitCount());
+        Assert.assertEquals(1,
+                viewAccessChecker.getAccessDecisionCacheMissCount());
+    }
+
+    @Test
+    public void accessDecisionCacheEnabled_principalChanged_accessCheckedAgain() {
+        viewAccessChecker.setAccessDecisionCacheEnabled(true);
+        Map<Class<?>, Object> attributes = new HashMap<>();
+
+        Result result = setupRequest(RolesAllowedAdminView.class, User.ADMIN,
+                true);
+        mockSessionAttributes(result, attributes);
+        viewAccessChecker.beforeEnter(result.event);
+        Assert.assertTrue(result.wasTargetViewRendered());
+
+        result = setupRequest(RolesAllowedAdminView.class, User.NORMAL_USER,
+                true);
+        mockSessionAttributes(result, attributes);
+        Principal otherUser = () -> "Jane Doe";
+        Mockito.when(VaadinRequest.getCurrent().getUserPrincipal())
+                .thenReturn(otherUser);
+        viewAccessChecker.beforeEnter(result.event);
+        Assert.assertFalse(result.wasTargetViewRendered());
+
+        Assert.assertEquals(0,
+                viewAccessChecker.getAccessDecisionCacheHitCount());
+        Assert.assertEquals(2,
+                viewAccessChecker.getAccessDecisionCacheMissCount());
+    }
+
+    @Test
+    public void accessDecisionCacheDisabledByDefault_sessionNotUsed() {
+        Assert.assertFalse(viewAccessChecker.isAccessDecisionCacheEnabled());
+        Result result = checkAccess(RolesAllowedAdminView.class, User.ADMIN);
+        Assert.assertTrue(result.wasTargetViewRendered());
+        Mockito.verify(result.event.getUI().getSession(), Mockito.never())
+                .getAttribute(Mockito.any(Class.class));
+        Assert.assertEquals(0,
+                viewAccessChecker.getAccessDecisionCacheMissCount());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void mockSessionAttributes(Result result,
+            Map<Class<?>, Object> attributes) {
+        VaadinSession session = result.event.getUI().getSession();
+        Mockito.when(session.getAttribute(Mockito.any(Class.class))).thenAnswer(
+                invocation -> attributes.get(invocation.getArgument(0)));
+        Mockito.doAnswer(invocation -> attributes.put(invocation.getArgument(0),
+                invocation.getArgument(1))).when(session)
+                .setAttribute(Mockito.any(Class.class), Mockito.any());
+    }
+
     private void resetLoginView()
             throws NoSuchFieldException, IllegalAccessException {
         Field f = ViewAccessChecker.class.getDeclaredField("loginView");
@@ -19,10 +19,14 @@ import javax.servlet.http.HttpServletRequest;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.net.HttpURLConnection;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -777,6 +781,109 @@ public class IndexHtmlRequestHandlerTest {
         assertEquals(1, bodyInlineElements.size());
     }
 
+    @Test
+    public void serveIndexHtml_productionMode_templateOutputSameAsDocumentOutput()
+            throws IOException {
+        deploymentConfiguration.setProductionMode(true);
+        deploymentConfiguration.setDevToolsEnabled(false);
+
+        List<String> fromTemplate = new ArrayList<>();
+        for (VaadinRequest request : Arrays.asList(
+                createVaadinRequestWithSpringCsrfToken(),
+                createVaadinRequest("/some/path"))) {
+            indexHtmlRequestHandler.synchronizedHandleRequest(session, request,
+                    response);
+            fromTemplate.add(
+                    responseOutput.toString(StandardCharsets.UTF_8.name()));
+            responseOutput.reset();
+        }
+        Assert.assertTrue(fromTemplate.get(0).contains(springTokenString));
+
+        // A listener needs the DOM of the page, so the template is not used
+        service.addIndexHtmlRequestListener(event -> {
+        });
+        List<String> fromDocument = new ArrayList<>();
+        for (VaadinRequest request : Arrays.asList(
+                createVaadinRequestWithSpringCsrfToken(),
+                createVaadinRequest("/some/path"))) {
+            indexHtmlRequestHandler.synchronizedHandleRequest(session, request,
+                    response);
+            fromDocument.add(
+                    responseOutput.toString(StandardCharsets.UTF_8.name()));
+            responseOutput.reset();
+        }
+
+        assertEquals(fromDocument, fromTemplate);
+        Assert.assertTrue(fromTemplate.get(1).contains("<base href=\"./..\""));
+    }
+
+    @Test
+    public void handleRequest_pageWrittenAfterSessionUnlocked()
+            throws IOException {
+        deploymentConfiguration.setEagerServerLoad(true);
+        List<String> events = new ArrayList<>();
+        Mockito.doAnswer(invocation -> events.add("lock")).when(session).lock();
+        Mockito.doAnswer(invocation -> events.add("unlock")).when(session)
+                .unlock();
+        Mockito.when(response.getOutputStream()).thenReturn(new OutputStream() {
+            @Override
+            public void write(int b) {
+                write(new byte[] { (byte) b }, 0, 1);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                if (!events.contains("write")) {
+                    events.add("write");
+                }
+                responseOutput.write(b, off, len);
+            }
+        });
+
+        Assert.assertTrue(indexHtmlRequestHandler.handleRequest(session,
+                createVaadinRequest("/"), response));
+
+        assertEquals(Arrays.asList("lock", "unlock", "write"), events);
+        Assert.assertTrue(responseOutput.toString(StandardCharsets.UTF_8.name())
+                .contains("window.Vaadin.TypeScript"));
+    }
+
+    @Test
+    public void handleRequest_synchronizedHandleRequestOverridden_overrideCalledWithSessionLocked()
+            throws IOException {
+        List<String> events = new ArrayList<>();
+        Mockito.doAnswer(invocation -> events.add("lock")).when(session).lock();
+        Mockito.doAnswer(invocation -> events.add("unlock")).when(session)
+                .unlock();
+        IndexHtmlRequestHandler handler = new IndexHtmlRequestHandler() {
+            @Override
+            public boolean synchronizedHandleRequest(VaadinSession session,
+                    VaadinRequest request, VaadinResponse response)
+                    throws IOException {
+                events.add("handle");
+                return super.synchronizedHandleRequest(session, request,
+                        response);
+            }
+        };
+
+        Assert.assertTrue(handler.handleRequest(session,
+                createVaadinRequest("/"), response));
+
+        assertEquals(Arrays.asList("lock", "handle", "unlock"), events);
+        Assert.assertTrue(responseOutput.toString(StandardCharsets.UTF_8.name())
+                .contains("window.Vaadin"));
+    }
+
+    @Test(expected = IOException.class)
+    public void handleRequest_writingPageFails_exceptionThrown()
+            throws IOException {
+        Mockito.when(response.getOutputStream())
+                .thenThrow(new IOException("Connection reset"));
+
+        indexHtmlRequestHandler.handleRequest(session, createVaadinRequest("/"),
+                response);
+    }
+
     @Test
     public void should_store_IndexHtmltitleToUI_When_LoadingServerEagerly()
             throws IOException {
@@ -15,15 +15,18 @@
  */
 package com.vaadin.flow.server.communication;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.Collections;
 
 import org.junit.Assert;
 import org.junit.Test;
 import org.mockito.Mockito;
 
 import com.vaadin.flow.server.PwaConfiguration;
+import com.vaadin.flow.server.PwaIcon;
 import com.vaadin.flow.server.PwaRegistry;
 import com.vaadin.flow.server.VaadinRequest;
 import com.vaadin.flow.server.VaadinResponse;
@@ -72,4 +75,59 @@ public class PwaHandlerTest {
         Assert.assertTrue(handler.handleRequest(session, request, response));
     }
 
+    @Test
+    public void handleRequest_iconWithCurrentHash_cachedAsImmutable()
+            throws IOException {
+        PwaHandler handler = createIconHandler();
+        Mockito.when(request.getParameterMap()).thenReturn(
+                Collections.singletonMap("abc", new String[] { "" }));
+
+        Assert.assertTrue(handler.handleRequest(session, request, response));
+
+        Mockito.verify(response).setHeader("Cache-Control",
+                "public, max-age=31536000, immutable");
+    }
+
+    @Test
+    public void handleRequest_iconWithoutHash_notCachedAsImmutable()
+            throws IOException {
+        PwaHandler handler = createIconHandler();
+        Mockito.when(request.getParameterMap())
+                .thenReturn(Collections.emptyMap());
+
+        Assert.assertTrue(handler.handleRequest(session, request, response));
+
+        Mockito.verify(response, Mockito.never())
+                .setHeader(Mockito.eq("Cache-Control"), Mockito.anyString());
+    }
+
+    @Test
+    public void handleRequest_iconWithStaleHash_notCachedAsImmutable()
+            throws IOException {
+        PwaHandler handler = createIconHandler();
+        Mockito.when(request.getParameterMap()).thenReturn(
+                Collections.singletonMap("old", new String[] { "" }));
+
+        Assert.assertTrue(handler.handleRequest(session, request, response));
+
+        Mockito.verify(response, Mockito.never())
+                .setHeader(Mockito.eq("Cache-Control"), Mockito.anyString());
+    }
+
+    private PwaHandler createIconHandler() throws IOException {
+        PwaRegistry registry = Mockito.mock(PwaRegistry.class);
+        PwaConfiguration configuration = Mockito.mock(PwaConfiguration.class);
+        Mockito.when(registry.getPwaConfiguration()).thenReturn(configuration);
+        Mockito.when(configuration.isEnabled()).thenReturn(true);
+        PwaIcon icon = Mockito.mock(PwaIcon.class);
+        Mockito.when(icon.getRelHref()).thenReturn("/icons/icon-16x16.png");
+        Mockito.when(icon.getHref()).thenReturn("icons/icon-16x16.png?abc");
+        Mockito.when(icon.getType()).thenReturn("image/png");
+        Mockito.when(registry.getIcons())
+                .thenReturn(Collections.singletonList(icon));
+        Mockito.when(response.getOutputStream())
+                .thenReturn(new ByteArrayOutputStream());
+        Mockito.when(request.getPathInfo()).thenReturn("/icons/icon-16x16.png");
+        return new PwaHandler(() -> registry);
+    }
 }
@@ -10,6 +10,9 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -18,8 +21,11 @@ import java.util.Optional;
 
 import org.junit.Assert;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
@@ -28,10 +34,14 @@ import com.vaadin.flow.component.UI;
 import com.vaadin.flow.component.internal.UIInternals;
 import com.vaadin.flow.internal.StateNode;
 import com.vaadin.flow.internal.StateTree;
+import com.vaadin.flow.server.ChunkedStreamReceiver;
+import com.vaadin.flow.server.Command;
 import com.vaadin.flow.server.ErrorHandler;
+import com.vaadin.flow.server.FileStreamVariable;
 import com.vaadin.flow.server.HttpStatusCode;
 import com.vaadin.flow.server.MockVaadinServletService;
 import com.vaadin.flow.server.StreamReceiver;
+import com.vaadin.flow.server.StreamRegistration;
 import com.vaadin.flow.server.StreamResourceRegistry;
 import com.vaadin.flow.server.StreamVariable;
 import com.vaadin.flow.server.UploadException;
@@ -47,6 +57,9 @@ import static org.mockito.Mockito.when;
 
 public class StreamReceiverHandlerTest {
 
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     private StreamReceiverHandler handler;
     @Mock
     private VaadinResponse response;
@@ -429,4 +442,314 @@ public class StreamReceiverHandlerTest {
         Mockito.verifyNoInteractions(errorHandler);
     }
 
+    @Test
+    public void doHandleXhrFilePost_fileStreamVariable_dataWrittenToFile()
+            throws IOException {
+        Path target = temporaryFolder.newFile().toPath();
+        FileStreamVariable fileVariable = Mockito
+                .mock(FileStreamVariable.class);
+        when(fileVariable.getTargetFile()).thenReturn(target);
+        when(streamReceiver.getStreamVariable()).thenReturn(fileVariable);
+
+        handler.doHandleXhrFilePost(session, request, response, streamReceiver,
+                stateNode, 6);
+
+        Assert.assertEquals("foobar",
+                new String(Files.readAllBytes(target), StandardCharsets.UTF_8));
+        Mockito.verify(fileVariable, Mockito.never()).getOutputStream();
+        Mockito.verify(fileVariable).streamingFinished(Mockito.any());
+        Mockito.verify(response, Mockito.times(0)).setStatus(Mockito.anyInt());
+    }
+
+    @Test
+    public void doHandleXhrFilePost_progressEventsWaitingForLock_coalescedAndDeliveredBeforeFinish()
+            throws IOException {
+        handler = new StreamReceiverHandler() {
+            @Override
+            protected int getProgressEventInterval() {
+                return 0;
+            }
+        };
+        when(streamVariable.listenProgress()).thenReturn(true);
+        List<Command> queued = new ArrayList<>();
+        when(session.access(Mockito.any())).thenAnswer(invocation -> {
+            // Lock is busy, the command runs later
+            queued.add(invocation.getArgument(0));
+            return null;
+        });
+
+        handler.doHandleXhrFilePost(session, request, response, streamReceiver,
+                stateNode, 6);
+
+        Assert.assertEquals(1, queued.size());
+        ArgumentCaptor<StreamVariable.StreamingProgressEvent> progress = ArgumentCaptor
+                .forClass(StreamVariable.StreamingProgressEvent.class);
+        InOrder inOrder = Mockito.inOrder(streamVariable);
+        inOrder.verify(streamVariable).onProgress(progress.capture());
+        inOrder.verify(streamVariable).streamingFinished(Mockito.any());
+        Assert.assertEquals(6, progress.getValue().getBytesReceived());
+
+        queued.get(0).execute();
+        Mockito.verify(streamVariable, Mockito.times(1))
+                .onProgress(Mockito.any());
+    }
+
+    @Test
+    public void doHandleChunkedUpload_chunksOutOfOrder_fileAssembledAndFinishedOnce()
+            throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        outputStream = out;
+        ChunkedStreamReceiver receiver = new ChunkedStreamReceiver(stateNode,
+                variableName, streamVariable);
+
+        handler.doHandleChunkedUpload(session,
+                createChunkRequest("bytes 3-5/6", "bar"), response, receiver,
+                stateNode);
+        Mockito.verify(streamVariable).streamingStarted(Mockito.any());
+        Mockito.verify(streamVariable, Mockito.never())
+                .streamingFinished(Mockito.any());
+        Mockito.verify(response)
+                .setHeader(ChunkedStreamReceiver.RECEIVED_RANGES_HEADER, "3-5");
+
+        handler.doHandleChunkedUpload(session,
+                createChunkRequest("bytes 0-2/6", "foo"), response, receiver,
+                stateNode);
+
+        Assert.assertEquals("foobar",
+                new String(out.toByteArray(), StandardCharsets.UTF_8));
+        Mockito.verify(streamVariable).streamingStarted(Mockito.any());
+        Mockito.verify(streamVariable).streamingFinished(Mockito.any());
+        Mockito.verify(response, Mockito.never()).setStatus(Mockito.anyInt());
+        Assert.assertTrue(receiver.getUpload("upload").isFinished());
+    }
+
+    @Test
+    public void doHandleChunkedUpload_chunkRetriedAfterFinish_answeredWithoutRestarting()
+            throws IOException {
+        Path target = temporaryFolder.newFile().toPath();
+        FileStreamVariable fileVariable = Mockito
+                .mock(FileStreamVariable.class);
+        when(fileVariable.getTargetFile()).thenReturn(target);
+        ChunkedStreamReceiver receiver = new ChunkedStreamReceiver(stateNode,
+                variableName, fileVariable);
+        handler.doHandleChunkedUpload(session,
+                createChunkRequest("bytes 0-2/6", "foo"), response, receiver,
+                stateNode);
+        handler.doHandleChunkedUpload(session,
+                createChunkRequest("bytes 3-5/6", "bar"), response, receiver,
+                stateNode);
+
+        handler.doHandleChunkedUpload(session,
+                createChunkRequest("bytes 0-2/6", "foo"), response, receiver,
+                stateNode);
+        handler.doHandleChunkedUpload(session,
+                createChunkRequest("bytes */6", ""), response, receiver,
+                stateNode);
+
+        Assert.assertEquals("foobar",
+                new String(Files.readAllBytes(target), StandardCharsets.UTF_8));
+        Mockito.verify(fileVariable).streamingStarted(Mockito.any());
+        Mockito.verify(fileVariable).streamingFinished(Mockito.any());
+        // The completing chunk, the retried chunk and the status request
+        Mockito.verify(response, Mockito.times(3))
+                .setHeader(ChunkedStreamReceiver.RECEIVED_RANGES_HEADER, "0-5");
+        Mockito.verify(response, Mockito.never()).setStatus(Mockito.anyInt());
+    }
+
+    @Test
+    public void doHandleChunkedUpload_interrupted_failedOnceAndNotRestarted()
+            throws IOException {
+        when(streamVariable.isInterrupted()).thenReturn(true);
+        ChunkedStreamReceiver receiver = new ChunkedStreamReceiver(stateNode,
+                variableName, streamVariable);
+
+        handler.doHandleChunkedUpload(session,
+                createChunkRequest("bytes 0-2/6", "foo"), response, receiver,
+                stateNode);
+        handler.doHandleChunkedUpload(session,
+                createChunkRequest("bytes 3-5/6", "bar"), response, receiver,
+                stateNode);
+
+        Mockito.verify(streamVariable).streamingStarted(Mockito.any());
+        Mockito.verify(streamVariable).streamingFailed(Mockito.any());
+        Mockito.verify(response, Mockito.times(2))
+                .setStatus(HttpStatusCode.INTERNAL_SERVER_ERROR.getCode());
+        Assert.assertTrue(receiver.getUpload("upload").isFailed());
+    }
+
+    @Test
+    public void doHandleChunkedUpload_statusRequest_receivedRangesReturned()
+            throws IOException {
+        ChunkedStreamReceiver receiver = new ChunkedStreamReceiver(stateNode,
+                variableName, streamVariable);
+
+        handler.doHandleChunkedUpload(session,
+                createChunkRequest("bytes */6", ""), response, receiver,
+                stateNode);
+        Mockito.verify(response)
+                .setHeader(ChunkedStreamReceiver.RECEIVED_RANGES_HEADER, "");
+        Mockito.verify(streamVariable, Mockito.never())
+                .streamingStarted(Mockito.any());
+
+        handler.doHandleChunkedUpload(session,
+                createChunkRequest("bytes 2-3/6", "ob"), response, receiver,
+                stateNode);
+        handler.doHandleChunkedUpload(session,
+                createChunkRequest("bytes */6", ""), response, receiver,
+                stateNode);
+
+        // Once for the chunk and once for the status request
+        Mockito.verify(response, Mockito.times(2))
+                .setHeader(ChunkedStreamReceiver.RECEIVED_RANGES_HEADER, "2-3");
+        Assert.assertEquals(2, receiver.getUpload("upload").getReceivedBytes());
+    }
+
+    @Test
+    public void doHandleChunkedUpload_fileStreamVariable_chunksWrittenToTarget()
+            throws IOException {
+        Path target = temporaryFolder.newFile().toPath();
+        FileStreamVariable fileVariable = Mockito
+                .mock(FileStreamVariable.class);
+        when(fileVariable.getTargetFile()).thenReturn(target);
+        ChunkedStreamReceiver receiver = new ChunkedStreamReceiver(stateNode,
+                variableName, fileVariable);
+
+        handler.doHandleChunkedUpload(session,
+                createChunkRequest("bytes 3-5/6", "bar"), response, receiver,
+                stateNode);
+        handler.doHandleChunkedUpload(session,
+                createChunkRequest("bytes 0-2/6", "foo"), response, receiver,
+                stateNode);
+
+        Assert.assertEquals("foobar",
+                new String(Files.readAllBytes(target), StandardCharsets.UTF_8));
+        Mockito.verify(fileVariable, Mockito.never()).getOutputStream();
+        Mockito.verify(fileVariable).streamingFinished(Mockito.any());
+    }
+
+    @Test
+    public void doHandleChunkedUpload_chunkShorterThanRange_chunkNotRecorded()
+            throws IOException {
+        ChunkedStreamReceiver receiver = new ChunkedStreamReceiver(stateNode,
+                variableName, streamVariable);
+
+        handler.doHandleChunkedUpload(session,
+                createChunkRequest("bytes 0-2/6", "fo"), response, receiver,
+                stateNode);
+
+        Mockito.verify(response)
+                .setHeader(ChunkedStreamReceiver.RECEIVED_RANGES_HEADER, "");
+        Mockito.verify(response)
+                .setStatus(HttpStatusCode.INTERNAL_SERVER_ERROR.getCode());
+        Assert.assertEquals(0, receiver.getUpload("upload").getReceivedBytes());
+    }
+
+    @Test
+    public void doHandleChunkedUpload_invalidContentRange_responseStatusIs400()
+            throws IOException {
+        ChunkedStreamReceiver receiver = new ChunkedStreamReceiver(stateNode,
+                variableName, streamVariable);
+
+        handler.doHandleChunkedUpload(session,
+                createChunkRequest("bytes 4-2/6", "foo"), response, receiver,
+                stateNode);
+
+        Mockito.verify(response)
+                .setStatus(HttpStatusCode.BAD_REQUEST.getCode());
+        Mockito.verify(streamVariable, Mockito.never())
+                .streamingStarted(Mockito.any());
+    }
+
+    @Test
+    public void doHandleChunkedUpload_uploadLargerThanMaxSize_rejected()
+            throws IOException {
+        ChunkedStreamReceiver receiver = new ChunkedStreamReceiver(stateNode,
+                variableName, streamVariable);
+        receiver.setMaxUploadSize(5);
+
+        handler.doHandleChunkedUpload(session,
+                createChunkRequest("bytes 0-2/6", "foo"), response, receiver,
+                stateNode);
+
+        Mockito.verify(response)
+                .setStatus(HttpStatusCode.REQUEST_ENTITY_TOO_LARGE.getCode());
+        Mockito.verify(streamVariable, Mockito.never())
+                .streamingStarted(Mockito.any());
+        Assert.assertNull(receiver.getUpload("upload"));
+    }
+
+    @Test
+    public void doHandleChunkedUpload_tooManyOngoingUploads_newUploadRejected()
+            throws IOException {
+        ChunkedStreamReceiver receiver = new ChunkedStreamReceiver(stateNode,
+                variableName, streamVariable);
+        receiver.setMaxConcurrentUploads(1);
+        handler.doHandleChunkedUpload(session,
+                createChunkRequest("first", "bytes 0-2/6", "foo"), response,
+                receiver, stateNode);
+
+        handler.doHandleChunkedUpload(session,
+                createChunkRequest("second", "bytes 0-2/6", "foo"), response,
+                receiver, stateNode);
+
+        Mockito.verify(response)
+                .setStatus(HttpStatusCode.SERVICE_UNAVAILABLE.getCode());
+        Mockito.verify(streamVariable).streamingStarted(Mockito.any());
+        Assert.assertNull(receiver.getUpload("second"));
+
+        // Finishing the ongoing upload makes room for a new one
+        handler.doHandleChunkedUpload(session,
+                createChunkRequest("first", "bytes 3-5/6", "bar"), response,
+                receiver, stateNode);
+        handler.doHandleChunkedUpload(session,
+                createChunkRequest("second", "bytes 0-2/6", "foo"), response,
+                receiver, stateNode);
+        Assert.assertNotNull(receiver.getUpload("second"));
+    }
+
+    @Test
+    public void doHandleChunkedUpload_receiverUnregistered_uploadFailedAndTemporaryFileDeleted()
+            throws IOException {
+        ChunkedStreamReceiver receiver = new ChunkedStreamReceiver(stateNode,
+                variableName, streamVariable);
+        StreamResourceRegistry resourceRegistry = new StreamResourceRegistry(
+                session);
+        UI.setCurrent(ui);
+        StreamRegistration registration;
+        try {
+            registration = resourceRegistry.registerResource(receiver);
+        } finally {
+            UI.setCurrent(null);
+        }
+        handler.doHandleChunkedUpload(session,
+                createChunkRequest("bytes 0-2/6", "foo"), response, receiver,
+                stateNode);
+        Path file = receiver.getUpload("upload").getFile();
+        Assert.assertTrue(Files.exists(file));
+
+        registration.unregister();
+
+        Assert.assertFalse(Files.exists(file));
+        Assert.assertNull(receiver.getUpload("upload"));
+        Mockito.verify(streamVariable).streamingFailed(Mockito.any());
+    }
+
+    private VaadinRequest createChunkRequest(String contentRange,
+            String content) throws IOException {
+        return createChunkRequest("upload", contentRange, content);
+    }
+
+    private VaadinRequest createChunkRequest(String uploadId,
+            String contentRange, String content) throws IOException {
+        VaadinRequest chunkRequest = mock(VaadinRequest.class);
+        when(chunkRequest.getHeader(ChunkedStreamReceiver.UPLOAD_ID_HEADER))
+                .thenReturn(uploadId);
+        when(chunkRequest.getHeader(ChunkedStreamReceiver.FILE_NAME_HEADER))
+                .thenReturn("foo%20bar.txt");
+        when(chunkRequest.getHeader("Content-Range")).thenReturn(contentRange);
+        when(chunkRequest.getContentType()).thenReturn("text/plain");
+        ServletInputStream chunkInput = createInputStream(content);
+        when(chunkRequest.getInputStream()).thenReturn(chunkInput);
+        return chunkRequest;
+    }
 }
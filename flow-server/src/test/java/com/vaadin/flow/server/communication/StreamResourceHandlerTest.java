@@ -17,14 +17,27 @@ package com.vaadin.flow.server.communication;
 
 import javax.servlet.ServletContext;
 import javax.servlet.ServletException;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
+import org.junit.Assert;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
+import com.vaadin.flow.server.ByteRangeSource;
 import com.vaadin.flow.server.HttpStatusCode;
 import com.vaadin.flow.server.InputStreamFactory;
 import com.vaadin.flow.server.MockVaadinServletService;
@@ -39,6 +52,11 @@ import com.vaadin.tests.util.AlwaysLockedVaadinSession;
 
 public class StreamResourceHandlerTest {
 
+    private static final String CONTENT = "0123456789abcdef";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     private StreamResourceHandler handler = new StreamResourceHandler();
     private MockVaadinSession session;
     private VaadinServletRequest request;
@@ -119,4 +137,140 @@ public class StreamResourceHandlerTest {
 
         Mockito.verify(response).setHeader("foo", "bar");
     }
+
+    @Test
+    public void pathResource_wholeFileWrittenWithValidators()
+            throws IOException {
+        StreamResource res = new StreamResource("data.txt", createFile());
+        CapturingServletOutputStream out = captureOutput();
+
+        handler.handleRequest(session, request, response, res);
+
+        Assert.assertEquals(CONTENT, out.getOutputString());
+        Mockito.verify(response).setContentLengthLong(CONTENT.length());
+        Mockito.verify(response).setHeader("Accept-Ranges", "bytes");
+        Mockito.verify(response).setHeader(Mockito.eq("ETag"),
+                Mockito.startsWith("W/\""));
+        Mockito.verify(response).setDateHeader(Mockito.eq("Last-Modified"),
+                Mockito.anyLong());
+    }
+
+    @Test
+    public void pathResource_rangeRequest_partialContentWritten()
+            throws IOException {
+        StreamResource res = new StreamResource("data.txt", createFile());
+        CapturingServletOutputStream out = captureOutput();
+        Mockito.when(request.getHeader("Range")).thenReturn("bytes=4-8");
+
+        handler.handleRequest(session, request, response, res);
+
+        Assert.assertEquals("45678", out.getOutputString());
+        Mockito.verify(response).setStatus(206);
+        Mockito.verify(response).setHeader("Content-Range",
+                "bytes 4-8/" + CONTENT.length());
+        Mockito.verify(response).setContentLengthLong(5);
+    }
+
+    @Test
+    public void pathResource_matchingIfNoneMatch_notModified()
+            throws IOException {
+        StreamResource res = new StreamResource("data.txt", createFile());
+        captureOutput();
+        ArgumentCaptor<String> eTag = ArgumentCaptor.forClass(String.class);
+        handler.handleRequest(session, request, response, res);
+        Mockito.verify(response).setHeader(Mockito.eq("ETag"), eTag.capture());
+
+        CapturingServletOutputStream out = captureOutput();
+        Mockito.when(request.getHeader("If-None-Match"))
+                .thenReturn(eTag.getValue());
+        handler.handleRequest(session, request, response, res);
+
+        Assert.assertEquals("", out.getOutputString());
+        Mockito.verify(response)
+                .setStatus(HttpStatusCode.NOT_MODIFIED.getCode());
+    }
+
+    @Test
+    public void pathResource_ifRangeDoesNotMatch_wholeFileWritten()
+            throws IOException {
+        StreamResource res = new StreamResource("data.txt", createFile());
+        CapturingServletOutputStream out = captureOutput();
+        Mockito.when(request.getHeader("Range")).thenReturn("bytes=4-8");
+        Mockito.when(request.getHeader("If-Range")).thenReturn("\"outdated\"");
+
+        handler.handleRequest(session, request, response, res);
+
+        Assert.assertEquals(CONTENT, out.getOutputString());
+        Mockito.verify(response, Mockito.never()).setStatus(206);
+    }
+
+    @Test
+    public void byteRangeSource_customETag_usedForConditionalRequest()
+            throws IOException {
+        ByteRangeSource source = new ByteRangeSource() {
+            @Override
+            public long getLength() {
+                return CONTENT.length();
+            }
+
+            @Override
+            public void writeRange(OutputStream stream, long start, long count)
+                    throws IOException {
+                stream.write(CONTENT.getBytes(StandardCharsets.UTF_8),
+                        (int) start,
+                        (int) Math.min(count, CONTENT.length() - start));
+            }
+
+            @Override
+            public String getETag() {
+                return "\"v1\"";
+            }
+        };
+        StreamResource res = new StreamResource("data.txt", source);
+        CapturingServletOutputStream out = captureOutput();
+        Mockito.when(request.getHeader("If-None-Match"))
+                .thenReturn("\"v0\", W/\"v1\"");
+
+        handler.handleRequest(session, request, response, res);
+
+        Assert.assertEquals("", out.getOutputString());
+        Mockito.verify(response).setHeader("ETag", "\"v1\"");
+        Mockito.verify(response)
+                .setStatus(HttpStatusCode.NOT_MODIFIED.getCode());
+    }
+
+    private Path createFile() throws IOException {
+        File file = temporaryFolder.newFile();
+        Files.write(file.toPath(), CONTENT.getBytes(StandardCharsets.UTF_8));
+        return file.toPath();
+    }
+
+    private CapturingServletOutputStream captureOutput() throws IOException {
+        CapturingServletOutputStream out = new CapturingServletOutputStream();
+        Mockito.when(response.getOutputStream()).thenReturn(out);
+        return out;
+    }
+
+    private static class CapturingServletOutputStream
+            extends ServletOutputStream {
+        private final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+
+        @Override
+        public void write(int b) {
+            baos.write(b);
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        private String getOutputString() {
+            return new String(baos.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
 }
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2000-2022 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server.frontend;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mockito;
+
+import com.vaadin.flow.server.Constants;
+import com.vaadin.flow.server.PwaConfiguration;
+import com.vaadin.flow.server.PwaRegistry;
+import com.vaadin.flow.server.frontend.scanner.ClassFinder;
+
+public class TaskGeneratePwaIconsTest {
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private File projectFolder;
+    private File outputFolder;
+    private ClassFinder classFinder;
+
+    @Before
+    public void setUp() throws IOException {
+        projectFolder = temporaryFolder.newFolder();
+        outputFolder = temporaryFolder.newFolder();
+        classFinder = Mockito.mock(ClassFinder.class);
+    }
+
+    @Test
+    public void execute_noLogo_iconsGeneratedFromDefaultLogo()
+            throws Exception {
+        new TaskGeneratePwaIcons(classFinder, projectFolder, outputFolder,
+                new PwaConfiguration()).execute();
+
+        File iconsFolder = new File(outputFolder,
+                Constants.PWA_ICONS_DIRECTORY);
+        Assert.assertTrue(new File(iconsFolder, "16x16.png").isFile());
+        Assert.assertTrue(new File(iconsFolder, "512x512.png").isFile());
+        Assert.assertTrue(new File(iconsFolder, "2732x2048.png").isFile());
+
+        File otherFolder = temporaryFolder.newFolder();
+        try (InputStream logo = PwaRegistry.getDefaultLogo().openStream()) {
+            PwaRegistry.generateIcons(logo.readAllBytes(), otherFolder);
+        }
+        Assert.assertArrayEquals(
+                Files.readAllBytes(new File(otherFolder, "logo.hash").toPath()),
+                Files.readAllBytes(
+                        new File(iconsFolder, "logo.hash").toPath()));
+    }
+
+    @Test
+    public void execute_logoInWebapp_iconsGeneratedFromWebappLogo()
+            throws Exception {
+        File logo = new File(projectFolder,
+                "src/main/webapp/" + PwaConfiguration.DEFAULT_ICON);
+        logo.getParentFile().mkdirs();
+        Files.copy(getClass().getResourceAsStream(
+                "/META-INF/resources/icons/icon.png"), logo.toPath());
+
+        new TaskGeneratePwaIcons(classFinder, projectFolder, outputFolder,
+                new PwaConfiguration()).execute();
+
+        File iconsFolder = new File(outputFolder,
+                Constants.PWA_ICONS_DIRECTORY);
+        File expectedFolder = temporaryFolder.newFolder();
+        PwaRegistry.generateIcons(Files.readAllBytes(logo.toPath()),
+                expectedFolder);
+        Assert.assertArrayEquals(
+                Files.readAllBytes(
+                        new File(expectedFolder, "32x32.png").toPath()),
+                Files.readAllBytes(
+                        new File(iconsFolder, "32x32.png").toPath()));
+        Mockito.verifyNoInteractions(classFinder);
+    }
+}
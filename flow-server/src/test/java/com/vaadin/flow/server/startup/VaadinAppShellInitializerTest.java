@@ -304,6 +304,26 @@ public class VaadinAppShellInitializerTest {
         initializer.process(Collections.emptySet(), servletContext);
     }
 
+    @Test
+    public void isPageConfiguredProgrammatically_onlyWhenConfigurePageOverridden()
+            throws Exception {
+        AppShellRegistry registry = AppShellRegistry.getInstance(context);
+        Assert.assertFalse(registry.isPageConfiguredProgrammatically());
+
+        classes.add(MyAppShellWithoutAnnotations.class);
+        initializer.process(classes, servletContext);
+        Assert.assertFalse(registry.isPageConfiguredProgrammatically());
+
+        registry.reset();
+        classes.clear();
+        classes.add(MyAppShellWithConfigurator.class);
+        initializer.process(classes, servletContext);
+        Assert.assertTrue(registry.isPageConfiguredProgrammatically());
+
+        registry.reset();
+        Assert.assertFalse(registry.isPageConfiguredProgrammatically());
+    }
+
     @Test
     public void should_not_throw_when_noClassesFound_null() throws Exception {
         initializer.process(null, servletContext);